@@ -0,0 +1,52 @@
+#!/bin/bash
+# 체육관 검색 (StadiumSearchRepositorySupport.textQuery) 용 형태소 (nori) / edge n-gram 색인으로 옮긴다.
+# 분석기는 기존 색인에 바꿀 수 없어서 새 색인 (stadiums_v2) 을 만들어 다시 색인하고, stadiums 를 별칭으로 바꾼다.
+# ES 에 analysis-nori 플러그인이 있어야 한다. (bin/elasticsearch-plugin install analysis-nori)
+# 설정은 StadiumDocument 의 @Setting 파일, 매핑은 StadiumDocument 의 필드와 같다.
+ES_URL=${ES_URL:-http://localhost:9200}
+SETTINGS=$(cat "$(dirname "$0")/../../src/main/resources/elasticsearch/stadium-settings.json")
+TEXT_FIELD='{
+  "type": "text", "analyzer": "korean",
+  "fields": { "ngram": { "type": "text", "analyzer": "edge_ngram", "search_analyzer": "edge_ngram_search" } }
+}'
+
+echo ">>> stadiums_v2 색인 생성"
+curl -s -X PUT "$ES_URL/stadiums_v2" -H 'Content-Type: application/json' -d "
+{
+  \"settings\": $SETTINGS,
+  \"mappings\": {
+    \"properties\": {
+      \"id\": { \"type\": \"keyword\" },
+      \"name\": $TEXT_FIELD,
+      \"address\": $TEXT_FIELD,
+      \"tags\": $TEXT_FIELD,
+      \"lat\": { \"type\": \"double\" },
+      \"lnt\": { \"type\": \"double\" },
+      \"location\": { \"type\": \"geo_point\" },
+      \"status\": { \"type\": \"keyword\" },
+      \"starAvg\": { \"type\": \"double\" },
+      \"weekdayPricePerHalfHour\": { \"type\": \"integer\" },
+      \"holidayPricePerHalfHour\": { \"type\": \"integer\" },
+      \"imgUrl\": { \"type\": \"text\" }
+    }
+  }
+}"
+
+echo
+echo ">>> stadiums -> stadiums_v2 다시 색인"
+curl -s -X POST "$ES_URL/_reindex?wait_for_completion=true" -H 'Content-Type: application/json' -d '
+{
+  "source": { "index": "stadiums" },
+  "dest": { "index": "stadiums_v2" }
+}'
+
+echo
+echo ">>> stadiums 를 stadiums_v2 별칭으로 교체 (기존 색인 삭제)"
+curl -s -X POST "$ES_URL/_aliases" -H 'Content-Type: application/json' -d '
+{
+  "actions": [
+    { "remove_index": { "index": "stadiums" } },
+    { "add": { "index": "stadiums_v2", "alias": "stadiums" } }
+  ]
+}'
+echo
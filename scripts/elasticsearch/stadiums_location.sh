@@ -0,0 +1,40 @@
+#!/bin/bash
+# 내 주변 검색 (StadiumSearchRepositorySupport.searchNearLocation) 용 geo_point / status 매핑
+# 배포 전에 실행한다. 매핑 없이 문서가 먼저 저장되면 location 이 object 로 잡혀 다시 색인해야 한다.
+# location 은 기존 lat / lnt 로 채우고, status 는 DB 에서 다시 색인해 채운다. (scripts/sql/stadium_search_outbox.sql 먼저 실행)
+# 내 주변 검색은 status 가 AVAILABLE 인 문서만 찾으므로, 다시 색인이 끝날 때까지 기존 문서는 나오지 않는다.
+ES_URL=${ES_URL:-http://localhost:9200}
+# 체육관 DB 에 접속하는 mysql 명령 (예: MYSQL="mysql -h db-host -u user -p database")
+MYSQL=${MYSQL:?MYSQL is required}
+
+echo ">>> stadiums 매핑 추가"
+curl -s -X PUT "$ES_URL/stadiums/_mapping" -H 'Content-Type: application/json' -d '
+{
+  "properties": {
+    "location": { "type": "geo_point" },
+    "status": { "type": "keyword" }
+  }
+}'
+
+echo
+echo ">>> 기존 문서 location 채우기"
+curl -s -X POST "$ES_URL/stadiums/_update_by_query?conflicts=proceed" -H 'Content-Type: application/json' -d '
+{
+  "query": {
+    "bool": {
+      "filter": [ { "exists": { "field": "lat" } }, { "exists": { "field": "lnt" } } ],
+      "must_not": { "exists": { "field": "location" } }
+    }
+  },
+  "script": {
+    "lang": "painless",
+    "source": "ctx._source.location = [\"lat\": ctx._source.lat, \"lon\": ctx._source.lnt]"
+  }
+}'
+echo
+
+echo ">>> 기존 문서 status 채우기 (모든 체육관을 stadium_search_outbox 에 넣으면 StadiumSearchIndexService 가 다시 색인한다)"
+$MYSQL -e "
+INSERT INTO stadium_search_outbox (stadium_id, attempts, next_attempt_at, created_at)
+SELECT s.id, 0, NOW(), NOW()
+FROM stadium s;"
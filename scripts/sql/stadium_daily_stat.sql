@@ -0,0 +1,29 @@
+-- 체육관-날짜별 예약 집계 테이블 (StadiumDailyStat)
+CREATE TABLE IF NOT EXISTS stadium_daily_stat
+(
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    stadium_id        BIGINT NOT NULL,
+    stat_date         DATE   NOT NULL,
+    reservation_count INT    NOT NULL DEFAULT 0,
+    booked_slots      INT    NOT NULL DEFAULT 0,
+    revenue           BIGINT NOT NULL DEFAULT 0,
+    canceled_count    INT    NOT NULL DEFAULT 0,
+    canceled_revenue  BIGINT NOT NULL DEFAULT 0,
+    executed_count    INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_stadium_daily_stat (stadium_id, stat_date)
+);
+
+-- 기존 예약으로 한 번 채우기 (배포 직후, 집계가 비어 있을 때만 실행)
+INSERT INTO stadium_daily_stat (stadium_id, stat_date, reservation_count, booked_slots, revenue,
+                                canceled_count, canceled_revenue, executed_count)
+SELECT r.stadium_id,
+       r.reserving_date,
+       SUM(r.status <> 'CANCELED'),
+       SUM(IF(r.status <> 'CANCELED', BIT_COUNT(r.reserving_times_mask), 0)),
+       SUM(IF(r.status <> 'CANCELED', r.price, 0)),
+       SUM(r.status = 'CANCELED'),
+       SUM(IF(r.status = 'CANCELED', r.price, 0)),
+       SUM(r.status = 'EXECUTED')
+FROM stadium_reservation r
+GROUP BY r.stadium_id, r.reserving_date;
@@ -0,0 +1,6 @@
+-- 가까운 체육관 조회 (StadiumRepository.findNearestWithin) 용 위치 컬럼, 공간 인덱스
+-- lat / lnt 에서 자동으로 계산되는 STORED 컬럼이라 따로 갱신하지 않는다.
+-- MySQL 8 은 SRID 가 지정된 컬럼만 공간 인덱스를 쓴다. (POINT(x, y) = POINT(lnt, lat), SRID 0)
+ALTER TABLE stadium
+    ADD COLUMN location POINT GENERATED ALWAYS AS (POINT(lnt, lat)) STORED NOT NULL SRID 0,
+    ADD SPATIAL INDEX idx_stadium_location (location);
@@ -0,0 +1,3 @@
+-- 예약 목록 커서 조회용 인덱스 (reserving_date desc, id desc 순서로 바로 읽는다)
+CREATE INDEX idx_stadium_reservation_member_date ON stadium_reservation (member_id, reserving_date, id);
+CREATE INDEX idx_stadium_reservation_stadium_date ON stadium_reservation (stadium_id, reserving_date, id);
@@ -0,0 +1,23 @@
+-- StadiumReservation.reservingTimes : @ElementCollection 테이블 -> BIGINT mask 컬럼
+-- bit = ReservingTime.ordinal() (RT1 -> 0 번 비트, RT49 -> 48 번 비트)
+
+-- 1. mask 컬럼 추가
+ALTER TABLE stadium_reservation
+    ADD COLUMN reserving_times_mask BIGINT NOT NULL DEFAULT 0;
+
+-- 2. 기존 시간대 행을 mask 로 옮기기
+UPDATE stadium_reservation r
+    JOIN (SELECT stadium_reservation_id,
+                 BIT_OR(1 << (CAST(SUBSTRING(reserving_times, 3) AS UNSIGNED) - 1)) AS mask
+          FROM stadium_reservation_reserving_times
+          GROUP BY stadium_reservation_id) t ON t.stadium_reservation_id = r.id
+SET r.reserving_times_mask = t.mask;
+
+-- 3. 옮긴 결과 확인 (0 이어야 한다)
+SELECT COUNT(*)
+FROM stadium_reservation r
+WHERE r.reserving_times_mask = 0
+  AND EXISTS(SELECT 1 FROM stadium_reservation_reserving_times t WHERE t.stadium_reservation_id = r.id);
+
+-- 4. 확인 후 기존 테이블 삭제
+DROP TABLE stadium_reservation_reserving_times;
@@ -0,0 +1,22 @@
+-- 체육관-날짜-시간대 점유 테이블 (StadiumReservationSlot)
+CREATE TABLE IF NOT EXISTS stadium_reservation_slot
+(
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    stadium_id     BIGINT      NOT NULL,
+    reserving_date DATE        NOT NULL,
+    slot           VARCHAR(10) NOT NULL,
+    reservation_id BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_stadium_reservation_slot (stadium_id, reserving_date, slot),
+    KEY idx_stadium_reservation_slot_reservation (reservation_id),
+    CONSTRAINT fk_stadium_reservation_slot_stadium FOREIGN KEY (stadium_id) REFERENCES stadium (stadium_id),
+    CONSTRAINT fk_stadium_reservation_slot_reservation FOREIGN KEY (reservation_id) REFERENCES stadium_reservation (id)
+);
+
+-- 취소되지 않은 기존 예약 채우기 (이미 겹쳐 있는 예약은 먼저 들어간 것만 남긴다)
+INSERT IGNORE INTO stadium_reservation_slot (stadium_id, reserving_date, slot, reservation_id)
+SELECT r.stadium_id, r.reserving_date, t.reserving_times, r.id
+FROM stadium_reservation r
+         JOIN stadium_reservation_reserving_times t ON t.stadium_reservation_id = r.id
+WHERE r.status <> 'CANCELED'
+ORDER BY r.id;
@@ -0,0 +1,3 @@
+-- 지난 예약 일괄 사용 완료 (StadiumReservationSweepService) 용 인덱스
+-- status = 'RESERVED' and reserving_date < ? 범위를 (reserving_date, id) 순서로 바로 읽는다.
+CREATE INDEX idx_stadium_reservation_status_date ON stadium_reservation (status, reserving_date);
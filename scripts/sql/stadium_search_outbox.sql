@@ -0,0 +1,17 @@
+-- 검색 색인 (ES) 반영 대기 테이블 (StadiumSearchOutbox)
+-- 체육관 변경 트랜잭션에서 쓰고 StadiumSearchIndexService 가 bulk 로 반영한 뒤 지운다.
+CREATE TABLE IF NOT EXISTS stadium_search_outbox
+(
+    id              BIGINT   NOT NULL AUTO_INCREMENT,
+    stadium_id      BIGINT   NOT NULL,
+    attempts        INT      NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    created_at      DATETIME NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_stadium_search_outbox_next_attempt (next_attempt_at)
+);
+
+-- 전체 다시 색인이 필요할 때 (예: ES 와 어긋났을 때)
+-- INSERT INTO stadium_search_outbox (stadium_id, attempts, next_attempt_at, created_at)
+-- SELECT s.id, 0, NOW(), NOW()
+-- FROM stadium s;
@@ -0,0 +1,112 @@
+package com.minwonhaeso.esc.stadium;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.stadium.facade.RedissonLockReservingTimeFacade;
+import com.minwonhaeso.esc.stadium.model.type.ReservationLockMode;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.repository.redis.StadiumAvailabilityRepository;
+import com.minwonhaeso.esc.stadium.service.StadiumAvailabilityService;
+import org.openjdk.jmh.annotations.*;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 체육관, 같은 날짜에 128 개 클라이언트가 동시에 1~2 시간짜리 예약을 넣을 때 선점 방식별 처리량
+ * 실행 : ./gradlew jmh -Dredis.host=localhost -Dredis.port=6379
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(128)
+public class ReservingTimeClaimBenchmark {
+    private static final Long STADIUM_ID = -1L;
+    private static final int SLOT_COUNT = ReservingTime.values().length;
+    private static final long ALL_SLOTS = (1L << SLOT_COUNT) - 1;
+
+    @Param({"DAY", "SLOT", "SCRIPT"})
+    private ReservationLockMode lockMode;
+
+    private final LocalDate date = LocalDate.now().plusDays(1);
+    private RedissonClient redissonClient;
+    private LettuceConnectionFactory connectionFactory;
+    private StadiumAvailabilityRepository stadiumAvailabilityRepository;
+    private StadiumAvailabilityService stadiumAvailabilityService;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Result {
+        public long claimed;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            claimed = 0;
+            rejected = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String host = System.getProperty("redis.host", "localhost");
+        int port = Integer.getInteger("redis.port", 6379);
+
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress("redis://" + host + ":" + port)
+                .setConnectionPoolSize(128);
+        redissonClient = Redisson.create(config);
+
+        connectionFactory = new LettuceConnectionFactory(host, port);
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        stadiumAvailabilityRepository = new StadiumAvailabilityRepository(redisTemplate);
+        // 인덱스를 미리 채워 두므로 DB 는 조회하지 않는다. (예약 저장 없이 claim 만 측정)
+        stadiumAvailabilityService = new StadiumAvailabilityService(stadiumAvailabilityRepository, null, null,
+                new RedissonLockReservingTimeFacade(redissonClient));
+
+        Field field = ReflectionUtils.findField(StadiumAvailabilityService.class, "lockMode");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, stadiumAvailabilityService, lockMode);
+
+        stadiumAvailabilityRepository.load(STADIUM_ID, date, 0L);
+        stadiumAvailabilityRepository.release(STADIUM_ID, date, ALL_SLOTS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stadiumAvailabilityRepository.release(STADIUM_ID, date, ALL_SLOTS);
+        redissonClient.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void claim(Result result) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int length = 2 + random.nextInt(3);
+        int start = random.nextInt(SLOT_COUNT - length + 1);
+        long mask = ((1L << length) - 1) << start;
+
+        try {
+            stadiumAvailabilityService.claim(STADIUM_ID, date, mask);
+            // 바로 취소해서 시간대가 계속 비고 차도록 한다.
+            stadiumAvailabilityService.markReleased(STADIUM_ID, date, mask);
+            result.claimed++;
+        } catch (StadiumException e) {
+            result.rejected++;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.minwonhaeso.esc.stadium;
+
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumSuggestionDto;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepositorySupport;
+import com.minwonhaeso.esc.stadium.service.StadiumAutocompleteService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 체육관 10만 개 자동완성 조회 (검색어 앞부분, 입력 중인 글자, 초성)
+ * DB 대신 만든 체육관 목록으로 StadiumAutocompleteService 를 채운다.
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class StadiumAutocompleteBenchmark {
+    private static final int STADIUMS = 100_000;
+
+    private static final List<String> REGIONS = List.of("강남", "서초", "송파", "마포", "수원", "분당", "일산", "해운대",
+            "수성", "유성", "광산", "연수", "부평", "청주", "전주", "천안", "창원", "김해", "포항", "제주");
+    private static final List<String> SPORTS = List.of("풋살", "축구", "농구", "배드민턴", "테니스",
+            "탁구", "볼링", "수영", "야구", "클라이밍");
+    private static final List<String> QUERIES = List.of("풋", "푸", "풋살", "ㅍㅅ", "강남 풋", "ㄱㄴ", "해운대",
+            "배드", "ㅌㄴㅅ", "클라", "수원 축구", "ㅅㅇ");
+
+    private StadiumAutocompleteService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<StadiumResponseDto> stadiums = LongStream.rangeClosed(1, STADIUMS)
+                .mapToObj(id -> {
+                    String sport = SPORTS.get(random.nextInt(SPORTS.size()));
+                    return StadiumResponseDto.builder()
+                            .stadiumId(id)
+                            .name(REGIONS.get(random.nextInt(REGIONS.size())) + " " + sport + "장 " + id)
+                            .tags(List.of(sport))
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        service = new StadiumAutocompleteService(new StadiumRepositorySupport(null) {
+            @Override
+            public List<StadiumResponseDto> getAvailableStadiumResponsesAfter(Long lastId, int size) {
+                return stadiums.subList((int) Math.min(lastId, STADIUMS), (int) Math.min(lastId + size, STADIUMS));
+            }
+        });
+        service.load();
+    }
+
+    @Benchmark
+    public List<StadiumSuggestionDto> suggest() {
+        return service.suggest(QUERIES.get(ThreadLocalRandom.current().nextInt(QUERIES.size())), 10);
+    }
+}
@@ -0,0 +1,168 @@
+package com.minwonhaeso.esc.stadium;
+
+import com.minwonhaeso.esc.util.GeoGridIndex;
+import com.minwonhaeso.esc.util.GeoGridIndex.Nearest;
+import com.minwonhaeso.esc.util.LocationUtils.BoundingBox;
+import com.minwonhaeso.esc.util.LocationUtils.Location;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체육관 10만 개에서 가까운 20 개 조회 : 전체 거리 정렬 (기존) vs 공간 인덱스 사각형 + 반경 확장 vs 서버 메모리 위치 색인
+ * 운영과 같은 컬럼 / 인덱스 (scripts/sql/stadium_location.sql) 를 가진 stadium_near_bench 테이블을 만들어 쓴다.
+ * 실행 : ./gradlew jmh -Djdbc.url=jdbc:mysql://localhost:3306/esc -Djdbc.user=root -Djdbc.password=
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class StadiumNearLocationBenchmark {
+    private static final int STADIUMS = 100_000;
+    private static final int PAGE_SIZE = 20;
+    // 남한 범위
+    private static final double MIN_LAT = 33.1, MAX_LAT = 38.6, MIN_LNT = 124.6, MAX_LNT = 131.0;
+
+    private static final String SELECT = "select s.stadium_id, ST_Distance_Sphere(s.location, POINT(?, ?)) as distance " +
+            "from stadium_near_bench s ";
+    private static final String ORDER = "order by distance, s.stadium_id limit ? offset 0";
+    private static final String LEGACY = "select s.stadium_id from stadium_near_bench s where s.status = 'AVAILABLE' " +
+            "order by ST_Distance_Sphere(POINT(?, ?), POINT(s.lnt, s.lat)) limit ? offset 0";
+    private static final String WITHIN = SELECT +
+            "where MBRContains(ST_MakeEnvelope(POINT(?, ?), POINT(?, ?)), s.location) " +
+            "and s.status = 'AVAILABLE' and ST_Distance_Sphere(s.location, POINT(?, ?)) <= ? " + ORDER;
+
+    private Connection connection;
+    private PreparedStatement legacy;
+    private PreparedStatement within;
+    private GeoGridIndex<Long> index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("jdbc.url", "jdbc:mysql://localhost:3306/esc"),
+                System.getProperty("jdbc.user", "root"),
+                System.getProperty("jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists stadium_near_bench (" +
+                    "stadium_id bigint not null auto_increment primary key, " +
+                    "lat double not null, lnt double not null, status varchar(255), " +
+                    "location POINT GENERATED ALWAYS AS (POINT(lnt, lat)) STORED NOT NULL SRID 0, " +
+                    "SPATIAL INDEX idx_stadium_near_bench_location (location))");
+            try (ResultSet count = statement.executeQuery("select count(*) from stadium_near_bench")) {
+                count.next();
+                if (count.getInt(1) != STADIUMS) {
+                    statement.execute("truncate table stadium_near_bench");
+                    seed();
+                }
+            }
+            statement.execute("analyze table stadium_near_bench");
+        }
+
+        legacy = connection.prepareStatement(LEGACY);
+        within = connection.prepareStatement(WITHIN);
+
+        index = new GeoGridIndex<>(0.05);
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "select stadium_id, lat, lnt from stadium_near_bench where status = 'AVAILABLE'")) {
+            while (resultSet.next()) {
+                index.put(resultSet.getLong(1), resultSet.getDouble(2), resultSet.getDouble(3),
+                        resultSet.getLong(1));
+            }
+        }
+    }
+
+    private void seed() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into stadium_near_bench (lat, lnt, status) values (?, ?, ?)")) {
+            for (int i = 1; i <= STADIUMS; i++) {
+                insert.setDouble(1, random.nextDouble(MIN_LAT, MAX_LAT));
+                insert.setDouble(2, random.nextDouble(MIN_LNT, MAX_LNT));
+                insert.setString(3, i % 10 == 0 ? "DELETED" : "AVAILABLE");
+                insert.addBatch();
+                if (i % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) throws SQLException {
+        double lat = randomLat(), lnt = randomLnt();
+        legacy.setDouble(1, lnt);
+        legacy.setDouble(2, lat);
+        legacy.setInt(3, PAGE_SIZE);
+        blackhole.consume(read(legacy));
+    }
+
+    /**
+     * StadiumSearchService.findNearest 와 같은 반경 확장 (2km 부터 4배씩)
+     */
+    @Benchmark
+    public void boundingBox(Blackhole blackhole) throws SQLException {
+        double lat = randomLat(), lnt = randomLnt();
+        Location location = Location.builder().lat(lat).lnt(lnt).build();
+        for (double radius = 2_000; radius <= 128_000; radius *= 4) {
+            BoundingBox box = location.boundingBox(radius);
+            within.setDouble(1, lnt);
+            within.setDouble(2, lat);
+            within.setDouble(3, box.getMinLnt());
+            within.setDouble(4, box.getMinLat());
+            within.setDouble(5, box.getMaxLnt());
+            within.setDouble(6, box.getMaxLat());
+            within.setDouble(7, lnt);
+            within.setDouble(8, lat);
+            within.setDouble(9, radius);
+            within.setInt(10, PAGE_SIZE);
+            int found = read(within);
+            blackhole.consume(found);
+            if (found == PAGE_SIZE) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * StadiumGeoIndexService 와 같은 격자 (0.05도)
+     */
+    @Benchmark
+    public List<Nearest<Long>> memoryIndex() {
+        return index.nearest(randomLat(), randomLnt(), 0, PAGE_SIZE);
+    }
+
+    private static int read(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static double randomLat() {
+        return ThreadLocalRandom.current().nextDouble(MIN_LAT, MAX_LAT);
+    }
+
+    private static double randomLnt() {
+        return ThreadLocalRandom.current().nextDouble(MIN_LNT, MAX_LNT);
+    }
+}
@@ -0,0 +1,145 @@
+package com.minwonhaeso.esc.stadium.repository;
+
+import com.minwonhaeso.esc.stadium.model.entity.StadiumDocument;
+import org.apache.http.HttpHost;
+import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.core.CountRequest;
+import org.elasticsearch.client.indices.CreateIndexRequest;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.elasticsearch.core.ResourceUtil;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.index.MappingBuilder;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체육관 문서 10만 개 검색 : 이름 / 주소 와일드카드 (*검색어*, 기존) vs 형태소 + edge n-gram match (textQuery)
+ * 기존 매핑 (standard Text) 과 StadiumDocument 매핑 (stadium-settings.json) 으로 색인을 하나씩 만들어 쓴다.
+ * ES 에 analysis-nori 플러그인이 있어야 한다.
+ * 실행 : ./gradlew jmh -Des.url=http://localhost:9200
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class StadiumSearchBenchmark {
+    private static final int STADIUMS = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String WILDCARD_INDEX = "stadium_search_bench_wildcard";
+    private static final String MATCH_INDEX = "stadium_search_bench_match";
+
+    private static final List<String> REGIONS = List.of("강남", "서초", "송파", "마포", "수원", "분당", "일산", "해운대",
+            "수성", "유성", "광산", "연수", "부평", "청주", "전주", "천안", "창원", "김해", "포항", "제주");
+    private static final List<String> SPORTS = List.of("풋살장", "축구장", "농구장", "배드민턴장", "테니스장",
+            "탁구장", "볼링장", "수영장", "야구장", "클라이밍장");
+    private static final List<String> SUFFIXES = List.of("", " 스포츠센터", " 체육공원", " 실내", " 야외", " 시민");
+    private static final List<String> ROADS = List.of("중앙로", "역삼로", "테헤란로", "해안로", "공원로", "시청로");
+    private static final List<String> TAGS = List.of("주차", "샤워실", "조명", "인조잔디", "실내", "대여", "락커");
+    // 검색어 : 지역, 종목, 종목 앞부분, 지역 + 종목
+    private static final List<String> QUERIES = List.of("강남", "풋살", "풋살장", "테니", "해운대 수영장",
+            "배드민턴", "중앙로", "클라이밍", "수원 축구장", "탁구");
+
+    private RestHighLevelClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        client = new RestHighLevelClient(RestClient.builder(
+                HttpHost.create(System.getProperty("es.url", "http://localhost:9200"))));
+
+        String textMapping = "{\"properties\": {" +
+                "\"name\": {\"type\": \"text\"}, \"address\": {\"type\": \"text\"}, \"tags\": {\"type\": \"text\"}}}";
+        String documentMapping = new MappingBuilder(
+                new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()))
+                .buildPropertyMapping(StadiumDocument.class);
+
+        prepare(WILDCARD_INDEX, null, textMapping);
+        prepare(MATCH_INDEX, ResourceUtil.readFileFromClasspath("elasticsearch/stadium-settings.json"),
+                documentMapping);
+    }
+
+    private void prepare(String index, String settings, String mapping) throws IOException {
+        if (client.indices().exists(new GetIndexRequest(index), RequestOptions.DEFAULT)) {
+            if (client.count(new CountRequest(index), RequestOptions.DEFAULT).getCount() == STADIUMS) {
+                return;
+            }
+            client.indices().delete(new DeleteIndexRequest(index), RequestOptions.DEFAULT);
+        }
+
+        CreateIndexRequest create = new CreateIndexRequest(index).mapping(mapping, XContentType.JSON);
+        if (settings != null) {
+            create.settings(settings, XContentType.JSON);
+        }
+        client.indices().create(create, RequestOptions.DEFAULT);
+
+        // 두 색인에 같은 문서
+        Random random = new Random(42);
+        BulkRequest bulk = new BulkRequest();
+        for (int i = 1; i <= STADIUMS; i++) {
+            String region = pick(random, REGIONS);
+            bulk.add(new IndexRequest(index).id(String.valueOf(i)).source(Map.of(
+                    "id", i,
+                    "name", region + " " + pick(random, SPORTS) + pick(random, SUFFIXES) + " " + i,
+                    "address", region + "구 " + pick(random, ROADS) + " " + random.nextInt(500),
+                    "tags", List.of(pick(random, TAGS), pick(random, TAGS)))));
+            if (i % 5_000 == 0) {
+                client.bulk(bulk, RequestOptions.DEFAULT);
+                bulk = new BulkRequest();
+            }
+        }
+        client.bulk(bulk.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE), RequestOptions.DEFAULT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+    }
+
+    /**
+     * findByNameContainsIgnoreCaseOrAddressContainsIgnoreCase 가 보내던 쿼리
+     */
+    @Benchmark
+    public SearchResponse wildcard() throws IOException {
+        String searchValue = pick(ThreadLocalRandom.current(), QUERIES);
+        return search(WILDCARD_INDEX, QueryBuilders.boolQuery()
+                .should(QueryBuilders.queryStringQuery("*" + searchValue + "*").field("name").analyzeWildcard(true))
+                .should(QueryBuilders.queryStringQuery("*" + searchValue + "*").field("address").analyzeWildcard(true)));
+    }
+
+    @Benchmark
+    public SearchResponse match() throws IOException {
+        return search(MATCH_INDEX,
+                StadiumSearchRepositorySupport.textQuery(pick(ThreadLocalRandom.current(), QUERIES)));
+    }
+
+    private SearchResponse search(String index, QueryBuilder query) throws IOException {
+        return client.search(new SearchRequest(index).source(new SearchSourceBuilder()
+                .query(query)
+                .size(PAGE_SIZE)
+                .trackTotalHits(true)), RequestOptions.DEFAULT);
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
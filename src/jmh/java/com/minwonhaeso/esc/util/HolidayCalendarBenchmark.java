@@ -0,0 +1,45 @@
+package com.minwonhaeso.esc.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공휴일 확인 1회 비용 : 기존 HolidayUtil (LegacyHolidayUtil) vs HolidayCalendar
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class HolidayCalendarBenchmark {
+    // 예약 화면에서 보는 범위 (오늘부터 두 달) 와 비슷하게 3년치를 돌아가며 조회
+    private LocalDate[] dates;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dates = LocalDate.of(2025, 1, 1).datesUntil(LocalDate.of(2028, 1, 1)).toArray(LocalDate[]::new);
+        for (LocalDate date : dates) {
+            HolidayCalendar.isHoliday(date);
+        }
+    }
+
+    private LocalDate next() {
+        cursor = cursor + 1 == dates.length ? 0 : cursor + 1;
+        return dates[cursor];
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        return LegacyHolidayUtil.isHoliday(next());
+    }
+
+    @Benchmark
+    public boolean calendar() {
+        return HolidayCalendar.isHoliday(next());
+    }
+}
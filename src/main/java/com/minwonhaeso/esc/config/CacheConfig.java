@@ -1,23 +1,32 @@
 package com.minwonhaeso.esc.config;
 
 import com.minwonhaeso.esc.security.auth.redis.CacheKey;
+import com.minwonhaeso.esc.stadium.service.StadiumAutocompleteService;
+import com.minwonhaeso.esc.stadium.service.StadiumGeoIndexService;
+import com.minwonhaeso.esc.stadium.service.StadiumInfoCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -43,10 +52,32 @@ public class CacheConfig {
                         .SerializationPair
                         .fromSerializer(new GenericJackson2JsonRedisSerializer()));
 
-        return RedisCacheManager.RedisCacheManagerBuilder
-                .fromConnectionFactory(redisConnectionFactory)
-                .cacheDefaults(configuration)
-                .build();
+        // 체육관 가격표, 상세 정보는 수정 시 바로 지우므로 길게 둔다.
+        Map<String, RedisCacheConfiguration> stadiumCaches = Map.of(
+                CacheKey.STADIUM_PRICE, configuration.entryTtl(Duration.ofSeconds(CacheKey.STADIUM_PRICE_EXPIRE_SEC)),
+                CacheKey.STADIUM_INFO, configuration.entryTtl(Duration.ofSeconds(CacheKey.STADIUM_INFO_EXPIRE_SEC)));
+
+        return new RedisCacheManager(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory),
+                configuration, stadiumCaches) {
+            // 체육관 캐시만 트랜잭션 커밋 후에 지운다. (USER 등 다른 캐시는 바로 지움)
+            @Override
+            protected Cache decorateCache(Cache cache) {
+                return stadiumCaches.containsKey(cache.getName()) ? new TransactionAwareCacheDecorator(cache) : cache;
+            }
+        };
+    }
+
+    // 체육관 변경 알림을 받아 서버 메모리 캐시, 위치 색인, 자동완성을 갱신한다.
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, StadiumInfoCacheService stadiumInfoCacheService,
+            StadiumGeoIndexService stadiumGeoIndexService, StadiumAutocompleteService stadiumAutocompleteService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(stadiumInfoCacheService, new ChannelTopic(StadiumInfoCacheService.CHANNEL));
+        container.addMessageListener(stadiumGeoIndexService, new ChannelTopic(StadiumInfoCacheService.CHANNEL));
+        container.addMessageListener(stadiumAutocompleteService, new ChannelTopic(StadiumInfoCacheService.CHANNEL));
+        return container;
     }
 
     @Bean
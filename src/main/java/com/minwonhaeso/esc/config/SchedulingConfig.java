@@ -0,0 +1,18 @@
+package com.minwonhaeso.esc.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SchedulingConfig {
+    // 기본 1개면 오래 걸리는 작업 (위치 색인, 자동완성 전체 읽기) 이 임시 예약 만료, 검색 색인 반영을 늦춘다.
+    @Value("${spring.task.scheduling.pool.size:4}")
+    private int poolSize;
+
+    @Bean
+    public TaskSchedulerCustomizer taskSchedulerPoolSizeCustomizer() {
+        return scheduler -> scheduler.setPoolSize(poolSize);
+    }
+}
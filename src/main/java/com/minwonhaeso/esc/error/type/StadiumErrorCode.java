@@ -21,7 +21,16 @@ public enum StadiumErrorCode {
     StadiumImgNotFound(HttpStatus.BAD_REQUEST, "일치하는 체육관 이미지 정보가 존재하지 않습니다."),
     StadiumTagNotFound(HttpStatus.BAD_REQUEST, "일치하는 체육관 종목 정보가 존재하지 않습니다."),
     StadiumItemNotFound(HttpStatus.BAD_REQUEST, "일치하는 체육관 대여 용품 정보가 존재하지 않습니다."),
-    LatLntInvalid(HttpStatus.BAD_REQUEST, "위도 경도 값이 옳바르지 않습니다.");
+    LatLntInvalid(HttpStatus.BAD_REQUEST, "위도 경도 값이 옳바르지 않습니다."),
+    InvalidDateRange(HttpStatus.BAD_REQUEST, "조회 기간이 옳바르지 않습니다."),
+    HoldNotFound(HttpStatus.BAD_REQUEST, "일치하는 임시 예약 정보가 존재하지 않습니다."),
+    HoldNotMatch(HttpStatus.BAD_REQUEST, "임시 예약 정보와 요청 정보가 일치하지 않습니다."),
+    HoldExpired(HttpStatus.CONFLICT, "임시 예약 시간이 만료되었습니다."),
+    RequestInProgress(HttpStatus.CONFLICT, "같은 요청을 처리하고 있습니다."),
+    IdempotencyKeyReused(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 Idempotency-Key 입니다."),
+    PriceNotMatch(HttpStatus.BAD_REQUEST, "결제 금액이 예약 금액과 일치하지 않습니다."),
+    InvalidRecurrence(HttpStatus.BAD_REQUEST, "반복 예약 횟수나 간격이 옳바르지 않습니다."),
+    InvalidCursor(HttpStatus.BAD_REQUEST, "목록 커서 값이 옳바르지 않습니다.");
 
     private final HttpStatus statusCode;
     private final String errorMessage;
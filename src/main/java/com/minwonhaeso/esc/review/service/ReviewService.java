@@ -11,6 +11,7 @@ import com.minwonhaeso.esc.stadium.model.entity.Stadium;
 import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
 import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
 import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository;
+import com.minwonhaeso.esc.stadium.service.StadiumInfoCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -35,6 +36,7 @@ public class ReviewService {
     private final StadiumRepository stadiumRepository;
     private final StadiumReservationRepository stadiumReservationRepository;
     private final NotificationService notificationService;
+    private final StadiumInfoCacheService stadiumInfoCacheService;
 
     @Transactional(readOnly = true)
     public Page<ReviewDto.Response> getAllReviewsByStadium(Long stadiumId, Pageable pageable) {
@@ -111,6 +113,7 @@ public class ReviewService {
             stadium.setStarAvg(starAvg);
             stadiumRepository.save(stadium);
         }
+        stadiumInfoCacheService.evictAll();
         log.info("[" + LocalDateTime.now() + "] 체육관 평점이 업데이트 되었습니다.");
     }
 
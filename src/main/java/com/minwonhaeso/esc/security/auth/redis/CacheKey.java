@@ -6,5 +6,10 @@ import lombok.Getter;
 public class CacheKey {
 
     public static final String USER = "user";
+    public static final String STADIUM_PRICE = "stadiumPrice";
+    public static final String STADIUM_INFO = "stadiumInfo";
     public static final int DEFAULT_EXPIRE_SEC = 60;
+    public static final int STADIUM_PRICE_EXPIRE_SEC = 60 * 60;
+    public static final int STADIUM_INFO_EXPIRE_SEC = 60 * 60;
+    public static final int STADIUM_INFO_LOCAL_EXPIRE_SEC = 60 * 5;
 }
\ No newline at end of file
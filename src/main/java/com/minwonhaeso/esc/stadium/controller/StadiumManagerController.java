@@ -3,22 +3,27 @@ package com.minwonhaeso.esc.stadium.controller;
 import com.minwonhaeso.esc.member.model.entity.Member;
 import com.minwonhaeso.esc.security.auth.PrincipalDetail;
 import com.minwonhaeso.esc.stadium.model.dto.*;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumDashboardDto.DashboardResponse;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumDto.CreateStadiumResponse;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumItemDto.CreateItemResponse;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.ReservationInfoResponse;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.StadiumReservationUserResponse;
 import com.minwonhaeso.esc.stadium.service.StadiumReservationService;
 import com.minwonhaeso.esc.stadium.service.StadiumService;
+import com.minwonhaeso.esc.stadium.service.StadiumStatService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @PreAuthorize("hasRole('ROLE_STADIUM')")
 @RequiredArgsConstructor
 @RestController
@@ -26,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class StadiumManagerController {
     private final StadiumService stadiumService;
     private final StadiumReservationService stadiumReservationService;
+    private final StadiumStatService stadiumStatService;
 
     @ApiOperation(value = "등록 체육관 조회", notes = "사용자(매니저)가 등록한 체육관을 조회한다.")
     @GetMapping("/manager")
@@ -51,6 +57,20 @@ public class StadiumManagerController {
         return ResponseEntity.ok().body(reservationList);
     }
 
+    @ApiOperation(value = "체육관 누적 사용자 조회 (커서)", notes = "사용자(매니저)가 등록한 체육관의 누적 사용자를 예약일 최신순으로 size 개씩 조회한다.")
+    @GetMapping("/manager/{stadiumId}/cursor")
+    public ResponseEntity<CursorResponse<StadiumReservationUserResponse>> getReservationUsersByCursor(
+            @AuthenticationPrincipal PrincipalDetail principalDetail,
+            @PathVariable Long stadiumId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        Member member = principalDetail.getMember();
+        CursorResponse<StadiumReservationUserResponse> reservations = stadiumReservationService
+                .getReservationUsersByManagerCursor(member, stadiumId, cursor, size);
+        return ResponseEntity.ok().body(reservations);
+    }
+
     @ApiOperation(value = "체육관 사용자 상세 정보 조회", notes = "")
     @GetMapping("/manager/{stadiumId}/reservations/{reservationId}")
     public ResponseEntity<?> getStadiumReservationInfo(
@@ -64,6 +84,19 @@ public class StadiumManagerController {
         return ResponseEntity.ok().body(reservation);
     }
 
+    @ApiOperation(value = "체육관 대시보드 조회", notes = "사용자(매니저)가 등록한 체육관의 기간별 예약, 매출, 취소, 가동률을 조회한다.")
+    @GetMapping("/manager/{stadiumId}/dashboard")
+    public ResponseEntity<DashboardResponse> getStadiumDashboard(
+            @AuthenticationPrincipal PrincipalDetail principalDetail,
+            @PathVariable Long stadiumId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to
+    ) {
+        Member member = principalDetail.getMember();
+        DashboardResponse dashboard = stadiumStatService.getDashboard(member, stadiumId, from, to);
+        return ResponseEntity.ok().body(dashboard);
+    }
+
     @ApiOperation(value = "체육관 신규 등록", notes = "사용자(매니저)가 체육관을 새로 등록한다.")
     @PostMapping("/register")
     public ResponseEntity<CreateStadiumResponse> createStadiumByManager(
@@ -1,8 +1,10 @@
 package com.minwonhaeso.esc.stadium.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.minwonhaeso.esc.member.model.entity.Member;
 import com.minwonhaeso.esc.security.auth.PrincipalDetail;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumPaymentDto;
+import com.minwonhaeso.esc.stadium.service.IdempotencyService;
 import com.minwonhaeso.esc.stadium.service.StadiumPaymentService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -19,14 +21,19 @@ import java.util.Map;
 @RequestMapping("/stadiums")
 public class StadiumPaymentController {
     private final StadiumPaymentService reservationService;
+    private final IdempotencyService idempotencyService;
 
-    @ApiOperation(value = "결제", notes = "예약 상세 정보들을 입력 받아 예약을 수행합니다.")
+    @ApiOperation(value = "결제", notes = "예약 상세 정보들을 입력 받아 예약을 수행합니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키의 재시도에는 처음 응답을 그대로 돌려줍니다.")
     @PostMapping("/{stadiumId}/payment")
     public ResponseEntity<Map<String, String>> payment(@AuthenticationPrincipal PrincipalDetail principalDetail,
+                                                       @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                                        @PathVariable(value = "stadiumId") Long stadiumId,
                                                        @RequestBody StadiumPaymentDto.PaymentRequest request) {
         Member member = principalDetail.getMember();
-        Map<String, String> result = reservationService.payment(member, stadiumId, request);
+        Map<String, String> result = idempotencyService.execute(
+                member, "payment-" + stadiumId, idempotencyKey, request,
+                new TypeReference<>() {}, () -> reservationService.payment(member, stadiumId, request));
         return ResponseEntity.ok(result);
     }
 
@@ -1,11 +1,15 @@
 package com.minwonhaeso.esc.stadium.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.minwonhaeso.esc.member.model.entity.Member;
 import com.minwonhaeso.esc.notification.model.type.NotificationType;
 import com.minwonhaeso.esc.notification.service.NotificationService;
 import com.minwonhaeso.esc.security.auth.PrincipalDetail;
+import com.minwonhaeso.esc.stadium.model.dto.CursorResponse;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.*;
+import com.minwonhaeso.esc.stadium.service.IdempotencyService;
+import com.minwonhaeso.esc.stadium.service.ReservationHoldService;
 import com.minwonhaeso.esc.stadium.service.StadiumReservationService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +35,8 @@ import static com.minwonhaeso.esc.notification.model.type.NotificationType.REVIE
 @RequestMapping("/stadiums")
 public class StadiumReservationController {
     private final StadiumReservationService stadiumReservationService;
+    private final ReservationHoldService reservationHoldService;
+    private final IdempotencyService idempotencyService;
     private final NotificationService notificationService;
 
     @ApiOperation(value = "내 예약 목록", notes = "내가 예약한 목록 모두 조회")
@@ -45,6 +51,19 @@ public class StadiumReservationController {
         return ResponseEntity.ok().body(reservations);
     }
 
+    @ApiOperation(value = "내 예약 목록 (커서)", notes = "내가 예약한 목록을 예약일 최신순으로 size 개씩 조회 (전체 개수는 세지 않는다)")
+    @GetMapping("/reservations/cursor")
+    public ResponseEntity<CursorResponse<ReservationResponse>> getReservationsByCursor(
+            @AuthenticationPrincipal PrincipalDetail principalDetail,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        Member member = principalDetail.getMember();
+        CursorResponse<ReservationResponse> reservations =
+                stadiumReservationService.getReservationsByMemberCursor(member, cursor, size);
+        return ResponseEntity.ok().body(reservations);
+    }
+
     @ApiOperation(value = "체육관 예약 페이지", notes = "특정 체육관 예약 페이지 정보 요청")
     @GetMapping("/{stadiumId}/reservation")
     public ResponseEntity<?> getStadiumReservationInfo(
@@ -62,6 +81,28 @@ public class StadiumReservationController {
         return ResponseEntity.ok().body(reservationInfo);
     }
 
+    @ApiOperation(value = "체육관 기간별 예약 현황", notes = "기간 내 날짜별 예약된 시간대, 남은 시간대 수, 가격 조회")
+    @GetMapping("/{stadiumId}/availability")
+    public ResponseEntity<?> getStadiumAvailability(
+            @PathVariable Long stadiumId,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to
+    ) {
+        if (from == null) {
+            from = LocalDate.now();
+        }
+
+        if (to == null) {
+            to = from.plusMonths(1).minusDays(1);
+        }
+
+        StadiumAvailabilityResponse availability =
+                stadiumReservationService.getStadiumAvailability(stadiumId, from, to);
+        return ResponseEntity.ok().body(availability);
+    }
+
     @ApiOperation(value = "체육관 예약 상세 내역 조회", notes = "특정 체육관의 특정 예약 내역 조회")
     @GetMapping("/{stadiumId}/reservations/{reservationId}")
     public ResponseEntity<?> getReservationInfo(
@@ -85,23 +126,80 @@ public class StadiumReservationController {
         return ResponseEntity.ok().body(price);
     }
 
+    @ApiOperation(value = "예약", notes = "Idempotency-Key 헤더를 보내면 같은 키의 재시도에는 처음 응답을 그대로 돌려준다.")
     @PostMapping("/{stadiumId}/reservation")
     public ResponseEntity<?> createReservation(
             @AuthenticationPrincipal PrincipalDetail principalDetail,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @PathVariable Long stadiumId,
             @RequestBody CreateReservationRequest request
 
     ) {
         Member member = principalDetail.getMember();
-        StadiumReservationDto.CreateReservationResponse reservationInfo =
-                stadiumReservationService.createReservation(member, stadiumId, request);
+        StadiumReservationDto.CreateReservationResponse reservationInfo = idempotencyService.execute(
+                member, "reservation-" + stadiumId, idempotencyKey, request,
+                new TypeReference<>() {}, () -> {
+                    StadiumReservationDto.CreateReservationResponse created =
+                            stadiumReservationService.createReservation(member, stadiumId, request);
 
-        notificationService.createNotification(RESERVATION, stadiumId,
-                "체육관 [ " + reservationInfo.getStadiumName() + " ]에 새로운 예약이 등록되었습니다.", member);
-        log.info("회원 번호 [ " + member.getMemberId() + " ] 로 알람이 발송되었습니다.");
+                    notificationService.createNotification(RESERVATION, stadiumId,
+                            "체육관 [ " + created.getStadiumName() + " ]에 새로운 예약이 등록되었습니다.", member);
+                    log.info("회원 번호 [ " + member.getMemberId() + " ] 로 알람이 발송되었습니다.");
+                    return created;
+                });
         return ResponseEntity.status(HttpStatus.CREATED).body(reservationInfo);
     }
 
+    @ApiOperation(value = "반복 예약", notes = "매주 (intervalWeeks 주마다) 같은 요일, 같은 시간대를 occurrences 번 예약한다. 이미 예약된 날짜만 빠진다.")
+    @PostMapping("/{stadiumId}/reservation/recurring")
+    public ResponseEntity<?> createRecurringReservation(
+            @AuthenticationPrincipal PrincipalDetail principalDetail,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @PathVariable Long stadiumId,
+            @RequestBody RecurringReservationRequest request
+    ) {
+        Member member = principalDetail.getMember();
+        RecurringReservationResponse reservations = idempotencyService.execute(
+                member, "recurring-reservation-" + stadiumId, idempotencyKey, request,
+                new TypeReference<>() {}, () -> {
+                    RecurringReservationResponse created =
+                            stadiumReservationService.createRecurringReservation(member, stadiumId, request);
+
+                    if (created.getReservedCount() > 0) {
+                        notificationService.createNotification(RESERVATION, stadiumId,
+                                "체육관 [ " + created.getStadiumName() + " ]에 새로운 반복 예약 "
+                                        + created.getReservedCount() + "건이 등록되었습니다.", member);
+                        log.info("회원 번호 [ " + member.getMemberId() + " ] 로 알람이 발송되었습니다.");
+                    }
+                    return created;
+                });
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservations);
+    }
+
+    @ApiOperation(value = "임시 예약", notes = "결제 전까지 시간대를 잠시 선점한다. 만료되면 자동으로 해제된다.")
+    @PostMapping("/{stadiumId}/reservation/holds")
+    public ResponseEntity<?> holdReservation(
+            @AuthenticationPrincipal PrincipalDetail principalDetail,
+            @PathVariable Long stadiumId,
+            @RequestBody HoldRequest request
+    ) {
+        Member member = principalDetail.getMember();
+        HoldResponse hold = reservationHoldService.hold(member, stadiumId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+    }
+
+    @ApiOperation(value = "임시 예약 취소", notes = "선점한 시간대를 바로 해제한다.")
+    @DeleteMapping("/{stadiumId}/reservation/holds/{holdId}")
+    public ResponseEntity<?> releaseHold(
+            @AuthenticationPrincipal PrincipalDetail principalDetail,
+            @PathVariable Long stadiumId,
+            @PathVariable String holdId
+    ) {
+        Member member = principalDetail.getMember();
+        reservationHoldService.release(member, stadiumId, holdId);
+        return ResponseEntity.ok().build();
+    }
+
     @PatchMapping("/{stadiumId}/reservations/{reservationId}")
     public ResponseEntity<?> executeReservation(
             @AuthenticationPrincipal PrincipalDetail principalDetail,
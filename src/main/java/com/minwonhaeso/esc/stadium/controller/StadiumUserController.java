@@ -4,16 +4,20 @@ import com.minwonhaeso.esc.member.model.entity.Member;
 import com.minwonhaeso.esc.security.auth.PrincipalDetail;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumInfoResponseDto;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumSuggestionDto;
+import com.minwonhaeso.esc.stadium.service.StadiumAutocompleteService;
 import com.minwonhaeso.esc.stadium.service.StadiumSearchService;
 import com.minwonhaeso.esc.stadium.service.StadiumService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -22,6 +26,7 @@ import java.util.List;
 public class StadiumUserController {
     private final StadiumService stadiumService;
     private final StadiumSearchService stadiumSearchService;
+    private final StadiumAutocompleteService stadiumAutocompleteService;
 
     private final Double DEFAULT_LAT = 37.5030;
     private final Double DEFAULT_LNT = 127.0416;
@@ -61,12 +66,43 @@ public class StadiumUserController {
         return ResponseEntity.ok().body(stadiums);
     }
 
-    @ApiOperation(value = "체육관 검색", notes = "검색어를 입력하여 체육관을 조회한다.")
+    @ApiOperation(value = "가까운 예약 가능 체육관 조회",
+            notes = "위도 경도를 기준으로 해당 날짜, 시간대(startTime ~ endTime 직전)가 비어 있는 체육관을 가까운 순으로 조회한다.")
+    @GetMapping("/near-loc/available")
+    public ResponseEntity<List<StadiumResponseDto>> getAllAvailableStadiumsNearLocation(
+            @RequestParam(required = false) Double lnt,
+            @RequestParam(required = false) Double lat,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @RequestParam String startTime,
+            @RequestParam String endTime,
+            Pageable pageable) {
+        lnt = lnt == null ? DEFAULT_LNT : lnt;
+        lat = lat == null ? DEFAULT_LAT : lat;
+        List<StadiumResponseDto> stadiums = stadiumSearchService.getAllAvailableStadiumsNearLocation(
+                lnt, lat, date, startTime, endTime, pageable);
+        return ResponseEntity.ok().body(stadiums);
+    }
+
+    @ApiOperation(value = "체육관 검색",
+            notes = "검색어를 입력하여 체육관을 조회한다. 위도 경도를 주면 반경(radius, m) 안에서 가까운 순으로 조회한다.")
     @GetMapping("/search")
     public ResponseEntity<Page<StadiumResponseDto>> searchStadium(
             @RequestParam String searchValue,
+            @RequestParam(required = false) Double lnt,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(defaultValue = "10000") Double radius,
             Pageable pageable) {
-        Page<StadiumResponseDto> stadiumDocuments = stadiumSearchService.search(searchValue, pageable);
+        Page<StadiumResponseDto> stadiumDocuments = lnt == null || lat == null ?
+                stadiumSearchService.search(searchValue, pageable) :
+                stadiumSearchService.searchNearLocation(searchValue, lnt, lat, radius, pageable);
         return ResponseEntity.ok().body(stadiumDocuments);
     }
+
+    @ApiOperation(value = "체육관 자동완성", notes = "입력 중인 검색어로 시작하는 체육관 이름, 종목 태그를 조회한다. (초성 검색 가능)")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<StadiumSuggestionDto>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok().body(stadiumAutocompleteService.suggest(q, size));
+    }
 }
\ No newline at end of file
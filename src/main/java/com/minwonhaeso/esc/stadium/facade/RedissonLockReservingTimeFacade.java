@@ -1,6 +1,7 @@
 package com.minwonhaeso.esc.stadium.facade;
 
 import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
@@ -11,6 +12,7 @@ import java.time.LocalDate;
 import java.util.concurrent.TimeUnit;
 
 import static com.minwonhaeso.esc.error.type.StadiumErrorCode.AlreadyReservedTime;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.TimeFormatNotAccepted;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -19,9 +21,32 @@ public class RedissonLockReservingTimeFacade {
     private final RedissonClient redissonClient;
 
     public void lock(Long stadiumId, LocalDate date) {
-        RLock lock = redissonClient.getLock(getLockKey(stadiumId, date));
         log.debug("Trying lock for stadium id : {}", stadiumId);
+        tryLock(redissonClient.getLock(getLockKey(stadiumId, date)));
+    }
+
+    public void unlock(Long stadiumId, LocalDate date) {
+        log.debug("Unlock for stadium id : {}", stadiumId);
+        redissonClient.getLock(getLockKey(stadiumId, date)).unlock();
+    }
 
+    /**
+     * 요청한 시간대만 잠근다. 같은 날이라도 겹치지 않는 시간대끼리는 서로 기다리지 않는다.
+     */
+    public void lockSlots(Long stadiumId, LocalDate date, long mask) {
+        if (mask == 0) {
+            throw new StadiumException(TimeFormatNotAccepted);
+        }
+        log.debug("Trying slot lock for stadium id : {}, mask : {}", stadiumId, mask);
+        tryLock(getSlotLock(stadiumId, date, mask));
+    }
+
+    public void unlockSlots(Long stadiumId, LocalDate date, long mask) {
+        log.debug("Unlock slots for stadium id : {}, mask : {}", stadiumId, mask);
+        getSlotLock(stadiumId, date, mask).unlock();
+    }
+
+    private static void tryLock(RLock lock) {
         try {
             boolean isLock = lock.tryLock(1, 1, TimeUnit.SECONDS);
             if(!isLock) {
@@ -30,14 +55,22 @@ public class RedissonLockReservingTimeFacade {
             }
         } catch (StadiumException e) {
             throw e;
-        } catch (Exception e) {
-            log.error("Redis lock failed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Redis lock interrupted", e);
+        } catch (RuntimeException e) {
+            // 락 없이 진행하지 않는다.
+            log.error("Redis lock failed", e);
+            throw e;
         }
     }
 
-    public void unlock(Long stadiumId, LocalDate date) {
-        log.debug("Unlock for stadium id : {}", stadiumId);
-        redissonClient.getLock(getLockKey(stadiumId, date)).unlock();
+    // 시간대 순서대로 잡아야 서로 다른 요청끼리 교착되지 않는다.
+    private RLock getSlotLock(Long stadiumId, LocalDate date, long mask) {
+        RLock[] locks = ReservingTime.fromMask(mask).stream()
+                .map(time -> redissonClient.getLock(getLockKey(stadiumId, date) + "-" + time.name()))
+                .toArray(RLock[]::new);
+        return redissonClient.getMultiLock(locks);
     }
 
     private static String getLockKey(Long stadiumId, LocalDate date) {
@@ -0,0 +1,24 @@
+package com.minwonhaeso.esc.stadium.model.converter;
+
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 시간대 목록 <-> BIGINT mask (bit = ReservingTime.ordinal())
+ */
+@Converter
+public class ReservingTimeMaskConverter implements AttributeConverter<List<ReservingTime>, Long> {
+    @Override
+    public Long convertToDatabaseColumn(List<ReservingTime> reservingTimes) {
+        return reservingTimes == null ? 0L : ReservingTime.toMask(reservingTimes);
+    }
+
+    @Override
+    public List<ReservingTime> convertToEntityAttribute(Long mask) {
+        return mask == null ? new ArrayList<>() : ReservingTime.fromMask(mask);
+    }
+}
@@ -0,0 +1,19 @@
+package com.minwonhaeso.esc.stadium.model.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ApiModel(value = "커서 목록 Response")
+public class CursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    @ApiModelProperty(value = "다음 목록 조회 시 cursor 로 보낼 값 (마지막 목록이면 null)")
+    private String nextCursor;
+}
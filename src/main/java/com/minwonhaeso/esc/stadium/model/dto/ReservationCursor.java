@@ -0,0 +1,42 @@
+package com.minwonhaeso.esc.stadium.model.dto;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository.ReservationKey;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.InvalidCursor;
+
+/**
+ * 예약 목록 커서 (reservingDate desc, id desc 순서의 마지막 예약)
+ * 클라이언트에는 "yyyy-MM-dd:id" 를 base64url 로 감싼 문자열로 내려준다.
+ */
+@Value
+public class ReservationCursor {
+    LocalDate reservingDate;
+    Long id;
+
+    public static ReservationCursor of(ReservationKey reservation) {
+        return new ReservationCursor(reservation.getReservingDate(), reservation.getReservationId());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((reservingDate + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new ReservationCursor(
+                    LocalDate.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new StadiumException(InvalidCursor);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.minwonhaeso.esc.stadium.model.dto;
+
+import com.minwonhaeso.esc.stadium.model.type.PaymentType;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 / 결제 공통 흐름 (StadiumBookingService) 입력
+ */
+public class StadiumBookingDto {
+    public static final String RESERVATION = "reservation";
+    public static final String PAYMENT = "payment";
+    public static final String RECURRING = "recurring";
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BookingRequest {
+        private String channel;
+        private LocalDate reservingDate;
+        private long reservingMask;
+        private int headCount;
+        private PaymentType paymentType;
+        private List<BookingItem> items;
+        private String holdId;
+        // 결제 요청에서 넘어온 금액, 있으면 견적 금액과 같아야 한다.
+        private Integer paidPrice;
+
+        public static BookingRequest fromRequest(StadiumReservationDto.CreateReservationRequest request, long reservingMask) {
+            return BookingRequest.builder()
+                    .channel(RESERVATION)
+                    .reservingDate(request.getReservingDate())
+                    .reservingMask(reservingMask)
+                    .headCount(request.getHeadCount())
+                    .paymentType(PaymentType.valueOf(request.getPaymentType()))
+                    .items(BookingItem.fromReservationItems(request.getItems()))
+                    .holdId(request.getHoldId())
+                    .build();
+        }
+
+        // 날짜는 StadiumBookingService.bookAll 에서 따로 받는다.
+        public static BookingRequest fromRequest(StadiumReservationDto.RecurringReservationRequest request, long reservingMask) {
+            return BookingRequest.builder()
+                    .channel(RECURRING)
+                    .reservingMask(reservingMask)
+                    .headCount(request.getHeadCount())
+                    .paymentType(PaymentType.valueOf(request.getPaymentType()))
+                    .items(BookingItem.fromReservationItems(request.getItems()))
+                    .build();
+        }
+
+        public static BookingRequest fromRequest(StadiumPaymentDto.PaymentRequest request, long reservingMask) {
+            return BookingRequest.builder()
+                    .channel(PAYMENT)
+                    .reservingDate(request.getDate())
+                    .reservingMask(reservingMask)
+                    .headCount(request.getHeadCount())
+                    .paymentType(PaymentType.valueOf(request.getPaymentType()))
+                    .items(request.getItems() == null ? Collections.emptyList() : request.getItems().stream()
+                            .map(item -> new BookingItem(item.getId(), item.getCount()))
+                            .collect(Collectors.toList()))
+                    .holdId(request.getHoldId())
+                    .paidPrice(request.getTotalPrice())
+                    .build();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BookingItem {
+        private Long itemId;
+        private int count;
+
+        public static List<BookingItem> fromReservationItems(List<StadiumReservationDto.ItemRequest> items) {
+            if (items == null) {
+                return Collections.emptyList();
+            }
+
+            return items.stream()
+                    .map(item -> new BookingItem(item.getItemId(), item.getCount()))
+                    .collect(Collectors.toList());
+        }
+    }
+}
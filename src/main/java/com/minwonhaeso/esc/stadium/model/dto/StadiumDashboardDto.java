@@ -0,0 +1,68 @@
+package com.minwonhaeso.esc.stadium.model.dto;
+
+import com.minwonhaeso.esc.stadium.model.entity.StadiumDailyStat;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class StadiumDashboardDto {
+    @Data
+    @Builder
+    @ApiModel(value = "체육관 매니저 대시보드 Response")
+    public static class DashboardResponse {
+        private Long stadiumId;
+        private String from;
+        private String to;
+        @ApiModelProperty(value = "하루 운영 시간대 수")
+        private int openSlots;
+        private int reservationCount;
+        private int bookedSlots;
+        private long revenue;
+        private int canceledCount;
+        private long canceledRevenue;
+        private int executedCount;
+        @ApiModelProperty(value = "기간 전체 가동률 (예약된 시간대 / 운영 시간대)")
+        private double occupancyRate;
+        private List<DailyStat> days;
+    }
+
+    @Data
+    @Builder
+    public static class DailyStat {
+        private String date;
+        private int reservationCount;
+        private int bookedSlots;
+        private long revenue;
+        private int canceledCount;
+        private long canceledRevenue;
+        private int executedCount;
+        private double occupancyRate;
+
+        public static DailyStat fromEntity(StadiumDailyStat stat, int openSlots) {
+            return DailyStat.builder()
+                    .date(stat.getStatDate().toString())
+                    .reservationCount(stat.getReservationCount())
+                    .bookedSlots(stat.getBookedSlots())
+                    .revenue(stat.getRevenue())
+                    .canceledCount(stat.getCanceledCount())
+                    .canceledRevenue(stat.getCanceledRevenue())
+                    .executedCount(stat.getExecutedCount())
+                    .occupancyRate(occupancyRate(stat.getBookedSlots(), openSlots))
+                    .build();
+        }
+
+        public static DailyStat empty(LocalDate date) {
+            return DailyStat.builder()
+                    .date(date.toString())
+                    .build();
+        }
+    }
+
+    public static double occupancyRate(long bookedSlots, long openSlots) {
+        return openSlots == 0 ? 0 : (double) bookedSlots / openSlots;
+    }
+}
@@ -1,5 +1,6 @@
 package com.minwonhaeso.esc.stadium.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.minwonhaeso.esc.stadium.model.entity.Stadium;
 import com.minwonhaeso.esc.stadium.model.entity.StadiumTag;
 import io.swagger.annotations.ApiModel;
@@ -15,7 +16,9 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+// 찜하기 여부는 사용자마다 다르므로 캐시에서 읽지 않는다.
+@JsonIgnoreProperties(value = "like", allowGetters = true)
 @ApiModel(value = "체육관 상세 정보 조회 Response")
 public class StadiumInfoResponseDto {
     @ApiModelProperty(value = "체육관 ID", example = "1")
@@ -51,6 +51,8 @@ public class StadiumItemDto {
     }
 
     @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
     @Builder
     @ApiModel(value = "체육관 대여 용품 Response Body")
     public static class Response {
@@ -25,6 +25,7 @@ public class StadiumPaymentDto {
         private int totalPrice;
         private String email;
         private String paymentType;
+        private String holdId;
     }
 
     @Getter
@@ -0,0 +1,67 @@
+package com.minwonhaeso.esc.stadium.model.dto;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto.BookingItem;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumItem;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.StadiumItemNotFound;
+import static com.minwonhaeso.esc.util.HolidayUtil.isHoliday;
+
+/**
+ * 체육관 가격표 (캐시 저장용)
+ * 평일 / 공휴일 30분 가격과 대여 용품 가격
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StadiumPriceTable {
+    private Long stadiumId;
+    private int weekdayPricePerHalfHour;
+    private int holidayPricePerHalfHour;
+    private Map<Long, Integer> itemPrices;
+
+    public static StadiumPriceTable fromEntity(Stadium stadium, List<StadiumItem> items) {
+        Map<Long, Integer> itemPrices = new HashMap<>();
+        items.forEach(item -> itemPrices.put(item.getId(), item.getPrice()));
+
+        return StadiumPriceTable.builder()
+                .stadiumId(stadium.getId())
+                .weekdayPricePerHalfHour(stadium.getWeekdayPricePerHalfHour())
+                .holidayPricePerHalfHour(stadium.getHolidayPricePerHalfHour())
+                .itemPrices(itemPrices)
+                .build();
+    }
+
+    public int pricePerHalfHour(LocalDate date) {
+        return isHoliday(date) ? holidayPricePerHalfHour : weekdayPricePerHalfHour;
+    }
+
+    /**
+     * 예약 금액 = 30분 가격 * 시간대 수 + 대여 용품 가격 * 수량
+     * 수량이 0 이하인 용품은 빼고, 가격표에 없는 용품이면 StadiumItemNotFound
+     */
+    public int quote(LocalDate date, int reservingTimeCount, List<BookingItem> items) {
+        int itemPrice = 0;
+        for (BookingItem item : items) {
+            if (item.getCount() <= 0) {
+                continue;
+            }
+
+            Integer price = itemPrices.get(item.getItemId());
+            if (price == null) {
+                throw new StadiumException(StadiumItemNotFound);
+            }
+            itemPrice += price * item.getCount();
+        }
+
+        return pricePerHalfHour(date) * reservingTimeCount + itemPrice;
+    }
+}
@@ -3,6 +3,8 @@ package com.minwonhaeso.esc.stadium.model.dto;
 import com.minwonhaeso.esc.member.model.entity.Member;
 import com.minwonhaeso.esc.stadium.model.entity.*;
 import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository.ReservationSummary;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository.ReservationUserSummary;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.*;
@@ -22,6 +24,45 @@ public class StadiumReservationDto {
         private int headCount;
         private List<ItemRequest> items;
         private String paymentType;
+        @ApiModelProperty(value = "임시 예약 ID (있으면 임시 예약을 전환)")
+        private String holdId;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HoldRequest {
+        private LocalDate reservingDate;
+        private List<String> reservingTimes;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RecurringReservationRequest {
+        @ApiModelProperty(value = "첫 예약 날짜 (이후 같은 요일로 반복)")
+        private LocalDate startDate;
+        @ApiModelProperty(value = "반복 간격 (주), 기본 1")
+        private int intervalWeeks;
+        @ApiModelProperty(value = "예약 횟수")
+        private int occurrences;
+        private List<String> reservingTimes;
+        private int headCount;
+        private List<ItemRequest> items;
+        private String paymentType;
+    }
+
+    @Data
+    @Builder
+    @ApiModel(value = "임시 예약 Response")
+    public static class HoldResponse {
+        private String holdId;
+        private Long stadiumId;
+        private String date;
+        private List<String> reservedTimes;
+        private String expiresAt;
     }
 
     @Data
@@ -38,6 +79,30 @@ public class StadiumReservationDto {
 
     @Data
     @Builder
+    @ApiModel(value = "체육관 기간별 예약 현황 Response")
+    public static class StadiumAvailabilityResponse {
+        private Long stadiumId;
+        private String openTime;
+        private String closeTime;
+        private List<DailyAvailability> days;
+    }
+
+    @Data
+    @Builder
+    public static class DailyAvailability {
+        private String date;
+        @ApiModelProperty(value = "예약된 시간대 mask (RT1 = 0번 비트)")
+        private long reservedMask;
+        @ApiModelProperty(value = "운영 시간 중 예약 가능한 시간대 수")
+        private int freeCount;
+        private boolean holiday;
+        private int pricePerHalfHour;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
     @ApiModel(value = "예약 생성 정보 Response")
     public static class CreateReservationResponse {
         private Long reservationId;
@@ -51,6 +116,32 @@ public class StadiumReservationDto {
         private List<String> reservedTimes;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @ApiModel(value = "반복 예약 Response")
+    public static class RecurringReservationResponse {
+        private Long stadiumId;
+        private String stadiumName;
+        private List<String> reservedTimes;
+        @ApiModelProperty(value = "예약된 날짜 수")
+        private int reservedCount;
+        private List<RecurringReservationResult> results;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RecurringReservationResult {
+        private String date;
+        @ApiModelProperty(value = "false 면 이미 예약된 시간대가 있어 예약하지 못한 날짜")
+        private boolean reserved;
+        private Long reservationId;
+        private int price;
+    }
+
     @Data
     @Builder
     @ApiModel(value = "예약 상세 내역 정보 Response")
@@ -102,15 +193,14 @@ public class StadiumReservationDto {
         private Double starAvg;
         private String status;
 
-        public static ReservationResponse fromEntity(StadiumReservation reservation) {
-            Stadium stadium = reservation.getStadium();
+        public static ReservationResponse fromSummary(ReservationSummary reservation, String imgUrl) {
             return ReservationResponse.builder()
-                    .reservationId(reservation.getId())
-                    .stadiumId(stadium.getId())
-                    .name(stadium.getName())
-                    .address(stadium.getAddress() + " " + stadium.getDetailAddress())
-                    .imgUrl(stadium.getImgs().get(0).getImgUrl())
-                    .starAvg(stadium.getStarAvg())
+                    .reservationId(reservation.getReservationId())
+                    .stadiumId(reservation.getStadiumId())
+                    .name(reservation.getName())
+                    .address(reservation.getAddress() + " " + reservation.getDetailAddress())
+                    .imgUrl(imgUrl)
+                    .starAvg(reservation.getStarAvg())
                     .status(reservation.getStatus().toString())
                     .build();
         }
@@ -129,13 +219,11 @@ public class StadiumReservationDto {
         private String paymentDate;
         private String status;
 
-        public static StadiumReservationUserResponse fromEntity(
-                StadiumReservation reservation
-        ) {
+        public static StadiumReservationUserResponse fromSummary(ReservationUserSummary reservation) {
             return StadiumReservationUserResponse.builder()
-                    .stadiumId(reservation.getStadium().getId())
-                    .reservationId(reservation.getId())
-                    .name(reservation.getMember().getName())
+                    .stadiumId(reservation.getStadiumId())
+                    .reservationId(reservation.getReservationId())
+                    .name(reservation.getName())
                     .reservingDate(reservation.getReservingDate().toString())
                     .paymentDate(reservation.getCreatedAt().toString())
                     .status(reservation.getStatus().toString())
@@ -154,6 +242,8 @@ public class StadiumReservationDto {
     }
 
     @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
     @Builder
     public static class ItemResponse {
         private Long id;
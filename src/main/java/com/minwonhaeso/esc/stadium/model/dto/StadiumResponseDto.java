@@ -16,7 +16,7 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @ApiModel(value = "체육관 정보 Response")
 public class StadiumResponseDto {
     @ApiModelProperty(value = "체육관 ID", example = "1")
@@ -47,6 +47,8 @@ public class StadiumResponseDto {
     private String imgUrl; // TODO: 이미지주소 + public_id도 포함 필요
     private List<String> tags;
 
+    @ApiModelProperty(value = "거리 (m, 가까운 체육관 조회에서만)", example = "1250.5")
+    private Double distance;
 
     public static StadiumResponseDto fromEntity(Stadium stadium) {
         return StadiumResponseDto.builder()
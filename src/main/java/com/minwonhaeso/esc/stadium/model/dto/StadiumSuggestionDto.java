@@ -0,0 +1,33 @@
+package com.minwonhaeso.esc.stadium.model.dto;
+
+import com.minwonhaeso.esc.stadium.model.type.StadiumSuggestionType;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@ApiModel(value = "체육관 자동완성 Response")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StadiumSuggestionDto {
+    @ApiModelProperty(value = "종류 (체육관 이름, 종목 태그)", example = "STADIUM")
+    private StadiumSuggestionType type;
+
+    @ApiModelProperty(value = "자동완성 문구", example = "강남 풋살장")
+    private String text;
+
+    @ApiModelProperty(value = "체육관 ID (태그면 null)", example = "1")
+    private Long stadiumId;
+
+    public static StadiumSuggestionDto ofStadium(Long stadiumId, String name) {
+        return new StadiumSuggestionDto(StadiumSuggestionType.STADIUM, name, stadiumId);
+    }
+
+    public static StadiumSuggestionDto ofTag(String tag) {
+        return new StadiumSuggestionDto(StadiumSuggestionType.TAG, tag, null);
+    }
+}
@@ -0,0 +1,39 @@
+package com.minwonhaeso.esc.stadium.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 전 임시 예약 (시간대 선점)
+ * 시간대 해제는 만료 ZSET 을 보는 sweeper 가 하므로 expiration 은 expiresAt 보다 넉넉하게 둔다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@RedisHash("reservationHold")
+public class ReservationHold {
+    @Id
+    private String id;
+
+    private Long memberId;
+
+    private Long stadiumId;
+
+    private LocalDate reservingDate;
+
+    private Long reservingMask;
+
+    private LocalDateTime expiresAt;
+
+    @TimeToLive
+    private Long expiration;
+}
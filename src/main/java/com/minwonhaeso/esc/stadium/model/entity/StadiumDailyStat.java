@@ -0,0 +1,44 @@
+package com.minwonhaeso.esc.stadium.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 체육관-날짜별 예약 집계 (매니저 대시보드용)
+ * 예약 / 취소 / 사용 완료 시 같은 트랜잭션에서 StadiumDailyStatRepository.add 로 더해 간다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "stadium_daily_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_stadium_daily_stat",
+                columnNames = {"stadium_id", "stat_date"}))
+public class StadiumDailyStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stadium_id", nullable = false)
+    private Long stadiumId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    // 취소되지 않은 예약
+    private int reservationCount;
+    private int bookedSlots;
+    private long revenue;
+
+    private int canceledCount;
+    private long canceledRevenue;
+
+    private int executedCount;
+}
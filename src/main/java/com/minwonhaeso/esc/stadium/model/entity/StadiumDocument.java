@@ -8,6 +8,11 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.GeoPointField;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,13 +21,20 @@ import java.util.stream.Collectors;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "stadiums")
+@Document(indexName = "stadiums", versionType = Document.VersionType.EXTERNAL)
+@Setting(settingPath = "elasticsearch/stadium-settings.json")
 public class StadiumDocument {
+    // name, address, tags : 형태소 분석 (nori) 본 필드 + 앞부분 일치 (edge n-gram) 하위 필드 (예: name.ngram)
+    public static final String NGRAM = "ngram";
+
     @Id
     @Field(type = FieldType.Keyword)
     private Long id;
 
-    @Field(type = FieldType.Text)
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "korean"),
+            otherFields = @InnerField(suffix = NGRAM, type = FieldType.Text,
+                    analyzer = "edge_ngram", searchAnalyzer = "edge_ngram_search"))
     private String name;
 
     @Field(type = FieldType.Double)
@@ -31,7 +43,17 @@ public class StadiumDocument {
     @Field(type = FieldType.Double)
     private Double lnt;
 
-    @Field(type = FieldType.Text)
+    // geo_distance 필터 / 정렬용 (lat, lnt 와 같은 값)
+    @GeoPointField
+    private GeoPoint location;
+
+    @Field(type = FieldType.Keyword)
+    private String status;
+
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "korean"),
+            otherFields = @InnerField(suffix = NGRAM, type = FieldType.Text,
+                    analyzer = "edge_ngram", searchAnalyzer = "edge_ngram_search"))
     private String address;
 
     @Field(type = FieldType.Double)
@@ -46,7 +68,10 @@ public class StadiumDocument {
     @Field(type = FieldType.Text)
     private String imgUrl;
 
-    @Field(type = FieldType.Text)
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "korean"),
+            otherFields = @InnerField(suffix = NGRAM, type = FieldType.Text,
+                    analyzer = "edge_ngram", searchAnalyzer = "edge_ngram_search"))
     private List<String> tags;
 
     public static StadiumDocument fromEntity(Stadium stadium) {
@@ -56,6 +81,10 @@ public class StadiumDocument {
                 .address(stadium.getAddress())
                 .lat(stadium.getLat())
                 .lnt(stadium.getLnt())
+                .location(stadium.getLat() == null || stadium.getLnt() == null ?
+                        null :
+                        new GeoPoint(stadium.getLat(), stadium.getLnt()))
+                .status(stadium.getStatus() == null ? null : stadium.getStatus().name())
                 .starAvg(stadium.getStarAvg())
                 .weekdayPricePerHalfHour(stadium.getWeekdayPricePerHalfHour())
                 .holidayPricePerHalfHour(stadium.getHolidayPricePerHalfHour())
@@ -1,6 +1,7 @@
 package com.minwonhaeso.esc.stadium.model.entity;
 
 import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.model.converter.ReservingTimeMaskConverter;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.CreateReservationRequest;
 import com.minwonhaeso.esc.stadium.model.type.PaymentType;
 import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
@@ -25,7 +26,11 @@ import java.util.stream.Collectors;
 @Builder
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "stadium_reservation")
+@Table(name = "stadium_reservation",
+        indexes = {
+                @Index(name = "idx_stadium_reservation_status_date", columnList = "status, reserving_date"),
+                @Index(name = "idx_stadium_reservation_member_date", columnList = "member_id, reserving_date, id"),
+                @Index(name = "idx_stadium_reservation_stadium_date", columnList = "stadium_id, reserving_date, id")})
 public class StadiumReservation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,13 +44,12 @@ public class StadiumReservation {
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
-    @Column(nullable = false)
+    @Column(name = "reserving_date", nullable = false)
     private LocalDate reservingDate;
 
     @Builder.Default
-    @ElementCollection
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Convert(converter = ReservingTimeMaskConverter.class)
+    @Column(name = "reserving_times_mask", nullable = false)
     private List<ReservingTime> reservingTimes = new ArrayList<>();
 
     @Column(nullable = false)
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
@@ -24,6 +25,7 @@ public class StadiumReservationItem {
     @JoinColumn(name = "item_id", nullable = false)
     private StadiumItem item;
 
+    @Setter
     @ManyToOne
     @JoinColumn(name = "reservation_id", nullable = false)
     private StadiumReservation reservation;
@@ -0,0 +1,53 @@
+package com.minwonhaeso.esc.stadium.model.entity;
+
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 체육관-날짜-시간대 점유 (취소되지 않은 예약의 시간대마다 한 행)
+ * 유니크 키로 같은 시간대 중복 예약을 DB 가 막는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "stadium_reservation_slot",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_stadium_reservation_slot",
+                columnNames = {"stadium_id", "reserving_date", "slot"}))
+public class StadiumReservationSlot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stadium_id", nullable = false)
+    private Stadium stadium;
+
+    @Column(name = "reserving_date", nullable = false)
+    private LocalDate reservingDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "slot", nullable = false, length = 10)
+    private ReservingTime slot;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    private StadiumReservation reservation;
+
+    public static StadiumReservationSlot of(StadiumReservation reservation, ReservingTime slot) {
+        return StadiumReservationSlot.builder()
+                .stadium(reservation.getStadium())
+                .reservingDate(reservation.getReservingDate())
+                .slot(slot)
+                .reservation(reservation)
+                .build();
+    }
+}
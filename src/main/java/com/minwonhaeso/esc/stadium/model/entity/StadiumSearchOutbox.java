@@ -0,0 +1,59 @@
+package com.minwonhaeso.esc.stadium.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 (ES) 에 반영할 체육관 변경
+ * 체육관을 바꾸는 트랜잭션에서 같이 쓰고, StadiumSearchIndexService 가 모아서 bulk 로 반영한 뒤 지운다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "stadium_search_outbox",
+        indexes = @Index(name = "idx_stadium_search_outbox_next_attempt", columnList = "next_attempt_at"))
+public class StadiumSearchOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stadium_id", nullable = false)
+    private Long stadiumId;
+
+    // 실패한 횟수
+    private int attempts;
+
+    // 이 시각 이후에 반영한다. (처리 중 / 재시도 대기)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static StadiumSearchOutbox of(Long stadiumId, LocalDateTime now) {
+        return StadiumSearchOutbox.builder()
+                .stadiumId(stadiumId)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * 처리하는 동안 다른 서버가 가져가지 않게 until 까지 미룬다. (처리 중 서버가 죽으면 until 이후 다시 처리)
+     */
+    public void claim(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void retryAt(LocalDateTime at) {
+        this.attempts++;
+        this.nextAttemptAt = at;
+    }
+}
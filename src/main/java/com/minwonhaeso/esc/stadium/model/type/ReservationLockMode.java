@@ -0,0 +1,9 @@
+package com.minwonhaeso.esc.stadium.model.type;
+
+/**
+ * 예약 시간대 선점 방식
+ * SCRIPT : Redis 스크립트 (락 없음), DAY : 체육관-날짜 단위 락, SLOT : 시간대 단위 락
+ */
+public enum ReservationLockMode {
+    SCRIPT, DAY, SLOT
+}
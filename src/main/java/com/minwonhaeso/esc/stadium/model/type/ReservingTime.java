@@ -3,7 +3,10 @@ package com.minwonhaeso.esc.stadium.model.type;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
@@ -66,4 +69,39 @@ public enum ReservingTime {
                 .collect(Collectors.toList())
                 .get(0);
     }
+
+    /**
+     * 하루 49개 시간대를 long 하나의 비트로 표현 (RT1 = 0번 비트)
+     */
+    public long getMask() {
+        return 1L << ordinal();
+    }
+
+    public static long toMask(Collection<ReservingTime> reservingTimes) {
+        long mask = 0L;
+        for (ReservingTime reservingTime : reservingTimes) {
+            mask |= reservingTime.getMask();
+        }
+        return mask;
+    }
+
+    /**
+     * from 부터 to 직전까지의 시간대 mask (운영 시간 open ~ close)
+     */
+    public static long rangeMask(ReservingTime from, ReservingTime to) {
+        if (to.ordinal() <= from.ordinal()) {
+            return 0L;
+        }
+        return (to.getMask() - 1) & ~(from.getMask() - 1);
+    }
+
+    public static List<ReservingTime> fromMask(long mask) {
+        List<ReservingTime> reservingTimes = new ArrayList<>();
+        for (ReservingTime reservingTime : values()) {
+            if ((mask & reservingTime.getMask()) != 0) {
+                reservingTimes.add(reservingTime);
+            }
+        }
+        return reservingTimes;
+    }
 }
@@ -0,0 +1,5 @@
+package com.minwonhaeso.esc.stadium.model.type;
+
+public enum StadiumSuggestionType {
+    STADIUM, TAG
+}
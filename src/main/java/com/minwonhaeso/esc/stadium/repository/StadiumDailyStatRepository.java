@@ -0,0 +1,40 @@
+package com.minwonhaeso.esc.stadium.repository;
+
+import com.minwonhaeso.esc.stadium.model.entity.StadiumDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StadiumDailyStatRepository extends JpaRepository<StadiumDailyStat, Long> {
+    List<StadiumDailyStat> findAllByStadiumIdAndStatDateBetweenOrderByStatDate(
+            Long stadiumId, LocalDate from, LocalDate to);
+
+    /**
+     * 체육관-날짜 집계에 값을 더한다. (행이 없으면 만든다)
+     */
+    @Modifying
+    @Query(value = "insert into stadium_daily_stat (stadium_id, stat_date, reservation_count, booked_slots, " +
+            "revenue, canceled_count, canceled_revenue, executed_count) " +
+            "values (:stadiumId, :statDate, :reservationCount, :bookedSlots, " +
+            ":revenue, :canceledCount, :canceledRevenue, :executedCount) " +
+            "on duplicate key update " +
+            "reservation_count = reservation_count + values(reservation_count), " +
+            "booked_slots = booked_slots + values(booked_slots), " +
+            "revenue = revenue + values(revenue), " +
+            "canceled_count = canceled_count + values(canceled_count), " +
+            "canceled_revenue = canceled_revenue + values(canceled_revenue), " +
+            "executed_count = executed_count + values(executed_count)",
+            nativeQuery = true)
+    int add(@Param("stadiumId") Long stadiumId,
+            @Param("statDate") LocalDate statDate,
+            @Param("reservationCount") int reservationCount,
+            @Param("bookedSlots") int bookedSlots,
+            @Param("revenue") long revenue,
+            @Param("canceledCount") int canceledCount,
+            @Param("canceledRevenue") long canceledRevenue,
+            @Param("executedCount") int executedCount);
+}
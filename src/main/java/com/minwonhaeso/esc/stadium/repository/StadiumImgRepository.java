@@ -3,12 +3,27 @@ package com.minwonhaeso.esc.stadium.repository;
 import com.minwonhaeso.esc.stadium.model.entity.Stadium;
 import com.minwonhaeso.esc.stadium.model.entity.StadiumImg;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface StadiumImgRepository extends JpaRepository<StadiumImg, Long> {
     List<StadiumImg> findAllByStadium(Stadium stadium);
     void deleteByStadiumIdAndImgUrl(Long StadiumId, String imgUrl);
+
+    /**
+     * 체육관별 대표 이미지 (가장 먼저 등록된 이미지 1장)
+     */
+    @Query("select i.stadium.id as stadiumId, i.imgUrl as imgUrl from StadiumImg i " +
+            "where i.id in (select min(f.id) from StadiumImg f where f.stadium.id in :stadiumIds group by f.stadium.id)")
+    List<StadiumImgUrl> findFirstImgUrlsByStadiumIdIn(@Param("stadiumIds") Collection<Long> stadiumIds);
+
+    interface StadiumImgUrl {
+        Long getStadiumId();
+        String getImgUrl();
+    }
 }
@@ -18,4 +18,6 @@ public interface StadiumLikeRepository extends JpaRepository<StadiumLike, Long>
 
     boolean existsByStadiumAndMember(Stadium stadium, Member member);
 
+    boolean existsByStadiumIdAndMember(Long stadiumId, Member member);
+
 }
@@ -2,12 +2,12 @@ package com.minwonhaeso.esc.stadium.repository;
 
 import com.minwonhaeso.esc.member.model.entity.Member;
 import com.minwonhaeso.esc.stadium.model.entity.Stadium;
-import com.minwonhaeso.esc.stadium.model.type.StadiumStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,7 +17,40 @@ public interface StadiumRepository extends JpaRepository<Stadium, Long> {
 
     @Override
     Page<Stadium> findAll(Pageable pageable);
-    Page<Stadium> findByMemberAndStatus(Member member, StadiumStatus status, Pageable pageable);
     List<Stadium> findAllByMember(Member member);
 
+    String NEAREST_SELECT = "select s.stadium_id as stadiumId, s.open_time as openTime, s.close_time as closeTime, " +
+            "ST_Distance_Sphere(s.location, POINT(:lnt, :lat)) as distance from stadium s ";
+    String NEAREST_ORDER = "order by distance, s.stadium_id limit :limit offset :offset";
+
+    /**
+     * 반경 안의 가까운 순 이용 가능한 체육관 (location 공간 인덱스로 사각형 안만 읽고 거리로 거른다)
+     * scripts/sql/stadium_location.sql
+     */
+    @Query(value = NEAREST_SELECT +
+            "where MBRContains(ST_MakeEnvelope(POINT(:minLnt, :minLat), POINT(:maxLnt, :maxLat)), s.location) " +
+            "and s.status = 'AVAILABLE' and ST_Distance_Sphere(s.location, POINT(:lnt, :lat)) <= :radius " +
+            NEAREST_ORDER,
+            nativeQuery = true)
+    List<StadiumDistance> findNearestWithin(@Param("lnt") Double lnt, @Param("lat") Double lat,
+                                            @Param("minLnt") Double minLnt, @Param("minLat") Double minLat,
+                                            @Param("maxLnt") Double maxLnt, @Param("maxLat") Double maxLat,
+                                            @Param("radius") Double radius,
+                                            @Param("limit") int limit, @Param("offset") long offset);
+
+    /**
+     * 가까운 순 이용 가능한 체육관 (반경 제한 없이 전체)
+     */
+    @Query(value = NEAREST_SELECT + "where s.status = 'AVAILABLE' " + NEAREST_ORDER, nativeQuery = true)
+    List<StadiumDistance> findNearest(@Param("lnt") Double lnt, @Param("lat") Double lat,
+                                      @Param("limit") int limit, @Param("offset") long offset);
+
+    interface StadiumDistance {
+        Long getStadiumId();
+        String getOpenTime();
+        String getCloseTime();
+        // 미터
+        Double getDistance();
+    }
+
 }
@@ -1,21 +1,43 @@
 package com.minwonhaeso.esc.stadium.repository;
 
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.entity.QStadiumImg;
 import com.minwonhaeso.esc.stadium.model.entity.Stadium;
 import com.minwonhaeso.esc.stadium.model.entity.StadiumLike;
 import com.minwonhaeso.esc.stadium.model.type.StadiumStatus;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.minwonhaeso.esc.stadium.model.entity.QStadium.stadium;
+import static com.minwonhaeso.esc.stadium.model.entity.QStadiumImg.stadiumImg;
 import static com.minwonhaeso.esc.stadium.model.entity.QStadiumLike.stadiumLike;
+import static com.minwonhaeso.esc.stadium.model.entity.QStadiumTag.stadiumTag;
 
 @Repository
 public class StadiumRepositorySupport extends QuerydslRepositorySupport {
+    private static final QStadiumImg FIRST_IMG = new QStadiumImg("firstImg");
+    // 대표 이미지 (가장 먼저 등록된 이미지)
+    private static final Expression<String> FIRST_IMG_URL = JPAExpressions
+            .select(stadiumImg.imgUrl)
+            .from(stadiumImg)
+            .where(stadiumImg.id.eq(JPAExpressions
+                    .select(FIRST_IMG.id.min())
+                    .from(FIRST_IMG)
+                    .where(FIRST_IMG.stadium.id.eq(stadium.id))));
+
     private final JPAQueryFactory queryFactory;
 
     public StadiumRepositorySupport(JPAQueryFactory queryFactory) {
@@ -23,16 +45,62 @@ public class StadiumRepositorySupport extends QuerydslRepositorySupport {
         this.queryFactory = queryFactory;
     }
 
-    public List<Stadium> getAllStadiumsNearLocation(Double lnt, Double lat, Pageable pageable) {
-        return queryFactory
-                .selectFrom(stadium)
-                .where(stadium.status.eq(StadiumStatus.AVAILABLE))
-                .limit(pageable.getPageSize())
-                .offset(pageable.getOffset())
-                .orderBy(Expressions.stringTemplate("ST_Distance_Sphere({0}, {1})",
-                        Expressions.stringTemplate("POINT({0}, {1})", lnt, lat),
-                        Expressions.stringTemplate("POINT({0}, {1})", stadium.lnt, stadium.lat)
-                ).asc()).fetch();
+    /**
+     * 체육관 목록 (삭제된 체육관 제외, 요청한 정렬 뒤 id 순)
+     * 목록 컬럼과 대표 이미지 1번, 태그 1번, 필요할 때만 count 1번
+     */
+    public Page<StadiumResponseDto> getAllStadiumResponses(Pageable pageable) {
+        Predicate condition = stadium.status.ne(StadiumStatus.DELETED);
+        List<StadiumResponseDto> content = fetchResponses(condition, pageable);
+        return PageableExecutionUtils.getPage(content, pageable, () -> countStadiums(condition));
+    }
+
+    /**
+     * 매니저가 등록한 이용 가능한 체육관 목록 (요청한 정렬 뒤 id 순)
+     */
+    public Page<StadiumResponseDto> getStadiumResponsesByManager(Long memberId, Pageable pageable) {
+        Predicate condition = stadium.member.memberId.eq(memberId)
+                .and(stadium.status.eq(StadiumStatus.AVAILABLE));
+        List<StadiumResponseDto> content = fetchResponses(condition, pageable);
+        return PageableExecutionUtils.getPage(content, pageable, () -> countStadiums(condition));
+    }
+
+    /**
+     * id 가 lastId 보다 큰 이용 가능한 체육관을 id 순으로 size 개 (전체를 나눠 읽을 때)
+     */
+    public List<StadiumResponseDto> getAvailableStadiumResponsesAfter(Long lastId, int size) {
+        return fetchResponses(stadium.id.gt(lastId).and(stadium.status.eq(StadiumStatus.AVAILABLE)),
+                PageRequest.of(0, size));
+    }
+
+    /**
+     * 이용 가능한 체육관 하나 (삭제, 정지된 체육관은 empty)
+     */
+    public Optional<StadiumResponseDto> getAvailableStadiumResponse(Long stadiumId) {
+        return toResponses(selectRows()
+                .where(stadium.id.eq(stadiumId).and(stadium.status.eq(StadiumStatus.AVAILABLE)))
+                .fetch())
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * id 순서 그대로의 체육관 목록
+     */
+    public List<StadiumResponseDto> getStadiumResponsesByIdIn(List<Long> stadiumIds) {
+        if (stadiumIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, StadiumResponseDto> responses = toResponses(selectRows()
+                .where(stadium.id.in(stadiumIds))
+                .fetch())
+                .stream()
+                .collect(Collectors.toMap(StadiumResponseDto::getStadiumId, response -> response));
+        return stadiumIds.stream()
+                .map(responses::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
     public List<StadiumLike> getAllAvailableLikeStadium(Long memberId,Pageable pageable){
         return queryFactory
@@ -43,4 +111,67 @@ public class StadiumRepositorySupport extends QuerydslRepositorySupport {
                 .offset(pageable.getOffset())
                 .fetch();
     }
+
+    private List<StadiumResponseDto> fetchResponses(Predicate condition, Pageable pageable) {
+        JPAQuery<Tuple> query = selectRows().where(condition);
+        if (pageable.getSort().isSorted()) {
+            getQuerydsl().applySorting(pageable.getSort(), query);
+        }
+        // 같은 값끼리 페이지가 섞이지 않게 마지막은 id 순
+        return toResponses(query
+                .orderBy(stadium.id.asc())
+                .limit(pageable.getPageSize())
+                .offset(pageable.getOffset())
+                .fetch());
+    }
+
+    // 목록 행에 태그를 한 번에 붙인다.
+    private List<StadiumResponseDto> toResponses(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<String>> tags = queryFactory
+                .select(stadiumTag.stadium.id, stadiumTag.name)
+                .from(stadiumTag)
+                .where(stadiumTag.stadium.id.in(rows.stream()
+                        .map(row -> row.get(stadium.id))
+                        .collect(Collectors.toList())))
+                .orderBy(stadiumTag.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(tag -> tag.get(stadiumTag.stadium.id),
+                        Collectors.mapping(tag -> tag.get(stadiumTag.name), Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> StadiumResponseDto.builder()
+                        .stadiumId(row.get(stadium.id))
+                        .name(row.get(stadium.name))
+                        .lat(row.get(stadium.lat))
+                        .lnt(row.get(stadium.lnt))
+                        .address(row.get(stadium.address))
+                        .starAvg(row.get(stadium.starAvg))
+                        .weekdayPricePerHalfHour(row.get(stadium.weekdayPricePerHalfHour))
+                        .holidayPricePerHalfHour(row.get(stadium.holidayPricePerHalfHour))
+                        .imgUrl(row.get(FIRST_IMG_URL))
+                        .tags(tags.getOrDefault(row.get(stadium.id), new ArrayList<>()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private JPAQuery<Tuple> selectRows() {
+        return queryFactory
+                .select(stadium.id, stadium.name, stadium.lat, stadium.lnt, stadium.address, stadium.starAvg,
+                        stadium.weekdayPricePerHalfHour, stadium.holidayPricePerHalfHour, FIRST_IMG_URL)
+                .from(stadium);
+    }
+
+    private long countStadiums(Predicate condition) {
+        Long count = queryFactory
+                .select(stadium.count())
+                .from(stadium)
+                .where(condition)
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
 }
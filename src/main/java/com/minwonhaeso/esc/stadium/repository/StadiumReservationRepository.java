@@ -3,24 +3,158 @@ package com.minwonhaeso.esc.stadium.repository;
 import com.minwonhaeso.esc.member.model.entity.Member;
 import com.minwonhaeso.esc.stadium.model.entity.Stadium;
 import com.minwonhaeso.esc.stadium.model.entity.StadiumReservation;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
 import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface StadiumReservationRepository extends JpaRepository<StadiumReservation, Long> {
-    Page<StadiumReservation> findAllByMemberOrderByReservingDateDesc(
-            Member member, Pageable pageable);
+    String SUMMARY_SELECT = "select r.id as reservationId, r.reservingDate as reservingDate, " +
+            "r.status as status, s.id as stadiumId, s.name as name, s.address as address, " +
+            "s.detailAddress as detailAddress, s.starAvg as starAvg " +
+            "from StadiumReservation r join r.stadium s ";
+    String USER_SUMMARY_SELECT = "select r.id as reservationId, r.reservingDate as reservingDate, " +
+            "r.createdAt as createdAt, r.status as status, r.stadium.id as stadiumId, m.name as name " +
+            "from StadiumReservation r join r.member m ";
+    String BEFORE_CURSOR = "and (r.reservingDate < :reservingDate " +
+            "or (r.reservingDate = :reservingDate and r.id < :id)) ";
+    String LATEST_FIRST = "order by r.reservingDate desc, r.id desc";
+
     Page<StadiumReservation> findAllByMemberAndReservingDateAfterOrderByReservingDateDesc(
             Member member, LocalDate reservingDate, Pageable pageable);
-    Page<StadiumReservation> findAllByStadiumOrderByReservingDateDesc(Stadium stadium, Pageable pageable);
+
+    // 예약 목록 (응답에 필요한 컬럼만 한 번에 읽는다, 체육관 이미지는 StadiumImgRepository 에서 따로)
+    @Query(value = SUMMARY_SELECT + "where r.member = :member " + LATEST_FIRST,
+            countQuery = "select count(r) from StadiumReservation r where r.member = :member")
+    Page<ReservationSummary> findSummariesByMember(@Param("member") Member member, Pageable pageable);
+
+    // 커서 목록 (count 쿼리 없이 size + 1 건만 읽는다)
+    @Query(SUMMARY_SELECT + "where r.member = :member " + LATEST_FIRST)
+    Slice<ReservationSummary> findSummarySliceByMember(@Param("member") Member member, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where r.member = :member " + BEFORE_CURSOR + LATEST_FIRST)
+    Slice<ReservationSummary> findSummarySliceByMemberBefore(
+            @Param("member") Member member,
+            @Param("reservingDate") LocalDate reservingDate,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query(value = USER_SUMMARY_SELECT + "where r.stadium = :stadium " + LATEST_FIRST,
+            countQuery = "select count(r) from StadiumReservation r where r.stadium = :stadium")
+    Page<ReservationUserSummary> findUserSummariesByStadium(@Param("stadium") Stadium stadium, Pageable pageable);
+
+    @Query(USER_SUMMARY_SELECT + "where r.stadium = :stadium " + LATEST_FIRST)
+    Slice<ReservationUserSummary> findUserSummarySliceByStadium(
+            @Param("stadium") Stadium stadium, Pageable pageable);
+
+    @Query(USER_SUMMARY_SELECT + "where r.stadium = :stadium " + BEFORE_CURSOR + LATEST_FIRST)
+    Slice<ReservationUserSummary> findUserSummarySliceByStadiumBefore(
+            @Param("stadium") Stadium stadium,
+            @Param("reservingDate") LocalDate reservingDate,
+            @Param("id") Long id,
+            Pageable pageable);
+
     List<StadiumReservation> findAllByStadiumAndReservingDate(Stadium stadium, LocalDate reservingDate);
+
+    @Query(value = "select coalesce(bit_or(r.reserving_times_mask), 0) from stadium_reservation r " +
+            "where r.stadium_id = :stadiumId and r.reserving_date = :reservingDate and r.status <> :status",
+            nativeQuery = true)
+    Long findReservedMaskByStatusNot(
+            @Param("stadiumId") Long stadiumId,
+            @Param("reservingDate") LocalDate reservingDate,
+            @Param("status") String status);
+
+    @Query("select r.reservingDate as reservingDate, r.reservingTimes as reservingTimes " +
+            "from StadiumReservation r where r.stadium.id = :stadiumId " +
+            "and r.reservingDate between :from and :to and r.status <> :status")
+    List<ReservingTimesByDate> findAllReservingTimesByDateBetweenAndStatusNot(
+            @Param("stadiumId") Long stadiumId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("status") StadiumReservationStatus status);
+
+    @Query("select r.stadium.id as stadiumId, r.reservingTimes as reservingTimes " +
+            "from StadiumReservation r where r.stadium.id in :stadiumIds " +
+            "and r.reservingDate = :reservingDate and r.status <> :status")
+    List<ReservingTimesByStadium> findAllReservingTimesByStadiumIdInAndStatusNot(
+            @Param("stadiumIds") Collection<Long> stadiumIds,
+            @Param("reservingDate") LocalDate reservingDate,
+            @Param("status") StadiumReservationStatus status);
+
     Long countAllByMemberAndStadiumAndStatusIs(Member member, Stadium stadium, StadiumReservationStatus status);
 
     List<StadiumReservation> findALlByMember(Member member);
+
+    /**
+     * 예약일이 지난 RESERVED 예약 id (idx_stadium_reservation_status_date 순서대로, 처리 중 다른 변경은 막는다)
+     */
+    @Query(value = "select r.id from stadium_reservation r " +
+            "where r.status = 'RESERVED' and r.reserving_date < :before " +
+            "order by r.reserving_date, r.id limit :limit for update",
+            nativeQuery = true)
+    List<Long> findReservedIdsBeforeForUpdate(
+            @Param("before") LocalDate before,
+            @Param("limit") int limit);
+
+    @Query("select r.stadium.id as stadiumId, r.reservingDate as reservingDate, count(r) as count " +
+            "from StadiumReservation r where r.id in :ids " +
+            "group by r.stadium.id, r.reservingDate")
+    List<ReservationCountByDate> countAllByIdInGroupByStadiumAndDate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "update stadium_reservation set status = :status, updated_at = now() " +
+            "where id in :ids and status = 'RESERVED'",
+            nativeQuery = true)
+    int updateStatusByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") String status);
+
+    interface ReservingTimesByStadium {
+        Long getStadiumId();
+        List<ReservingTime> getReservingTimes();
+    }
+
+    interface ReservationKey {
+        Long getReservationId();
+        LocalDate getReservingDate();
+    }
+
+    interface ReservationSummary extends ReservationKey {
+        StadiumReservationStatus getStatus();
+        Long getStadiumId();
+        String getName();
+        String getAddress();
+        String getDetailAddress();
+        Double getStarAvg();
+    }
+
+    interface ReservationUserSummary extends ReservationKey {
+        LocalDateTime getCreatedAt();
+        StadiumReservationStatus getStatus();
+        Long getStadiumId();
+        String getName();
+    }
+
+    interface ReservationCountByDate {
+        Long getStadiumId();
+        LocalDate getReservingDate();
+        Long getCount();
+    }
+
+    interface ReservingTimesByDate {
+        LocalDate getReservingDate();
+        List<ReservingTime> getReservingTimes();
+    }
 }
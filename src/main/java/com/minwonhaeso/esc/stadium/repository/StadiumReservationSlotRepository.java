@@ -0,0 +1,27 @@
+package com.minwonhaeso.esc.stadium.repository;
+
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservation;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservationSlot;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StadiumReservationSlotRepository extends JpaRepository<StadiumReservationSlot, Long> {
+    @Modifying
+    @Query("delete from StadiumReservationSlot s where s.reservation = :reservation")
+    int deleteAllByReservation(@Param("reservation") StadiumReservation reservation);
+
+    @Query("select distinct s.reservingDate from StadiumReservationSlot s " +
+            "where s.stadium.id = :stadiumId and s.reservingDate in :dates and s.slot in :slots")
+    List<LocalDate> findOccupiedDates(@Param("stadiumId") Long stadiumId,
+                                      @Param("dates") Collection<LocalDate> dates,
+                                      @Param("slots") Collection<ReservingTime> slots);
+}
@@ -0,0 +1,26 @@
+package com.minwonhaeso.esc.stadium.repository;
+
+import com.minwonhaeso.esc.stadium.model.entity.StadiumSearchOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StadiumSearchOutboxRepository extends JpaRepository<StadiumSearchOutbox, Long> {
+    /**
+     * 반영할 때가 된 변경을 오래된 순으로 limit 개 잠근다. (다른 서버가 잠근 행은 건너뛴다)
+     */
+    @Query(value = "select * from stadium_search_outbox o " +
+            "where o.next_attempt_at <= :now " +
+            "order by o.id limit :limit for update skip locked",
+            nativeQuery = true)
+    List<StadiumSearchOutbox> findDueForUpdate(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    @Query("select min(o.createdAt) from StadiumSearchOutbox o")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
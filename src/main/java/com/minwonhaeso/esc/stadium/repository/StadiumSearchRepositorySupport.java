@@ -0,0 +1,116 @@
+package com.minwonhaeso.esc.stadium.repository;
+
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumDocument;
+import com.minwonhaeso.esc.stadium.model.type.StadiumStatus;
+import lombok.RequiredArgsConstructor;
+import org.elasticsearch.common.unit.DistanceUnit;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MultiMatchQueryBuilder;
+import org.elasticsearch.index.query.Operator;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.minwonhaeso.esc.stadium.model.entity.StadiumDocument.NGRAM;
+
+@RequiredArgsConstructor
+@Repository
+public class StadiumSearchRepositorySupport {
+    static final String LOCATION = "location";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    /**
+     * 검색어 검색 (점수 순)
+     */
+    public Page<StadiumResponseDto> search(String searchValue, Pageable pageable) {
+        NativeSearchQuery query = new NativeSearchQueryBuilder()
+                .withQuery(textQuery(searchValue))
+                .withPageable(pageable)
+                .withTrackTotalHits(true)
+                .build();
+        return toPage(elasticsearchOperations.search(query, StadiumDocument.class), pageable, false);
+    }
+
+    /**
+     * 검색어 + 반경 안 체육관을 가까운 순으로 (거리 포함, m)
+     * 검색, 거리 필터, 거리 정렬을 요청 한 번으로 한다.
+     */
+    public Page<StadiumResponseDto> searchNearLocation(
+            String searchValue, Double lnt, Double lat, Double radiusMeters, Pageable pageable) {
+        return toPage(elasticsearchOperations.search(
+                nearLocationQuery(searchValue, lnt, lat, radiusMeters, pageable), StadiumDocument.class), pageable, true);
+    }
+
+    /**
+     * 이름, 주소, 태그에 대한 match 쿼리 (검색어의 모든 단어가 한 필드에 있어야 함)
+     * 형태소 (풋살장 -> 풋살, 장) 와 단어 앞부분 (풋 -> 풋살장) 으로 찾고, 이름에 맞으면 점수를 더 준다.
+     * 와일드카드 (*검색어*) 와 달리 색인된 단어만 찾으므로 문서 수가 늘어도 느려지지 않는다.
+     */
+    static MultiMatchQueryBuilder textQuery(String searchValue) {
+        return QueryBuilders.multiMatchQuery(searchValue.trim())
+                .field("name", 3)
+                .field("name." + NGRAM, 2)
+                .field("tags", 2)
+                .field("tags." + NGRAM)
+                .field("address")
+                .field("address." + NGRAM)
+                .type(MultiMatchQueryBuilder.Type.BEST_FIELDS)
+                .operator(Operator.AND);
+    }
+
+    static NativeSearchQuery nearLocationQuery(
+            String searchValue, Double lnt, Double lat, Double radiusMeters, Pageable pageable) {
+        BoolQueryBuilder query = QueryBuilders.boolQuery()
+                .filter(QueryBuilders.geoDistanceQuery(LOCATION)
+                        .point(lat, lnt)
+                        .distance(radiusMeters, DistanceUnit.METERS))
+                // status 가 아직 없는 (매핑 전에 색인된) 문서도 빼므로 삭제, 정지된 체육관은 나오지 않는다.
+                .filter(QueryBuilders.termQuery("status", StadiumStatus.AVAILABLE.name()));
+
+        if (StringUtils.hasText(searchValue)) {
+            query.must(textQuery(searchValue));
+        }
+
+        return new NativeSearchQueryBuilder()
+                .withQuery(query)
+                .withSorts(SortBuilders.geoDistanceSort(LOCATION, lat, lnt)
+                        .unit(DistanceUnit.METERS)
+                        .order(SortOrder.ASC))
+                // 정렬은 거리 순으로만 한다.
+                .withPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .withTrackTotalHits(true)
+                .build();
+    }
+
+    // 거리 정렬이면 첫 정렬 값이 거리 (m)
+    private static Page<StadiumResponseDto> toPage(
+            SearchHits<StadiumDocument> hits, Pageable pageable, boolean sortedByDistance) {
+        List<StadiumResponseDto> stadiums = hits.getSearchHits().stream()
+                .map(hit -> sortedByDistance ? withDistance(hit) : StadiumResponseDto.fromDocument(hit.getContent()))
+                .collect(Collectors.toList());
+        return new PageImpl<>(stadiums, pageable, hits.getTotalHits());
+    }
+
+    private static StadiumResponseDto withDistance(SearchHit<StadiumDocument> hit) {
+        Object distance = hit.getSortValues().isEmpty() ? null : hit.getSortValues().get(0);
+        return StadiumResponseDto.fromDocument(hit.getContent()).toBuilder()
+                .distance(distance instanceof Number ? ((Number) distance).doubleValue() : null)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.minwonhaeso.esc.stadium.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 별 처리 상태 / 응답 (Redis)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepository {
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean saveIfAbsent(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(getKey(key), value, ttl));
+    }
+
+    public void save(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(getKey(key), value, ttl);
+    }
+
+    public String find(String key) {
+        return redisTemplate.opsForValue().get(getKey(key));
+    }
+
+    public void delete(String key) {
+        redisTemplate.delete(getKey(key));
+    }
+
+    private static String getKey(String key) {
+        return "IDEM-" + key;
+    }
+}
@@ -0,0 +1,34 @@
+package com.minwonhaeso.esc.stadium.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 임시 예약 만료 시각 ZSET (score = 만료 epoch millis)
+ * ZREM 에 성공한 쪽 (전환, 취소, 만료 처리 중 하나) 만 시간대를 가져간다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationHoldExpiryRepository {
+    private static final String KEY = "reservationHold:expiry";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void add(String holdId, long expiresAtMillis) {
+        redisTemplate.opsForZSet().add(KEY, holdId, expiresAtMillis);
+    }
+
+    public boolean remove(String holdId) {
+        Long removed = redisTemplate.opsForZSet().remove(KEY, holdId);
+        return removed != null && removed > 0;
+    }
+
+    public Set<String> findAllExpired(long nowMillis, int limit) {
+        Set<String> holdIds = redisTemplate.opsForZSet().rangeByScore(KEY, 0, nowMillis, 0, limit);
+        return holdIds == null ? Collections.emptySet() : holdIds;
+    }
+}
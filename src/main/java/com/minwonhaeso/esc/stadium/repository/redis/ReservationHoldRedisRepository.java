@@ -0,0 +1,7 @@
+package com.minwonhaeso.esc.stadium.repository.redis;
+
+import com.minwonhaeso.esc.stadium.model.entity.ReservationHold;
+import org.springframework.data.repository.CrudRepository;
+
+public interface ReservationHoldRedisRepository extends CrudRepository<ReservationHold, String> {
+}
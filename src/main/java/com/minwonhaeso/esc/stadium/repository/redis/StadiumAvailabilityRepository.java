@@ -0,0 +1,215 @@
+package com.minwonhaeso.esc.stadium.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 체육관-날짜별 예약 시간대 비트맵 (Redis)
+ * SETBIT offset = ReservingTime.ordinal(), 63번 비트는 DB 로딩 완료 표시
+ */
+@Repository
+@RequiredArgsConstructor
+public class StadiumAvailabilityRepository {
+    private static final int SLOT_COUNT = 49;
+    private static final int LOADED_OFFSET = 63;
+    public static final long NOT_LOADED = -1L;
+    public static final long CONFLICT = 0L;
+    public static final long CLAIMED = 1L;
+
+    private static final RedisScript<Long> READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('BITFIELD', KEYS[1], 'GET', 'u" + SLOT_COUNT + "', 0)[1]",
+            Long.class);
+
+    // 여러 키를 한 번에 읽는다. 키 순서대로 비트필드, 없는 키는 -1
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local results = {} " +
+            "for k = 1, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[k]) == 0 then " +
+            "    results[k] = -1 " +
+            "  else " +
+            "    results[k] = redis.call('BITFIELD', KEYS[k], 'GET', 'u" + SLOT_COUNT + "', 0)[1] " +
+            "  end " +
+            "end " +
+            "return results",
+            List.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('SETBIT', KEYS[1], " + LOADED_OFFSET + ", 1) " +
+            "for i = 2, #ARGV do redis.call('SETBIT', KEYS[1], ARGV[i], 1) end " +
+            "redis.call('EXPIREAT', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "for i = 2, #ARGV do redis.call('SETBIT', KEYS[1], ARGV[i], ARGV[1]) end " +
+            "return 1",
+            Long.class);
+
+    // 요청한 시간대가 모두 비어 있을 때만 한 번에 채운다.
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "for i = 1, #ARGV do " +
+            "  if redis.call('GETBIT', KEYS[1], ARGV[i]) == 1 then return 0 end " +
+            "end " +
+            "for i = 1, #ARGV do redis.call('SETBIT', KEYS[1], ARGV[i], 1) end " +
+            "return 1",
+            Long.class);
+
+    // 여러 날짜 (KEYS) 에 같은 시간대를 선점한다. 날짜마다 따로 판단해 결과를 순서대로 돌려준다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local results = {} " +
+            "for k = 1, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[k]) == 0 then " +
+            "    results[k] = -1 " +
+            "  else " +
+            "    results[k] = 1 " +
+            "    for i = 1, #ARGV do " +
+            "      if redis.call('GETBIT', KEYS[k], ARGV[i]) == 1 then results[k] = 0 break end " +
+            "    end " +
+            "    if results[k] == 1 then " +
+            "      for i = 1, #ARGV do redis.call('SETBIT', KEYS[k], ARGV[i], 1) end " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return results",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @return 예약된 시간대 mask, 아직 DB 에서 로딩되지 않았다면 NOT_LOADED
+     */
+    public long findReservedMask(Long stadiumId, LocalDate date) {
+        Long bitfield = redisTemplate.execute(READ_SCRIPT,
+                Collections.singletonList(getKey(stadiumId, date)));
+
+        if (bitfield == null || bitfield < 0) {
+            return NOT_LOADED;
+        }
+
+        // BITFIELD 는 offset 0 을 최상위 비트로 읽으므로 비트 순서를 뒤집는다.
+        return Long.reverse(bitfield) >>> (Long.SIZE - SLOT_COUNT);
+    }
+
+    /**
+     * 한 체육관의 여러 날짜 (임시 예약으로 선점한 시간대 포함)
+     * @return 날짜 순서대로 예약된 시간대 mask, 로딩 전이면 NOT_LOADED
+     */
+    public List<Long> findReservedMasks(Long stadiumId, List<LocalDate> dates) {
+        return findReservedMasks(dates.stream()
+                .map(date -> getKey(stadiumId, date))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 여러 체육관의 같은 날짜 (임시 예약으로 선점한 시간대 포함)
+     * @return 체육관 순서대로 예약된 시간대 mask, 로딩 전이면 NOT_LOADED
+     */
+    public List<Long> findReservedMasks(List<Long> stadiumIds, LocalDate date) {
+        return findReservedMasks(stadiumIds.stream()
+                .map(stadiumId -> getKey(stadiumId, date))
+                .collect(Collectors.toList()));
+    }
+
+    public void load(Long stadiumId, LocalDate date, long reservedMask) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(getExpireAt(date)));
+        args.addAll(toOffsets(reservedMask));
+
+        redisTemplate.execute(LOAD_SCRIPT,
+                Collections.singletonList(getKey(stadiumId, date)), args.toArray());
+    }
+
+    /**
+     * @return CLAIMED, 이미 예약된 시간대가 있으면 CONFLICT, 로딩 전이면 NOT_LOADED
+     */
+    public long claim(Long stadiumId, LocalDate date, long mask) {
+        Long result = redisTemplate.execute(CLAIM_SCRIPT,
+                Collections.singletonList(getKey(stadiumId, date)), toOffsets(mask).toArray());
+        return result == null ? NOT_LOADED : result;
+    }
+
+    /**
+     * @return 날짜 순서대로 CLAIMED, CONFLICT, NOT_LOADED
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> claimAll(Long stadiumId, List<LocalDate> dates, long mask) {
+        List<String> keys = dates.stream()
+                .map(date -> getKey(stadiumId, date))
+                .collect(Collectors.toList());
+
+        List<Long> results = redisTemplate.execute(CLAIM_ALL_SCRIPT, keys, toOffsets(mask).toArray());
+        if (results == null) {
+            return Collections.nCopies(dates.size(), NOT_LOADED);
+        }
+        return results;
+    }
+
+    public void reserve(Long stadiumId, LocalDate date, long mask) {
+        update(stadiumId, date, mask, "1");
+    }
+
+    public void release(Long stadiumId, LocalDate date, long mask) {
+        update(stadiumId, date, mask, "0");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> findReservedMasks(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> bitfields = redisTemplate.execute(READ_ALL_SCRIPT, keys);
+        if (bitfields == null) {
+            return Collections.nCopies(keys.size(), NOT_LOADED);
+        }
+        return bitfields.stream()
+                .map(bitfield -> bitfield < 0 ? NOT_LOADED : Long.reverse(bitfield) >>> (Long.SIZE - SLOT_COUNT))
+                .collect(Collectors.toList());
+    }
+
+    private void update(Long stadiumId, LocalDate date, long mask, String bit) {
+        List<String> args = new ArrayList<>();
+        args.add(bit);
+        args.addAll(toOffsets(mask));
+
+        redisTemplate.execute(UPDATE_SCRIPT,
+                Collections.singletonList(getKey(stadiumId, date)), args.toArray());
+    }
+
+    private static List<String> toOffsets(long mask) {
+        List<String> offsets = new ArrayList<>();
+        for (int offset = 0; offset < SLOT_COUNT; offset++) {
+            if ((mask & (1L << offset)) != 0) {
+                offsets.add(String.valueOf(offset));
+            }
+        }
+        return offsets;
+    }
+
+    private static long getExpireAt(LocalDate date) {
+        long expireAt = date.plusDays(2).atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+        return Math.max(expireAt, Instant.now().plus(Duration.ofHours(1)).getEpochSecond());
+    }
+
+    private static String getKey(Long stadiumId, LocalDate date) {
+        return "RTA-" + stadiumId + "-" + date;
+    }
+}
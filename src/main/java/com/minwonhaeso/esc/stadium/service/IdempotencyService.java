@@ -0,0 +1,99 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.repository.redis.IdempotencyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.IdempotencyKeyReused;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.RequestInProgress;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청은 처음 한 번만 실행하고, 재시도에는 저장해 둔 응답을 돌려준다.
+ * 키는 회원, 요청 종류별로 나누고 다른 요청 본문에 같은 키를 쓰면 거절한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class IdempotencyService {
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final Duration IN_PROGRESS_TTL = Duration.ofMinutes(1);
+    private static final Duration RESPONSE_TTL = Duration.ofHours(24);
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+
+    public <T> T execute(Member member, String scope, String idempotencyKey, Object request,
+                         TypeReference<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = member.getMemberId() + "-" + scope + "-" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        if (!idempotencyRepository.saveIfAbsent(key, IN_PROGRESS, IN_PROGRESS_TTL)) {
+            return replay(key, fingerprint, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 저장하지 않는다. 같은 키로 다시 시도할 수 있다.
+            idempotencyRepository.delete(key);
+            throw e;
+        }
+
+        try {
+            ObjectNode stored = objectMapper.createObjectNode();
+            stored.put("fingerprint", fingerprint);
+            stored.set("response", objectMapper.valueToTree(response));
+            idempotencyRepository.save(key, objectMapper.writeValueAsString(stored), RESPONSE_TTL);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Idempotent response store failed. key : {}", key, e);
+            idempotencyRepository.delete(key);
+        }
+        return response;
+    }
+
+    private <T> T replay(String key, String fingerprint, TypeReference<T> responseType) {
+        String value = idempotencyRepository.find(key);
+        if (value == null || IN_PROGRESS.equals(value)) {
+            throw new StadiumException(RequestInProgress);
+        }
+
+        try {
+            JsonNode stored = objectMapper.readTree(value);
+            if (!fingerprint.equals(stored.path("fingerprint").asText())) {
+                throw new StadiumException(IdempotencyKeyReused);
+            }
+
+            log.info("Replay idempotent response. key : {}", key);
+            return objectMapper.convertValue(stored.get("response"), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is broken. key : " + key, e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsString(request)
+                    .getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
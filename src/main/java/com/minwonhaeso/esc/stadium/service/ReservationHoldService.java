@@ -0,0 +1,172 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.HoldRequest;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.HoldResponse;
+import com.minwonhaeso.esc.stadium.model.entity.ReservationHold;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import com.minwonhaeso.esc.stadium.repository.redis.ReservationHoldExpiryRepository;
+import com.minwonhaeso.esc.stadium.repository.redis.ReservationHoldRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.*;
+import static com.minwonhaeso.esc.stadium.service.StadiumAvailabilityService.toReservingMask;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ReservationHoldService {
+    private static final long HOLD_GRACE_SECONDS = 600;
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final StadiumRepository stadiumRepository;
+    private final ReservationHoldRedisRepository reservationHoldRedisRepository;
+    private final ReservationHoldExpiryRepository reservationHoldExpiryRepository;
+    private final StadiumAvailabilityService stadiumAvailabilityService;
+
+    @Value("${reservation.hold-seconds:300}")
+    private long holdSeconds = 300;
+
+    /**
+     * 결제 전까지 시간대를 holdSeconds 동안 선점한다.
+     * 선점한 시간대는 예약 페이지에서 예약된 시간대로 보인다.
+     */
+    public HoldResponse hold(Member member, Long stadiumId, HoldRequest request) {
+        if (!stadiumRepository.existsById(stadiumId)) {
+            throw new StadiumException(StadiumNotFound);
+        }
+
+        long reservingMask = toReservingMask(request.getReservingTimes());
+        if (reservingMask == 0) {
+            throw new StadiumException(TimeFormatNotAccepted);
+        }
+
+        LocalDate date = request.getReservingDate();
+        if (date == null || date.isBefore(LocalDate.now())) {
+            throw new StadiumException(TimeFormatNotAccepted);
+        }
+
+        stadiumAvailabilityService.claim(stadiumId, date, reservingMask);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(holdSeconds);
+        ReservationHold hold = ReservationHold.builder()
+                .id(UUID.randomUUID().toString())
+                .memberId(member.getMemberId())
+                .stadiumId(stadiumId)
+                .reservingDate(date)
+                .reservingMask(reservingMask)
+                .expiresAt(expiresAt)
+                .expiration(holdSeconds + HOLD_GRACE_SECONDS)
+                .build();
+
+        try {
+            reservationHoldRedisRepository.save(hold);
+            reservationHoldExpiryRepository.add(hold.getId(), toEpochMillis(expiresAt));
+        } catch (RuntimeException e) {
+            stadiumAvailabilityService.markReleased(stadiumId, date, reservingMask);
+            throw e;
+        }
+
+        return HoldResponse.builder()
+                .holdId(hold.getId())
+                .stadiumId(stadiumId)
+                .date(date.toString())
+                .reservedTimes(ReservingTime.fromMask(reservingMask).stream()
+                        .map(ReservingTime::getTime)
+                        .collect(Collectors.toList()))
+                .expiresAt(expiresAt.toString())
+                .build();
+    }
+
+    /**
+     * 임시 예약을 예약으로 전환한다. 선점한 시간대는 그대로 예약이 가져가고,
+     * 예약 트랜잭션이 커밋되지 않으면 다시 비워준다.
+     */
+    public void convert(Member member, Long stadiumId, String holdId, LocalDate date, long reservingMask) {
+        ReservationHold hold = getHold(member, holdId);
+
+        if (!hold.getStadiumId().equals(stadiumId)
+                || !hold.getReservingDate().equals(date)
+                || hold.getReservingMask() != reservingMask) {
+            throw new StadiumException(HoldNotMatch);
+        }
+
+        if (hold.getExpiresAt().isBefore(LocalDateTime.now())
+                || !reservationHoldExpiryRepository.remove(holdId)) {
+            throw new StadiumException(HoldExpired);
+        }
+
+        reservationHoldRedisRepository.delete(hold);
+        stadiumAvailabilityService.releaseOnRollback(stadiumId, date, reservingMask);
+    }
+
+    public void release(Member member, Long stadiumId, String holdId) {
+        ReservationHold hold = getHold(member, holdId);
+
+        if (!hold.getStadiumId().equals(stadiumId)) {
+            throw new StadiumException(HoldNotMatch);
+        }
+
+        if (reservationHoldExpiryRepository.remove(holdId)) {
+            stadiumAvailabilityService.markReleased(
+                    hold.getStadiumId(), hold.getReservingDate(), hold.getReservingMask());
+        }
+        reservationHoldRedisRepository.delete(hold);
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.reservation-hold.sweep-delay:10000}")
+    public void releaseExpiredHolds() {
+        Set<String> holdIds = reservationHoldExpiryRepository
+                .findAllExpired(System.currentTimeMillis(), SWEEP_BATCH_SIZE);
+
+        int released = 0;
+        for (String holdId : holdIds) {
+            // 전환이나 취소가 먼저 가져간 hold 는 건너뛴다.
+            if (!reservationHoldExpiryRepository.remove(holdId)) {
+                continue;
+            }
+
+            ReservationHold hold = reservationHoldRedisRepository.findById(holdId).orElse(null);
+            if (hold == null) {
+                log.warn("Expired reservation hold not found. hold id : {}", holdId);
+                continue;
+            }
+
+            stadiumAvailabilityService.markReleased(
+                    hold.getStadiumId(), hold.getReservingDate(), hold.getReservingMask());
+            reservationHoldRedisRepository.delete(hold);
+            released++;
+        }
+
+        if (released > 0) {
+            log.info("[" + LocalDateTime.now() + "] 만료된 임시 예약 " + released + "건의 시간대가 해제되었습니다.");
+        }
+    }
+
+    private ReservationHold getHold(Member member, String holdId) {
+        ReservationHold hold = reservationHoldRedisRepository.findById(holdId).orElseThrow(
+                () -> new StadiumException(HoldNotFound));
+
+        if (!hold.getMemberId().equals(member.getMemberId())) {
+            throw new StadiumException(UnAuthorizedAccess);
+        }
+        return hold;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,161 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumSuggestionDto;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepositorySupport;
+import com.minwonhaeso.esc.util.HangulKeys;
+import com.minwonhaeso.esc.util.SuggestTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 체육관 이름 / 종목 태그 자동완성 (서버 메모리, 초성 검색 포함)
+ * StadiumGeoIndexService 와 같이 시작할 때 전체를 읽고, stadium:changed 알림을 받으면 그 체육관만 다시 읽는다.
+ * 조회는 DB, ES 를 읽지 않는다.
+ */
+@Slf4j
+@Service
+public class StadiumAutocompleteService extends StadiumIndexLoader<StadiumAutocompleteService.Index> {
+    static final int MAX_SUGGESTIONS = 10;
+    // 짧은 (입력한 검색어와 가까운) 문구부터
+    private static final Comparator<StadiumSuggestionDto> ORDER = Comparator
+            .comparingInt((StadiumSuggestionDto suggestion) -> suggestion.getText().length())
+            .thenComparing(StadiumSuggestionDto::getText)
+            .thenComparing(StadiumSuggestionDto::getType)
+            .thenComparing(StadiumSuggestionDto::getStadiumId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    @Value("${stadium.autocomplete.enabled:true}")
+    private boolean enabled = true;
+
+    public StadiumAutocompleteService(StadiumRepositorySupport stadiumRepositorySupport) {
+        super(stadiumRepositorySupport, "stadium-autocomplete");
+    }
+
+    /**
+     * 검색어로 시작하는 (단어 단위) 체육관 이름, 태그
+     */
+    public List<StadiumSuggestionDto> suggest(String query, int size) {
+        Index current = index();
+        String normalized = query == null ? "" : HangulKeys.normalize(query);
+        if (!isLoaded() || normalized.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        return HangulKeys.prefixes(normalized).stream()
+                .flatMap(prefix -> current.trie.top(prefix).stream())
+                .distinct()
+                .sorted(ORDER)
+                .limit(Math.min(size, MAX_SUGGESTIONS))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${stadium.autocomplete.reload-delay:600000}",
+            initialDelayString = "${stadium.autocomplete.reload-delay:600000}")
+    public void load() {
+        long start = System.currentTimeMillis();
+        Index loaded = loadAll();
+        if (loaded != null) {
+            log.info("Stadium autocomplete loaded. stadiums : {}, tags : {}, elapsed : {}ms",
+                    loaded.stadiums.size(), loaded.tagCounts.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected Index newIndex() {
+        return new Index();
+    }
+
+    @Override
+    protected void put(Index index, StadiumResponseDto stadium) {
+        index.put(stadium);
+    }
+
+    @Override
+    protected void remove(Index index, Long stadiumId) {
+        index.remove(stadiumId);
+    }
+
+    /**
+     * 단어 시작 위치마다 키 (강남 풋살장 -> 강남 풋살장, 풋살장) 와 그 초성 키
+     */
+    static Set<String> keys(String text) {
+        String normalized = HangulKeys.normalize(text);
+        Set<String> keys = new HashSet<>();
+        int start = 0;
+        while (true) {
+            String suffix = normalized.substring(start);
+            keys.add(suffix);
+            keys.add(HangulKeys.choseong(suffix));
+
+            int space = normalized.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    static class Index {
+        private final SuggestTrie<StadiumSuggestionDto> trie = new SuggestTrie<>(MAX_SUGGESTIONS, ORDER);
+        // 바뀐 체육관의 이전 키를 지우기 위해 들고 있는다.
+        private final Map<Long, StadiumResponseDto> stadiums = new HashMap<>();
+        // 태그는 여러 체육관이 같이 쓰므로 마지막 체육관이 빠질 때 지운다.
+        private final Map<String, Integer> tagCounts = new HashMap<>();
+
+        private synchronized void put(StadiumResponseDto stadium) {
+            remove(stadium.getStadiumId());
+            stadiums.put(stadium.getStadiumId(), stadium);
+
+            if (stadium.getName() != null) {
+                StadiumSuggestionDto suggestion = StadiumSuggestionDto.ofStadium(stadium.getStadiumId(), stadium.getName());
+                keys(stadium.getName()).forEach(key -> trie.add(key, suggestion));
+            }
+            tagsOf(stadium).forEach(tag -> {
+                if (tagCounts.merge(tag, 1, Integer::sum) == 1) {
+                    keys(tag).forEach(key -> trie.add(key, StadiumSuggestionDto.ofTag(tag)));
+                }
+            });
+        }
+
+        private synchronized void remove(Long stadiumId) {
+            StadiumResponseDto stadium = stadiums.remove(stadiumId);
+            if (stadium == null) {
+                return;
+            }
+
+            if (stadium.getName() != null) {
+                StadiumSuggestionDto suggestion = StadiumSuggestionDto.ofStadium(stadiumId, stadium.getName());
+                keys(stadium.getName()).forEach(key -> trie.remove(key, suggestion));
+            }
+            tagsOf(stadium).forEach(tag -> {
+                if (tagCounts.merge(tag, -1, Integer::sum) == 0) {
+                    tagCounts.remove(tag);
+                    keys(tag).forEach(key -> trie.remove(key, StadiumSuggestionDto.ofTag(tag)));
+                }
+            });
+        }
+
+        private static Set<String> tagsOf(StadiumResponseDto stadium) {
+            return stadium.getTags() == null ? Set.of() : stadium.getTags().stream()
+                    .filter(Objects::nonNull)
+                    .filter(tag -> !tag.isBlank())
+                    .collect(Collectors.toSet());
+        }
+    }
+}
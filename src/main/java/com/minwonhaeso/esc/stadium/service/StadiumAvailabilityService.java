@@ -0,0 +1,311 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.stadium.facade.RedissonLockReservingTimeFacade;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservation;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservationSlot;
+import com.minwonhaeso.esc.stadium.model.type.ReservationLockMode;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationSlotRepository;
+import com.minwonhaeso.esc.stadium.repository.redis.StadiumAvailabilityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.AlreadyReservedTime;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.TimeFormatNotAccepted;
+import static com.minwonhaeso.esc.stadium.repository.redis.StadiumAvailabilityRepository.CLAIMED;
+import static com.minwonhaeso.esc.stadium.repository.redis.StadiumAvailabilityRepository.NOT_LOADED;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StadiumAvailabilityService {
+    private final StadiumAvailabilityRepository stadiumAvailabilityRepository;
+    private final StadiumReservationRepository stadiumReservationRepository;
+    private final StadiumReservationSlotRepository stadiumReservationSlotRepository;
+    private final RedissonLockReservingTimeFacade redissonLockReservingTimeFacade;
+
+    @Value("${reservation.lock-mode:SCRIPT}")
+    private ReservationLockMode lockMode = ReservationLockMode.SCRIPT;
+
+    /**
+     * 해당 체육관, 해당 날짜에 이미 예약된 시간대 mask
+     * 인덱스가 비어 있으면 DB 에서 한 번 읽어 채운다.
+     */
+    public long getReservedMask(Long stadiumId, LocalDate date) {
+        long reservedMask = stadiumAvailabilityRepository.findReservedMask(stadiumId, date);
+        if (reservedMask != NOT_LOADED) {
+            return reservedMask;
+        }
+
+        reservedMask = stadiumReservationRepository
+                .findReservedMaskByStatusNot(stadiumId, date, StadiumReservationStatus.CANCELED.name());
+        stadiumAvailabilityRepository.load(stadiumId, date, reservedMask);
+        return reservedMask;
+    }
+
+    /**
+     * 여러 체육관의 같은 날짜 예약 시간대 mask (예약 조회 1번, Redis 1번)
+     * 임시 예약은 Redis 인덱스에만 있으므로 로딩된 인덱스의 시간대를 합친다.
+     * 예약이 없는 체육관은 결과에 없다.
+     */
+    public Map<Long, Long> getReservedMasks(Collection<Long> stadiumIds, LocalDate date) {
+        Map<Long, Long> reservedMasks = new HashMap<>();
+        if (stadiumIds.isEmpty()) {
+            return reservedMasks;
+        }
+
+        stadiumReservationRepository.findAllReservingTimesByStadiumIdInAndStatusNot(
+                        stadiumIds, date, StadiumReservationStatus.CANCELED)
+                .forEach(reservation -> reservedMasks.merge(reservation.getStadiumId(),
+                        ReservingTime.toMask(reservation.getReservingTimes()), (a, b) -> a | b));
+
+        List<Long> ids = List.copyOf(stadiumIds);
+        mergeIndexed(ids, stadiumAvailabilityRepository.findReservedMasks(ids, date), reservedMasks);
+        return reservedMasks;
+    }
+
+    /**
+     * 요청한 시간대를 선점한다. 방식은 reservation.lock-mode 로 정한다. (기본 SCRIPT)
+     * 트랜잭션 안에서 호출되면 커밋되지 않았을 때 선점한 시간대를 다시 비워준다.
+     */
+    public void claim(Long stadiumId, LocalDate date, long mask) {
+        claimIndex(stadiumId, date, mask);
+        releaseOnRollback(stadiumId, date, mask);
+    }
+
+    /**
+     * 여러 날짜의 같은 시간대를 선점한다. 날짜마다 성공 / 실패가 따로 갈린다.
+     * SCRIPT 방식이면 Redis 스크립트 1번으로 판단하고, 인덱스가 비어 있던 날짜만 기간 조회 1번으로 채워 다시 시도한다.
+     * 인덱스가 DB 와 어긋나 점유 행이 이미 있는 날짜는 실패로 보고, 실제로 점유돼 있으므로 비트는 그대로 둔다.
+     * @param dates 날짜 순으로 정렬된 날짜
+     * @return 선점한 날짜 (트랜잭션이 커밋되지 않으면 다시 비워준다)
+     */
+    public Set<LocalDate> claimAll(Long stadiumId, List<LocalDate> dates, long mask) {
+        Set<LocalDate> claimed = new TreeSet<>();
+        try {
+            if (lockMode != ReservationLockMode.SCRIPT) {
+                for (LocalDate date : dates) {
+                    try {
+                        claimIndex(stadiumId, date, mask);
+                        claimed.add(date);
+                    } catch (StadiumException e) {
+                        if (e.getErrorCode() != AlreadyReservedTime) {
+                            throw e;
+                        }
+                    }
+                }
+            } else {
+                List<LocalDate> notLoaded = collectClaimed(dates,
+                        stadiumAvailabilityRepository.claimAll(stadiumId, dates, mask), claimed);
+                if (!notLoaded.isEmpty()) {
+                    Map<LocalDate, Long> reservedMasks = findReservedMasks(stadiumId,
+                            notLoaded.get(0), notLoaded.get(notLoaded.size() - 1));
+                    notLoaded.forEach(date -> stadiumAvailabilityRepository
+                            .load(stadiumId, date, reservedMasks.getOrDefault(date, 0L)));
+                    collectClaimed(notLoaded, stadiumAvailabilityRepository.claimAll(stadiumId, notLoaded, mask), claimed);
+                }
+            }
+
+            claimed.removeAll(findOccupiedDates(stadiumId, claimed, mask));
+        } finally {
+            // 중간에 실패해도 이미 선점한 날짜는 롤백될 때 비운다.
+            claimed.forEach(date -> releaseOnRollback(stadiumId, date, mask));
+        }
+        return claimed;
+    }
+
+    /**
+     * 예약과 같은 트랜잭션에서 시간대 점유 행을 넣는다.
+     * 유니크 키 (stadium_id, reserving_date, slot) 에 걸리면 이미 예약된 시간대로 본다.
+     */
+    public void occupy(StadiumReservation reservation) {
+        occupyAll(List.of(reservation));
+    }
+
+    /**
+     * 여러 예약의 점유 행을 한 번에 넣는다.
+     * 한 번에 flush 하므로 한 날짜라도 유니크 키에 걸리면 전체가 AlreadyReservedTime 이다.
+     * 날짜별로 빼야 하면 먼저 걸러낸다. (claimAll 은 점유 행이 있는 날짜를 이미 뺐다)
+     */
+    public void occupyAll(List<StadiumReservation> reservations) {
+        List<StadiumReservationSlot> slots = reservations.stream()
+                .flatMap(reservation -> reservation.getReservingTimes().stream()
+                        .map(time -> StadiumReservationSlot.of(reservation, time)))
+                .collect(Collectors.toList());
+
+        try {
+            stadiumReservationSlotRepository.saveAllAndFlush(slots);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Reserving time conflict. stadium id : {}, date : {}",
+                    reservations.get(0).getStadium().getId(), reservations.get(0).getReservingDate());
+            throw new StadiumException(AlreadyReservedTime);
+        }
+    }
+
+    /**
+     * 요청한 시간대 중 하나라도 점유 행이 이미 있는 날짜 (Redis 인덱스와 DB 가 어긋났을 때)
+     */
+    public Set<LocalDate> findOccupiedDates(Long stadiumId, Collection<LocalDate> dates, long mask) {
+        if (dates.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(stadiumReservationSlotRepository
+                .findOccupiedDates(stadiumId, dates, ReservingTime.fromMask(mask)));
+    }
+
+    public void vacate(StadiumReservation reservation) {
+        stadiumReservationSlotRepository.deleteAllByReservation(reservation);
+    }
+
+    public void markReleased(Long stadiumId, LocalDate date, long mask) {
+        stadiumAvailabilityRepository.release(stadiumId, date, mask);
+    }
+
+    /**
+     * 예약 취소처럼 점유 행을 지우는 트랜잭션이 커밋된 뒤에 시간대를 비운다.
+     * 먼저 비우면 커밋 전에 다른 예약이 인덱스만 보고 선점한 뒤 점유 행에 걸리거나, 롤백되면 인덱스만 비어 있게 된다.
+     */
+    public void releaseAfterCommit(Long stadiumId, LocalDate date, long mask) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markReleased(stadiumId, date, mask);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markReleased(stadiumId, date, mask);
+            }
+        });
+    }
+
+    /**
+     * 기간 내 날짜별 예약된 시간대 mask (예약 조회 1번, Redis 1번)
+     * 임시 예약은 Redis 인덱스에만 있으므로 로딩된 날짜의 인덱스 시간대를 합친다.
+     * 예약이 없는 날짜는 결과에 없다.
+     */
+    public Map<LocalDate, Long> getReservedMasks(Long stadiumId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> reservedMasks = findReservedMasks(stadiumId, from, to);
+        List<LocalDate> dates = from.datesUntil(to.plusDays(1)).collect(Collectors.toList());
+        mergeIndexed(dates, stadiumAvailabilityRepository.findReservedMasks(stadiumId, dates), reservedMasks);
+        return reservedMasks;
+    }
+
+    // 인덱스에서 읽은 mask (keys 순서, 로딩 전이면 NOT_LOADED) 를 합친다.
+    private static <K> void mergeIndexed(List<K> keys, List<Long> indexedMasks, Map<K, Long> reservedMasks) {
+        for (int i = 0; i < keys.size(); i++) {
+            long indexedMask = indexedMasks.get(i);
+            if (indexedMask != NOT_LOADED && indexedMask != 0) {
+                reservedMasks.merge(keys.get(i), indexedMask, (a, b) -> a | b);
+            }
+        }
+    }
+
+    // 기간 내 날짜별 예약 (DB) 의 시간대 mask
+    private Map<LocalDate, Long> findReservedMasks(Long stadiumId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> reservedMasks = new HashMap<>();
+        stadiumReservationRepository.findAllReservingTimesByDateBetweenAndStatusNot(
+                        stadiumId, from, to, StadiumReservationStatus.CANCELED)
+                .forEach(reservation -> reservedMasks.merge(reservation.getReservingDate(),
+                        ReservingTime.toMask(reservation.getReservingTimes()), (a, b) -> a | b));
+        return reservedMasks;
+    }
+
+    // 선점한 날짜는 claimed 에 넣고, 로딩 전이던 날짜를 돌려준다.
+    private static List<LocalDate> collectClaimed(List<LocalDate> dates, List<Long> results, Set<LocalDate> claimed) {
+        List<LocalDate> notLoaded = new ArrayList<>();
+        for (int i = 0; i < dates.size(); i++) {
+            long result = results.get(i);
+            if (result == CLAIMED) {
+                claimed.add(dates.get(i));
+            } else if (result == NOT_LOADED) {
+                notLoaded.add(dates.get(i));
+            }
+        }
+        return notLoaded;
+    }
+
+    // reservation.lock-mode 방식으로 인덱스의 시간대만 선점한다. (롤백 시 비우기는 호출한 쪽에서)
+    private void claimIndex(Long stadiumId, LocalDate date, long mask) {
+        switch (lockMode) {
+            case DAY:
+                redissonLockReservingTimeFacade.lock(stadiumId, date);
+                try {
+                    reserveIfAvailable(stadiumId, date, mask);
+                } finally {
+                    redissonLockReservingTimeFacade.unlock(stadiumId, date);
+                }
+                break;
+            case SLOT:
+                redissonLockReservingTimeFacade.lockSlots(stadiumId, date, mask);
+                try {
+                    reserveIfAvailable(stadiumId, date, mask);
+                } finally {
+                    redissonLockReservingTimeFacade.unlockSlots(stadiumId, date, mask);
+                }
+                break;
+            default:
+                claimWithScript(stadiumId, date, mask);
+        }
+    }
+
+    // 한 번의 Redis 스크립트로 확인하고 선점한다. (락 없음)
+    private void claimWithScript(Long stadiumId, LocalDate date, long mask) {
+        long result = stadiumAvailabilityRepository.claim(stadiumId, date, mask);
+        if (result == NOT_LOADED) {
+            getReservedMask(stadiumId, date);
+            result = stadiumAvailabilityRepository.claim(stadiumId, date, mask);
+        }
+
+        if (result != CLAIMED) {
+            throw new StadiumException(AlreadyReservedTime);
+        }
+    }
+
+    // 락을 잡은 상태에서만 호출한다.
+    private void reserveIfAvailable(Long stadiumId, LocalDate date, long mask) {
+        if ((getReservedMask(stadiumId, date) & mask) != 0) {
+            throw new StadiumException(AlreadyReservedTime);
+        }
+
+        stadiumAvailabilityRepository.reserve(stadiumId, date, mask);
+    }
+
+    void releaseOnRollback(Long stadiumId, LocalDate date, long mask) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.info("Reservation rolled back. release stadium id : {}, date : {}", stadiumId, date);
+                    stadiumAvailabilityRepository.release(stadiumId, date, mask);
+                }
+            }
+        });
+    }
+
+    static long toReservingMask(List<String> reservingTimes) {
+        try {
+            return ReservingTime.toMask(reservingTimes.stream()
+                    .map(ReservingTime::findTime)
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            throw new StadiumException(TimeFormatNotAccepted);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto.BookingItem;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto.BookingRequest;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumPriceTable;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumItem;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservation;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservationItem;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
+import com.minwonhaeso.esc.stadium.repository.StadiumItemRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationItemRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.PriceNotMatch;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.StadiumItemNotFound;
+
+/**
+ * 예약 / 결제 공통 흐름
+ * 가격표로 금액 계산 -> 시간대 선점 -> 대여 용품 조회 (1번) -> 예약, 시간대 점유, 일별 집계, 대여 용품 저장
+ * 단계별 소요 시간은 booking.stage 타이머 (channel, stage 태그) 로 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StadiumBookingService {
+    static final String STAGE_TIMER = "booking.stage";
+
+    private final StadiumItemRepository stadiumItemRepository;
+    private final StadiumReservationRepository stadiumReservationRepository;
+    private final StadiumReservationItemRepository stadiumReservationItemRepository;
+    private final StadiumAvailabilityService stadiumAvailabilityService;
+    private final ReservationHoldService reservationHoldService;
+    private final StadiumPriceService stadiumPriceService;
+    private final StadiumStatService stadiumStatService;
+    private final MeterRegistry meterRegistry;
+
+    @Transactional
+    public StadiumReservation book(Member member, Stadium stadium, BookingRequest request) {
+        String channel = request.getChannel();
+
+        // Quote Price (결제 금액이 넘어오면 견적과 같은지 확인)
+        List<ReservingTime> reservingTimes = ReservingTime.fromMask(request.getReservingMask());
+        int price = timed(channel, "price", () -> {
+            int quoted = stadiumPriceService.getPriceTable(stadium.getId())
+                    .quote(request.getReservingDate(), reservingTimes.size(), request.getItems());
+            if (request.getPaidPrice() != null && request.getPaidPrice() != quoted) {
+                log.info("Price not match. stadium id : {}, paid : {}, quoted : {}",
+                        stadium.getId(), request.getPaidPrice(), quoted);
+                throw new StadiumException(PriceNotMatch);
+            }
+            return quoted;
+        });
+
+        // Claim Reserving Times (임시 예약이 있으면 전환, rollback 시 자동 해제)
+        timed(channel, "claim", () -> {
+            if (request.getHoldId() != null) {
+                reservationHoldService.convert(member, stadium.getId(), request.getHoldId(),
+                        request.getReservingDate(), request.getReservingMask());
+            } else {
+                stadiumAvailabilityService.claim(stadium.getId(), request.getReservingDate(),
+                        request.getReservingMask());
+            }
+            return null;
+        });
+
+        // Load Items
+        List<StadiumReservationItem> rentalItems = timed(channel, "items",
+                () -> loadItems(stadium.getId(), request.getItems()));
+
+        // Save Reservation, Reserving Times, Items (시간대 점유 행은 유니크 키로 중복 예약을 막는다)
+        return timed(channel, "persist", () -> {
+            StadiumReservation reservation = StadiumReservation.builder()
+                    .stadium(stadium)
+                    .member(member)
+                    .reservingDate(request.getReservingDate())
+                    .reservingTimes(reservingTimes)
+                    .price(price)
+                    .headCount(request.getHeadCount())
+                    .status(StadiumReservationStatus.RESERVED)
+                    .paymentType(request.getPaymentType())
+                    .build();
+            stadiumReservationRepository.save(reservation);
+            stadiumAvailabilityService.occupy(reservation);
+            stadiumStatService.recordReserved(List.of(reservation));
+
+            if (!rentalItems.isEmpty()) {
+                rentalItems.forEach(item -> item.setReservation(reservation));
+                reservation.getItems().addAll(rentalItems);
+                stadiumReservationItemRepository.saveAll(rentalItems);
+            }
+            return reservation;
+        });
+    }
+
+    /**
+     * 여러 날짜에 같은 시간대로 한 번에 예약한다. (반복 예약)
+     * 시간대는 날짜별로 선점해 이미 예약된 날짜만 빠지고, 나머지 예약과 점유 행, 대여 용품은 한 번씩 모아서 저장한다.
+     * DB 에 이미 점유 행이 있는 날짜도 claimAll 에서 빠진다. (점유 행 확인과 저장 사이에 다른 예약이 끼어들면 전체 실패)
+     * @param dates 날짜 순으로 정렬된 날짜 (request 의 reservingDate 는 쓰지 않는다)
+     * @return 예약된 날짜별 예약
+     */
+    @Transactional
+    public Map<LocalDate, StadiumReservation> bookAll(
+            Member member, Stadium stadium, BookingRequest request, List<LocalDate> dates) {
+        String channel = request.getChannel();
+        List<ReservingTime> reservingTimes = ReservingTime.fromMask(request.getReservingMask());
+
+        // Quote Price (날짜마다 평일 / 공휴일 가격이 다르다)
+        Map<LocalDate, Integer> prices = timed(channel, "price", () -> {
+            StadiumPriceTable priceTable = stadiumPriceService.getPriceTable(stadium.getId());
+            Map<LocalDate, Integer> quoted = new HashMap<>();
+            dates.forEach(date -> quoted.put(date,
+                    priceTable.quote(date, reservingTimes.size(), request.getItems())));
+            return quoted;
+        });
+
+        // Claim Reserving Times (날짜별 성공 / 실패, DB 에 점유 행이 이미 있는 날짜도 실패)
+        Set<LocalDate> claimed = timed(channel, "claim", () -> stadiumAvailabilityService
+                .claimAll(stadium.getId(), dates, request.getReservingMask()));
+        if (claimed.isEmpty()) {
+            return new TreeMap<>();
+        }
+
+        // Load Items
+        List<StadiumReservationItem> rentalItems = timed(channel, "items",
+                () -> loadItems(stadium.getId(), request.getItems()));
+
+        // Save Reservations, Reserving Times, Items
+        return timed(channel, "persist", () -> {
+            Map<LocalDate, StadiumReservation> reservations = new TreeMap<>();
+            List<StadiumReservationItem> reservationItems = new ArrayList<>();
+            for (LocalDate date : claimed) {
+                StadiumReservation reservation = StadiumReservation.builder()
+                        .stadium(stadium)
+                        .member(member)
+                        .reservingDate(date)
+                        .reservingTimes(reservingTimes)
+                        .price(prices.get(date))
+                        .headCount(request.getHeadCount())
+                        .status(StadiumReservationStatus.RESERVED)
+                        .paymentType(request.getPaymentType())
+                        .build();
+                rentalItems.forEach(item -> reservation.getItems().add(StadiumReservationItem.builder()
+                        .item(item.getItem())
+                        .count(item.getCount())
+                        .price(item.getPrice())
+                        .reservation(reservation)
+                        .build()));
+                reservationItems.addAll(reservation.getItems());
+                reservations.put(date, reservation);
+            }
+
+            List<StadiumReservation> saved = new ArrayList<>(reservations.values());
+            stadiumReservationRepository.saveAll(saved);
+            stadiumAvailabilityService.occupyAll(saved);
+            stadiumStatService.recordReserved(saved);
+            if (!reservationItems.isEmpty()) {
+                stadiumReservationItemRepository.saveAll(reservationItems);
+            }
+            return reservations;
+        });
+    }
+
+    /**
+     * 대여 용품을 한 번에 조회해 예약 용품으로 만든다. (예약은 아직 연결하지 않음)
+     * 수량이 0 이하인 용품은 빼고, 없거나 다른 체육관의 용품이면 StadiumItemNotFound
+     */
+    private List<StadiumReservationItem> loadItems(Long stadiumId, List<BookingItem> items) {
+        List<BookingItem> requested = items.stream()
+                .filter(item -> item.getCount() > 0)
+                .collect(Collectors.toList());
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, StadiumItem> stadiumItems = stadiumItemRepository.findAllById(requested.stream()
+                        .map(BookingItem::getItemId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(StadiumItem::getId, Function.identity()));
+
+        return requested.stream()
+                .map(item -> {
+                    StadiumItem stadiumItem = stadiumItems.get(item.getItemId());
+                    if (stadiumItem == null || stadiumItem.getStadium() == null
+                            || !stadiumId.equals(stadiumItem.getStadium().getId())) {
+                        log.info("item not found. id:" + item.getItemId());
+                        throw new StadiumException(StadiumItemNotFound);
+                    }
+
+                    return StadiumReservationItem.builder()
+                            .item(stadiumItem)
+                            .count(item.getCount())
+                            .price(item.getCount() * stadiumItem.getPrice())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private <T> T timed(String channel, String stage, Supplier<T> step) {
+        return meterRegistry.timer(STAGE_TIMER, "channel", channel, "stage", stage).record(step);
+    }
+}
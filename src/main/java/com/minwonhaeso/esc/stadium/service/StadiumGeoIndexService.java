@@ -0,0 +1,76 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepositorySupport;
+import com.minwonhaeso.esc.util.GeoGridIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 이용 가능한 체육관 위치 색인 (서버 메모리)
+ * 시작할 때 전체를 읽고, stadium:changed 알림 (StadiumInfoCacheService) 을 받으면 그 체육관만 다시 읽는다.
+ * 알림이 유실될 때를 위해 주기적으로 전체를 다시 읽는다.
+ */
+@Slf4j
+@Service
+public class StadiumGeoIndexService extends StadiumIndexLoader<GeoGridIndex<StadiumResponseDto>> {
+    // 약 5.5km 칸
+    static final double CELL_DEGREES = 0.05;
+
+    @Value("${stadium.geo-index.enabled:true}")
+    private boolean enabled = true;
+
+    public StadiumGeoIndexService(StadiumRepositorySupport stadiumRepositorySupport) {
+        super(stadiumRepositorySupport, "stadium-geo-index");
+    }
+
+    /**
+     * 가까운 순 체육관 (거리 포함)
+     */
+    public List<StadiumResponseDto> getStadiumsNearLocation(Double lnt, Double lat, Pageable pageable) {
+        return index().nearest(lat, lnt, pageable.getOffset(), pageable.getPageSize()).stream()
+                .map(nearest -> nearest.getValue().toBuilder().distance(nearest.getDistance()).build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${stadium.geo-index.reload-delay:600000}",
+            initialDelayString = "${stadium.geo-index.reload-delay:600000}")
+    public void load() {
+        long start = System.currentTimeMillis();
+        GeoGridIndex<StadiumResponseDto> loaded = loadAll();
+        if (loaded != null) {
+            log.info("Stadium geo index loaded. size : {}, elapsed : {}ms",
+                    loaded.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected GeoGridIndex<StadiumResponseDto> newIndex() {
+        return new GeoGridIndex<>(CELL_DEGREES);
+    }
+
+    @Override
+    protected void put(GeoGridIndex<StadiumResponseDto> index, StadiumResponseDto stadium) {
+        index.put(stadium.getStadiumId(), stadium.getLat(), stadium.getLnt(), stadium);
+    }
+
+    @Override
+    protected void remove(GeoGridIndex<StadiumResponseDto> index, Long stadiumId) {
+        index.remove(stadiumId);
+    }
+}
@@ -0,0 +1,179 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepositorySupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이용 가능한 체육관 전체를 서버 메모리에 올려 두는 색인 (위치, 자동완성) 의 읽기
+ * 전체를 읽는 동안 stadium:changed 알림으로 다시 읽은 체육관은 기록해 두었다가 새 색인에 다시 반영한다.
+ * 전체 다시 읽기 알림 ("*") 은 알림 수신 스레드 (모든 리스너가 같이 쓴다) 를 막지 않도록 별도 스레드에서 읽는다.
+ */
+@Slf4j
+public abstract class StadiumIndexLoader<I> implements MessageListener {
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    protected final StadiumRepositorySupport stadiumRepositorySupport;
+    private final String name;
+    private final ExecutorService reloadExecutor;
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+    private final Object loadLock = new Object();
+    private final Object indexLock = new Object();
+
+    // 전체를 다시 읽는 동안에는 이전 색인으로 조회한다.
+    private volatile I index;
+    // 전체를 읽는 중에만 있다. (indexLock)
+    private Set<Long> refreshedDuringLoad;
+
+    protected StadiumIndexLoader(StadiumRepositorySupport stadiumRepositorySupport, String name) {
+        this.stadiumRepositorySupport = stadiumRepositorySupport;
+        this.name = name;
+        this.reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    protected abstract boolean isEnabled();
+
+    protected abstract I newIndex();
+
+    protected abstract void put(I index, StadiumResponseDto stadium);
+
+    protected abstract void remove(I index, Long stadiumId);
+
+    /**
+     * 전체를 다시 읽는다. (loadAll)
+     */
+    public abstract void load();
+
+    public boolean isLoaded() {
+        return isEnabled() && index != null;
+    }
+
+    protected I index() {
+        return index;
+    }
+
+    /**
+     * id 순으로 나눠 새 색인을 만들고 바꾼다. 꺼져 있으면 null
+     */
+    protected I loadAll() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        synchronized (loadLock) {
+            synchronized (indexLock) {
+                refreshedDuringLoad = new HashSet<>();
+            }
+
+            I loaded = newIndex();
+            try {
+                Long lastId = 0L;
+                List<StadiumResponseDto> stadiums;
+                do {
+                    stadiums = stadiumRepositorySupport.getAvailableStadiumResponsesAfter(lastId, LOAD_BATCH_SIZE);
+                    stadiums.forEach(stadium -> put(loaded, stadium));
+                    if (!stadiums.isEmpty()) {
+                        lastId = stadiums.get(stadiums.size() - 1).getStadiumId();
+                    }
+                } while (stadiums.size() == LOAD_BATCH_SIZE);
+            } catch (RuntimeException e) {
+                synchronized (indexLock) {
+                    refreshedDuringLoad = null;
+                }
+                throw e;
+            }
+
+            // 바꾼 뒤의 알림은 새 색인에 바로 반영된다.
+            Set<Long> refreshed;
+            synchronized (indexLock) {
+                index = loaded;
+                refreshed = refreshedDuringLoad;
+                refreshedDuringLoad = null;
+            }
+            // 이미 읽은 묶음보다 나중에 바뀌었을 수 있다.
+            refreshed.forEach(stadiumId -> apply(loaded, stadiumId));
+            return loaded;
+        }
+    }
+
+    /**
+     * 체육관 하나를 다시 읽는다. (이용 가능하지 않으면 색인에서 뺀다)
+     */
+    public void refresh(Long stadiumId) {
+        I current;
+        synchronized (indexLock) {
+            if (refreshedDuringLoad != null) {
+                refreshedDuringLoad.add(stadiumId);
+            }
+            current = index;
+        }
+        if (current == null) {
+            return;
+        }
+
+        apply(current, stadiumId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (StadiumInfoCacheService.ALL.equals(body)) {
+                reloadLater();
+            } else {
+                refresh(Long.parseLong(body));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid stadium changed message : {}", body);
+        } catch (RuntimeException e) {
+            // 다음 전체 갱신 때 맞춰진다.
+            log.warn("{} refresh failed. message : {}", name, body, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloadExecutor.shutdownNow();
+    }
+
+    private void reloadLater() {
+        // 아직 시작하지 않은 다시 읽기가 있으면 합친다.
+        if (!reloadQueued.compareAndSet(false, true)) {
+            return;
+        }
+
+        reloadExecutor.execute(() -> {
+            reloadQueued.set(false);
+            try {
+                load();
+            } catch (RuntimeException e) {
+                log.warn("{} reload failed.", name, e);
+            }
+        });
+    }
+
+    private void apply(I target, Long stadiumId) {
+        stadiumRepositorySupport.getAvailableStadiumResponse(stadiumId).ifPresentOrElse(
+                stadium -> put(target, stadium),
+                () -> remove(target, stadiumId));
+    }
+}
@@ -0,0 +1,120 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minwonhaeso.esc.security.auth.redis.CacheKey;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumInfoResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 체육관 상세 정보 2단 캐시 (서버 메모리 -> Redis stadiumInfo 캐시 -> DB)
+ * 사용자별 찜하기 여부 (isLike) 는 캐시하지 않는다.
+ * 체육관이 바뀌면 Redis 캐시를 지우고 stadium:changed 채널로 체육관 id 를 보내 모든 서버의 메모리 캐시를 지운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StadiumInfoCacheService implements MessageListener {
+    public static final String CHANNEL = "stadium:changed";
+    // 전체 삭제 메시지 (평점 일괄 갱신 등)
+    static final String ALL = "*";
+    private static final long LOCAL_MAX_SIZE = 10_000;
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final com.github.benmanes.caffeine.cache.Cache<Long, StadiumInfoResponseDto> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAX_SIZE)
+            .expireAfterWrite(Duration.ofSeconds(CacheKey.STADIUM_INFO_LOCAL_EXPIRE_SEC))
+            .build();
+
+    /**
+     * 캐시된 상세 정보 (없으면 loader 로 읽어 두 캐시에 넣는다)
+     */
+    public StadiumInfoResponseDto get(Long stadiumId, Supplier<StadiumInfoResponseDto> loader) {
+        return localCache.get(stadiumId, id -> {
+            Cache.ValueWrapper cached = redisCache().get(id);
+            if (cached != null) {
+                return (StadiumInfoResponseDto) cached.get();
+            }
+
+            StadiumInfoResponseDto loaded = loader.get();
+            redisCache().put(id, loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 체육관 변경 (트랜잭션 안이면 커밋 후에 알린다)
+     */
+    public void evict(Long stadiumId) {
+        // transactionAware 캐시라 트랜잭션 안이면 커밋 후에 지워진다.
+        redisCache().evict(stadiumId);
+        publishChanged(stadiumId);
+    }
+
+    /**
+     * 캐시를 지울 필요 없는 변경 (새 체육관) 을 모든 서버의 위치 색인, 자동완성에 알린다. (트랜잭션 안이면 커밋 후에)
+     */
+    public void publishChanged(Long stadiumId) {
+        afterCommit(() -> publish(String.valueOf(stadiumId)));
+    }
+
+    public void evictAll() {
+        redisCache().clear();
+        afterCommit(() -> publish(ALL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publish(String body) {
+        // 구독 메시지가 늦거나 유실돼도 이 서버의 메모리 캐시는 바로 지운다.
+        invalidateLocal(body);
+        redisTemplate.convertAndSend(CHANNEL, body);
+    }
+
+    private void invalidateLocal(String body) {
+        if (ALL.equals(body)) {
+            localCache.invalidateAll();
+            return;
+        }
+
+        try {
+            localCache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid stadium changed message : {}", body);
+        }
+    }
+
+    private Cache redisCache() {
+        return cacheManager.getCache(CacheKey.STADIUM_INFO);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.security.auth.redis.CacheKey;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumPriceTable;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.repository.StadiumItemRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.StadiumNotFound;
+
+/**
+ * 견적 / 결제 금액 확인에 쓰는 체육관 가격표
+ * 캐시에 없을 때만 DB 를 읽고, 체육관 / 대여 용품이 바뀌면 StadiumService 에서 지운다.
+ */
+@RequiredArgsConstructor
+@Service
+public class StadiumPriceService {
+    private final StadiumRepository stadiumRepository;
+    private final StadiumItemRepository stadiumItemRepository;
+
+    @Cacheable(value = CacheKey.STADIUM_PRICE, key = "#stadiumId")
+    @Transactional(readOnly = true)
+    public StadiumPriceTable getPriceTable(Long stadiumId) {
+        Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
+                () -> new StadiumException(StadiumNotFound));
+
+        return StadiumPriceTable.fromEntity(stadium, stadiumItemRepository.findAllByStadium(stadium));
+    }
+}
@@ -2,45 +2,91 @@ package com.minwonhaeso.esc.stadium.service;
 
 import com.minwonhaeso.esc.error.exception.StadiumException;
 import com.minwonhaeso.esc.member.model.entity.Member;
-import com.minwonhaeso.esc.stadium.facade.RedissonLockReservingTimeFacade;
+import com.minwonhaeso.esc.stadium.model.dto.CursorResponse;
+import com.minwonhaeso.esc.stadium.model.dto.ReservationCursor;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto.BookingItem;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto.BookingRequest;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumInfoResponseDto;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.*;
 import com.minwonhaeso.esc.stadium.model.entity.*;
 import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
 import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
 import com.minwonhaeso.esc.stadium.repository.*;
+import com.minwonhaeso.esc.stadium.repository.StadiumImgRepository.StadiumImgUrl;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository.ReservationKey;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository.ReservationSummary;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository.ReservationUserSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.minwonhaeso.esc.error.type.StadiumErrorCode.*;
+import static com.minwonhaeso.esc.stadium.service.StadiumAvailabilityService.toReservingMask;
 import static com.minwonhaeso.esc.util.HolidayUtil.isHoliday;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class StadiumReservationService {
+    private static final int MAX_AVAILABILITY_DAYS = 62;
+    private static final int MAX_RECURRING_OCCURRENCES = 52;
+    private static final int MAX_RECURRING_INTERVAL_WEEKS = 4;
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final StadiumRepository stadiumRepository;
-    private final StadiumItemRepository stadiumItemRepository;
     private final StadiumReservationRepository stadiumReservationRepository;
-    private final StadiumReservationItemRepository stadiumReservationItemRepository;
     private final StadiumReservationCancelRepository stadiumReservationCancelRepository;
-    private final RedissonLockReservingTimeFacade redissonLockReservingTimeFacade;
-
+    private final StadiumImgRepository stadiumImgRepository;
+    private final StadiumAvailabilityService stadiumAvailabilityService;
+    private final StadiumBookingService stadiumBookingService;
+    private final StadiumPriceService stadiumPriceService;
+    private final StadiumStatService stadiumStatService;
+
+    /**
+     * 내 예약 목록 (예약 1번 + 체육관 대표 이미지 1번)
+     */
     @Transactional(readOnly = true)
     public Page<ReservationResponse> getAllReservationsByMember(
             Member member, Pageable pageable) {
-        return stadiumReservationRepository
-                .findAllByMemberOrderByReservingDateDesc(member, pageable)
-                .map(ReservationResponse::fromEntity);
+        Page<ReservationSummary> reservations =
+                stadiumReservationRepository.findSummariesByMember(member, pageable);
+        Map<Long, String> imgUrls = findFirstImgUrls(reservations.getContent());
+        return reservations.map(reservation ->
+                ReservationResponse.fromSummary(reservation, imgUrls.get(reservation.getStadiumId())));
+    }
+
+    /**
+     * 내 예약 목록 (커서, 예약일 최신순)
+     * @param cursor 이전 목록의 nextCursor (첫 목록이면 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<ReservationResponse> getReservationsByMemberCursor(
+            Member member, String cursor, int size) {
+        Pageable pageable = cursorPage(size);
+        Slice<ReservationSummary> reservations;
+        if (cursor == null) {
+            reservations = stadiumReservationRepository.findSummarySliceByMember(member, pageable);
+        } else {
+            ReservationCursor after = ReservationCursor.decode(cursor);
+            reservations = stadiumReservationRepository.findSummarySliceByMemberBefore(
+                    member, after.getReservingDate(), after.getId(), pageable);
+        }
+        Map<Long, String> imgUrls = findFirstImgUrls(reservations.getContent());
+        return toCursorResponse(reservations, reservation ->
+                ReservationResponse.fromSummary(reservation, imgUrls.get(reservation.getStadiumId())));
     }
 
     @Transactional(readOnly = true)
@@ -50,16 +96,11 @@ public class StadiumReservationService {
                 () -> new StadiumException(StadiumNotFound));
 
         // 해당 스타디움의 해당 날짜에 이미 예약된 시간들
-        List<String> reservedTimes = new ArrayList<>();
-        stadiumReservationRepository
-                .findAllByStadiumAndReservingDate(stadium, date)
-                .forEach(reservation -> {
-                    reservation.getReservingTimes().forEach(
-                            reservingTime -> {
-                                reservedTimes.add(reservingTime.getTime());
-                            }
-                    );
-                });
+        List<String> reservedTimes = ReservingTime
+                .fromMask(stadiumAvailabilityService.getReservedMask(stadiumId, date))
+                .stream()
+                .map(ReservingTime::getTime)
+                .collect(Collectors.toList());
 
         return ReservationStadiumInfoResponse.builder()
                 .openTime(stadium.getOpenTime().getTime())
@@ -73,6 +114,46 @@ public class StadiumReservationService {
                 .build();
     }
 
+    /**
+     * 기간 내 날짜별 예약 현황 (예약 조회 1번)
+     */
+    @Transactional(readOnly = true)
+    public StadiumAvailabilityResponse getStadiumAvailability(
+            Long stadiumId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_DAYS) {
+            throw new StadiumException(InvalidDateRange);
+        }
+
+        Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
+                () -> new StadiumException(StadiumNotFound));
+
+        Map<LocalDate, Long> reservedMasks = stadiumAvailabilityService.getReservedMasks(stadiumId, from, to);
+
+        long openMask = ReservingTime.rangeMask(stadium.getOpenTime(), stadium.getCloseTime());
+        List<DailyAvailability> days = from.datesUntil(to.plusDays(1))
+                .map(date -> {
+                    long reservedMask = reservedMasks.getOrDefault(date, 0L);
+                    boolean holiday = isHoliday(date);
+                    return DailyAvailability.builder()
+                            .date(date.toString())
+                            .reservedMask(reservedMask)
+                            .freeCount(Long.bitCount(openMask & ~reservedMask))
+                            .holiday(holiday)
+                            .pricePerHalfHour(holiday
+                                    ? stadium.getHolidayPricePerHalfHour()
+                                    : stadium.getWeekdayPricePerHalfHour())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return StadiumAvailabilityResponse.builder()
+                .stadiumId(stadiumId)
+                .openTime(stadium.getOpenTime().getTime())
+                .closeTime(stadium.getCloseTime().getTime())
+                .days(days)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public ReservationInfoResponse getReservationInfo(
             Member member,
@@ -110,8 +191,33 @@ public class StadiumReservationService {
 
 
         return stadiumReservationRepository
-                .findAllByStadiumOrderByReservingDateDesc(stadium, pageable)
-                .map(StadiumReservationUserResponse::fromEntity);
+                .findUserSummariesByStadium(stadium, pageable)
+                .map(StadiumReservationUserResponse::fromSummary);
+    }
+
+    /**
+     * 체육관 예약 사용자 목록 (커서, 예약일 최신순)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<StadiumReservationUserResponse> getReservationUsersByManagerCursor(
+            Member member, Long stadiumId, String cursor, int size) {
+        Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
+                () -> new StadiumException(StadiumNotFound));
+
+        if (!stadium.getMember().getMemberId().equals(member.getMemberId())) {
+            throw new StadiumException(UnAuthorizedAccess);
+        }
+
+        Pageable pageable = cursorPage(size);
+        Slice<ReservationUserSummary> reservations;
+        if (cursor == null) {
+            reservations = stadiumReservationRepository.findUserSummarySliceByStadium(stadium, pageable);
+        } else {
+            ReservationCursor after = ReservationCursor.decode(cursor);
+            reservations = stadiumReservationRepository.findUserSummarySliceByStadiumBefore(
+                    stadium, after.getReservingDate(), after.getId(), pageable);
+        }
+        return toCursorResponse(reservations, StadiumReservationUserResponse::fromSummary);
     }
 
     @Transactional(readOnly = true)
@@ -138,6 +244,7 @@ public class StadiumReservationService {
         return ReservationInfoResponse.fromEntity(reservation);
     }
 
+    @Transactional
     public void deleteReservation(Member member, Long stadiumId, Long reservationId) {
         StadiumReservation reservation = stadiumReservationRepository
                 .findById(reservationId).orElseThrow(() ->
@@ -166,6 +273,10 @@ public class StadiumReservationService {
 
         stadiumReservationRepository.save(reservation);
         stadiumReservationCancelRepository.save(reservationCancel);
+        stadiumAvailabilityService.vacate(reservation);
+        stadiumStatService.recordCanceled(reservation);
+        stadiumAvailabilityService.releaseAfterCommit(stadiumId, reservation.getReservingDate(),
+                ReservingTime.toMask(reservation.getReservingTimes()));
     }
 
     @Transactional
@@ -177,49 +288,8 @@ public class StadiumReservationService {
         Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
                 () -> new StadiumException(StadiumNotFound));
 
-        // Get Lock
-        try {
-            redissonLockReservingTimeFacade.lock(stadiumId, request.getReservingDate());
-        } catch (StadiumException e) {
-            throw e;
-        }
-
-        // Check Already Reserved Times
-        if (isAlreadyReservedTimes(stadium, request.getReservingDate(), request.getReservingTimes())) {
-            throw new StadiumException(AlreadyReservedTime);
-        }
-
-        // Create Reservation
-        StadiumReservation reservation = StadiumReservation
-                .fromRequest(stadium, member, request, getPrice(stadiumId, request.getReservingDate(), request).getPrice());
-
-        // Save Reservation
-        stadiumReservationRepository.save(reservation);
-
-        // Create Item Reservation
-        List<StadiumReservationItem> rentalItems = new ArrayList<>();
-        if (request.getItems().size() > 0) {
-            request.getItems().forEach(item -> {
-                try {
-                    StadiumItem stadiumItem = stadiumItemRepository.findById(item.getItemId())
-                            .orElseThrow(() -> new StadiumException(ItemNotFound));
-
-                    rentalItems.add(StadiumReservationItem.builder()
-                            .item(stadiumItem)
-                            .count(item.getCount())
-                            .reservation(reservation)
-                            .price(item.getCount() * stadiumItem.getPrice())
-                            .build());
-                } catch (StadiumException e) {
-                    log.info("item not found. id:" + item.getItemId());
-                }
-            });
-            reservation.getItems().addAll(rentalItems);
-            stadiumReservationItemRepository.saveAll(rentalItems);
-        }
-
-        stadiumReservationRepository.save(reservation);
-        redissonLockReservingTimeFacade.unlock(stadiumId, request.getReservingDate());
+        StadiumReservation reservation = stadiumBookingService.book(member, stadium,
+                BookingRequest.fromRequest(request, toReservingMask(request.getReservingTimes())));
 
         return CreateReservationResponse.builder()
                 .reservationId(reservation.getId())
@@ -232,12 +302,65 @@ public class StadiumReservationService {
                         .collect(Collectors.toList()))
                 .pricePerHalfHour(reservation.getPrice())
                 .date(reservation.getReservingDate().toString())
-                .rentalItems(rentalItems.stream()
+                .rentalItems(reservation.getItems().stream()
                         .map(ItemResponse::fromReservationItem)
                         .collect(Collectors.toList()))
                 .build();
     }
 
+    /**
+     * 반복 예약 (매주 / 격주 같은 요일, 같은 시간대)
+     * 이미 예약된 날짜만 빼고 한 번에 예약하며, 날짜별 결과를 돌려준다.
+     */
+    @Transactional
+    public RecurringReservationResponse createRecurringReservation(
+            Member member,
+            Long stadiumId,
+            RecurringReservationRequest request
+    ) {
+        int intervalWeeks = request.getIntervalWeeks() == 0 ? 1 : request.getIntervalWeeks();
+        if (request.getStartDate() == null
+                || request.getOccurrences() < 1 || request.getOccurrences() > MAX_RECURRING_OCCURRENCES
+                || intervalWeeks < 1 || intervalWeeks > MAX_RECURRING_INTERVAL_WEEKS) {
+            throw new StadiumException(InvalidRecurrence);
+        }
+
+        long reservingMask = toReservingMask(request.getReservingTimes());
+        if (reservingMask == 0) {
+            throw new StadiumException(TimeFormatNotAccepted);
+        }
+
+        Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
+                () -> new StadiumException(StadiumNotFound));
+
+        List<LocalDate> dates = IntStream.range(0, request.getOccurrences())
+                .mapToObj(i -> request.getStartDate().plusWeeks((long) i * intervalWeeks))
+                .collect(Collectors.toList());
+        Map<LocalDate, StadiumReservation> reservations = stadiumBookingService.bookAll(member, stadium,
+                BookingRequest.fromRequest(request, reservingMask), dates);
+
+        return RecurringReservationResponse.builder()
+                .stadiumId(stadium.getId())
+                .stadiumName(stadium.getName())
+                .reservedTimes(ReservingTime.fromMask(reservingMask).stream()
+                        .map(ReservingTime::getTime)
+                        .collect(Collectors.toList()))
+                .reservedCount(reservations.size())
+                .results(dates.stream()
+                        .map(date -> {
+                            StadiumReservation reservation = reservations.get(date);
+                            return RecurringReservationResult.builder()
+                                    .date(date.toString())
+                                    .reserved(reservation != null)
+                                    .reservationId(reservation == null ? null : reservation.getId())
+                                    .price(reservation == null ? 0 : reservation.getPrice())
+                                    .build();
+                        })
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Transactional
     public void executeReservation(Member member, Long stadiumId, Long reservationId) {
         StadiumReservation reservation = stadiumReservationRepository
                 .findById(reservationId).orElseThrow(() ->
@@ -260,51 +383,50 @@ public class StadiumReservationService {
 
         reservation.executeReservation();
         stadiumReservationRepository.save(reservation);
+        stadiumStatService.recordExecuted(List.of(reservation));
     }
 
-    private boolean isAlreadyReservedTimes(
-            Stadium stadium, LocalDate date,
-            List<String> reservingTimes
-    ) {
-        List<ReservingTime> reservedTimes = new ArrayList<>();
-        stadiumReservationRepository
-                .findAllByStadiumAndReservingDate(stadium, date)
-                .forEach(reservation -> reservedTimes.addAll(reservation.getReservingTimes()));
-
-        for (String time : reservingTimes) {
-            try {
-                if (reservedTimes.contains(ReservingTime.findTime(time))) {
-                    return true;
-                }
-            } catch (Exception e) {
-                throw new StadiumException(TimeFormatNotAccepted);
-            }
-        }
-
-        return false;
-    }
-
+    /**
+     * 견적 (캐시된 가격표만 사용)
+     */
     public PriceResponse getPrice(
             Long stadiumId,
             LocalDate date,
             CreateReservationRequest request
     ) {
-        Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
-                () -> new StadiumException(StadiumNotFound));
+        return PriceResponse.builder()
+                .price(stadiumPriceService.getPriceTable(stadiumId).quote(date,
+                        request.getReservingTimes().size(),
+                        BookingItem.fromReservationItems(request.getItems())))
+                .build();
+    }
 
-        int stadiumPrice = isHoliday(date) ?
-                stadium.getHolidayPricePerHalfHour() * request.getReservingTimes().size()
-                : stadium.getWeekdayPricePerHalfHour() * request.getReservingTimes().size();
+    private static Pageable cursorPage(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_CURSOR_SIZE)));
+    }
 
-        int itemPrice = request.getItems().stream().map(item -> {
-            StadiumItem stadiumItem = stadiumItemRepository.findById(item.getItemId())
-                    .orElseThrow(() -> new StadiumException(StadiumItemNotFound));
+    private Map<Long, String> findFirstImgUrls(List<ReservationSummary> reservations) {
+        if (reservations.isEmpty()) {
+            return Map.of();
+        }
 
-            return stadiumItem.getPrice() * item.getCount();
-        }).reduce(0, Integer::sum);
+        return stadiumImgRepository.findFirstImgUrlsByStadiumIdIn(reservations.stream()
+                        .map(ReservationSummary::getStadiumId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(StadiumImgUrl::getStadiumId, StadiumImgUrl::getImgUrl));
+    }
 
-        return PriceResponse.builder()
-                .price(stadiumPrice + itemPrice)
+    private static <R extends ReservationKey, T> CursorResponse<T> toCursorResponse(
+            Slice<R> reservations, Function<R, T> mapper) {
+        List<R> content = reservations.getContent();
+        return CursorResponse.<T>builder()
+                .content(content.stream().map(mapper).collect(Collectors.toList()))
+                .size(content.size())
+                .hasNext(reservations.hasNext())
+                .nextCursor(reservations.hasNext() && !content.isEmpty()
+                        ? ReservationCursor.of(content.get(content.size() - 1)).encode()
+                        : null)
                 .build();
     }
 }
@@ -0,0 +1,85 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약일이 지난 RESERVED 예약을 EXECUTED 로 바꾼다. (사용 완료를 누르지 않은 예약도 리뷰를 쓸 수 있게)
+ * 예약을 읽지 않고 id 만 batchSize 개씩 잠가 일괄 UPDATE 하며, batch 마다 따로 커밋한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StadiumReservationSweepService {
+    static final String SWEPT_COUNTER = "reservation.sweep.swept";
+    static final String BATCH_COUNTER = "reservation.sweep.batches";
+    static final String RUN_TIMER = "reservation.sweep.run";
+
+    private final StadiumReservationRepository stadiumReservationRepository;
+    private final StadiumStatService stadiumStatService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scheduler.reservation-sweep.batch-size:500}")
+    private int batchSize = 500;
+
+    // 한 번 실행에서 처리할 최대 batch 수 (남은 예약은 다음 실행에서 처리)
+    @Value("${scheduler.reservation-sweep.max-batches:200}")
+    private int maxBatches = 200;
+
+    @Scheduled(cron = "${scheduler.reservation-sweep.cron:0 10 * * * *}")
+    public void sweepPastReservations() {
+        meterRegistry.timer(RUN_TIMER).record(() -> sweep(LocalDate.now()));
+    }
+
+    /**
+     * @param before 이 날짜 전 (당일 제외) 예약만 바꾼다.
+     * @return 바꾼 예약 수
+     */
+    public int sweep(LocalDate before) {
+        int swept = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer updated = transactionTemplate.execute(status -> sweepBatch(before));
+            if (updated == null || updated == 0) {
+                break;
+            }
+
+            swept += updated;
+            meterRegistry.counter(BATCH_COUNTER).increment();
+            meterRegistry.counter(SWEPT_COUNTER).increment(updated);
+            if (updated < batchSize) {
+                break;
+            }
+        }
+
+        if (swept > 0) {
+            log.info("[" + LocalDateTime.now() + "] 지난 예약 " + swept + "건이 사용 완료 처리되었습니다.");
+        }
+        return swept;
+    }
+
+    private int sweepBatch(LocalDate before) {
+        List<Long> ids = stadiumReservationRepository.findReservedIdsBeforeForUpdate(before, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // 잠근 행만 바꾸므로 집계와 UPDATE 건수가 같다.
+        stadiumReservationRepository.countAllByIdInGroupByStadiumAndDate(ids).forEach(count ->
+                stadiumStatService.recordExecuted(
+                        count.getStadiumId(), count.getReservingDate(), count.getCount().intValue()));
+        stadiumReservationRepository.updateStatusByIdIn(ids, StadiumReservationStatus.EXECUTED.name());
+        return ids.size();
+    }
+}
@@ -0,0 +1,204 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.stadium.model.entity.StadiumDocument;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumSearchOutbox;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumSearchOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 체육관 변경 (stadium_search_outbox) 을 모아서 검색 색인 (ES) 에 bulk 로 반영한다.
+ * batch 마다 대기 변경을 잠가 처리 중으로 미뤄 두고 커밋한 뒤 ES 에 쓰므로, ES 를 기다리는 동안 DB 잠금을 들고 있지 않는다.
+ * 실패한 체육관은 지수 backoff 로 다시 시도하고, 성공한 변경만 지운다.
+ */
+@Slf4j
+@Service
+public class StadiumSearchIndexService {
+    static final String INDEXED_COUNTER = "search.index.indexed";
+    static final String FAILED_COUNTER = "search.index.failed";
+    static final String LAG_GAUGE = "search.index.lag";
+    static final String RUN_TIMER = "search.index.run";
+    // ES bulk 실패 사유 (version_conflict_engine_exception)
+    private static final String VERSION_CONFLICT = "version_conflict";
+    // outbox 이전에 저장된 (내부 version 1, 2, ...) 문서보다 항상 크도록 outbox id 에 더한다.
+    static final long VERSION_OFFSET = 1L << 32;
+
+    private final StadiumSearchOutboxRepository stadiumSearchOutboxRepository;
+    private final StadiumRepository stadiumRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 가장 오래 기다린 변경이 쓰인 뒤 지난 시간 (초, 대기 변경이 없으면 0)
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    // 체육관마다 이미지, 태그를 따로 읽으므로 너무 크게 잡지 않는다.
+    @Value("${scheduler.search-index.batch-size:200}")
+    private int batchSize = 200;
+
+    // 한 번 실행에서 처리할 최대 batch 수 (남은 변경은 다음 실행에서 처리)
+    @Value("${scheduler.search-index.max-batches:50}")
+    private int maxBatches = 50;
+
+    // 처리 중인 변경을 다른 서버가 가져가지 않는 시간 (처리 중 서버가 죽으면 이후 다시 처리)
+    @Value("${scheduler.search-index.claim-seconds:60}")
+    private long claimSeconds = 60;
+
+    @Value("${scheduler.search-index.initial-backoff-seconds:1}")
+    private long initialBackoffSeconds = 1;
+
+    @Value("${scheduler.search-index.max-backoff-seconds:600}")
+    private long maxBackoffSeconds = 600;
+
+    public StadiumSearchIndexService(StadiumSearchOutboxRepository stadiumSearchOutboxRepository,
+                                     StadiumRepository stadiumRepository,
+                                     ElasticsearchOperations elasticsearchOperations,
+                                     TransactionTemplate transactionTemplate,
+                                     MeterRegistry meterRegistry) {
+        this.stadiumSearchOutboxRepository = stadiumSearchOutboxRepository;
+        this.stadiumRepository = stadiumRepository;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge(LAG_GAUGE, lagSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.search-index.delay:1000}")
+    public void indexChanges() {
+        meterRegistry.timer(RUN_TIMER).record(() -> drain(LocalDateTime.now()));
+    }
+
+    /**
+     * @param now 이 시각까지 반영할 때가 된 변경만 처리한다.
+     * @return 색인에 반영한 체육관 수
+     */
+    public int drain(LocalDateTime now) {
+        int indexed = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Batch claimed = transactionTemplate.execute(status -> claim(now));
+            if (claimed == null) {
+                break;
+            }
+
+            indexed += index(claimed, now);
+            if (claimed.rows < batchSize) {
+                break;
+            }
+        }
+
+        updateLag(now);
+        return indexed;
+    }
+
+    long backoffSeconds(int attempts) {
+        long backoff = initialBackoffSeconds << Math.min(attempts, 30);
+        return Math.min(backoff, maxBackoffSeconds);
+    }
+
+    private Batch claim(LocalDateTime now) {
+        List<StadiumSearchOutbox> rows = stadiumSearchOutboxRepository.findDueForUpdate(now, batchSize);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        // 같은 체육관의 변경은 한 번만 반영한다. (커밋 시점의 체육관을 읽는다)
+        Batch batch = new Batch(rows.size());
+        rows.forEach(row -> {
+            row.claim(now.plusSeconds(claimSeconds));
+            batch.outboxIds.computeIfAbsent(row.getStadiumId(), id -> new ArrayList<>()).add(row.getId());
+        });
+        stadiumRepository.findAllById(batch.outboxIds.keySet())
+                .forEach(stadium -> batch.documents.add(StadiumDocument.fromEntity(stadium)));
+        return batch;
+    }
+
+    private int index(Batch batch, LocalDateTime now) {
+        Set<Long> failed = write(batch);
+
+        List<Long> done = new ArrayList<>();
+        List<Long> retry = new ArrayList<>();
+        batch.outboxIds.forEach((stadiumId, outboxIds) -> (failed.contains(stadiumId) ? retry : done).addAll(outboxIds));
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                stadiumSearchOutboxRepository.deleteAllByIdInBatch(done);
+            }
+            stadiumSearchOutboxRepository.findAllById(retry).forEach(row ->
+                    row.retryAt(now.plusSeconds(backoffSeconds(row.getAttempts()))));
+        });
+
+        int indexed = batch.outboxIds.size() - failed.size();
+        meterRegistry.counter(INDEXED_COUNTER).increment(indexed);
+        meterRegistry.counter(FAILED_COUNTER).increment(failed.size());
+        return indexed;
+    }
+
+    /**
+     * 체육관마다 가장 큰 변경 (outbox) id + VERSION_OFFSET 을 external version 으로 쓴다.
+     * 다른 서버가 먼저 더 나중 변경을 반영했으면 ES 가 이 (이전) 문서를 거절하므로, 그 충돌은 반영한 것으로 본다.
+     *
+     * @return 반영하지 못한 체육관 id
+     */
+    private Set<Long> write(Batch batch) {
+        Set<Long> found = batch.documents.stream().map(StadiumDocument::getId).collect(Collectors.toSet());
+        try {
+            // DB 에서 지워진 체육관은 색인에서도 지운다. (다시 생기지 않으므로 순서와 상관없다)
+            batch.outboxIds.keySet().stream()
+                    .filter(stadiumId -> !found.contains(stadiumId))
+                    .forEach(stadiumId -> elasticsearchOperations.delete(String.valueOf(stadiumId), StadiumDocument.class));
+            if (!batch.documents.isEmpty()) {
+                elasticsearchOperations.bulkIndex(batch.documents.stream()
+                        .map(document -> new IndexQueryBuilder()
+                                .withId(String.valueOf(document.getId()))
+                                .withObject(document)
+                                .withVersion(VERSION_OFFSET + Collections.max(batch.outboxIds.get(document.getId())))
+                                .build())
+                        .collect(Collectors.toList()), StadiumDocument.class);
+            }
+            return Set.of();
+        } catch (BulkFailureException e) {
+            Map<String, String> failed = e.getFailedDocuments().entrySet().stream()
+                    .filter(failure -> failure.getValue() == null || !failure.getValue().contains(VERSION_CONFLICT))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            if (!failed.isEmpty()) {
+                log.warn("Stadium search index bulk failed. failed : {}", failed);
+            }
+            return failed.keySet().stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toSet());
+        } catch (RuntimeException e) {
+            log.warn("Stadium search index failed. stadiums : {}", batch.outboxIds.size(), e);
+            return batch.outboxIds.keySet();
+        }
+    }
+
+    private void updateLag(LocalDateTime now) {
+        lagSeconds.set(stadiumSearchOutboxRepository.findOldestCreatedAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, now).getSeconds()))
+                .orElse(0L));
+    }
+
+    private static class Batch {
+        private final int rows;
+        // 체육관 id -> 변경 (outbox) id
+        private final Map<Long, List<Long>> outboxIds = new LinkedHashMap<>();
+        private final List<StadiumDocument> documents = new ArrayList<>();
+
+        private Batch(int rows) {
+            this.rows = rows;
+        }
+    }
+}
@@ -2,42 +2,167 @@ package com.minwonhaeso.esc.stadium.service;
 
 import com.minwonhaeso.esc.error.exception.StadiumException;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository.StadiumDistance;
 import com.minwonhaeso.esc.stadium.repository.StadiumRepositorySupport;
-import com.minwonhaeso.esc.stadium.repository.StadiumSearchRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumSearchRepositorySupport;
+import com.minwonhaeso.esc.util.LocationUtils.BoundingBox;
+import com.minwonhaeso.esc.util.LocationUtils.Location;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.minwonhaeso.esc.error.type.StadiumErrorCode.LatLntInvalid;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.TimeFormatNotAccepted;
 
 @RequiredArgsConstructor
 @Service
 public class StadiumSearchService {
-    private final StadiumSearchRepository stadiumSearchRepository;
+    private final StadiumSearchRepositorySupport stadiumSearchRepositorySupport;
+    private final StadiumRepository stadiumRepository;
     private final StadiumRepositorySupport stadiumRepositorySupport;
+    private final StadiumAvailabilityService stadiumAvailabilityService;
+    private final StadiumGeoIndexService stadiumGeoIndexService;
+
+    private static final int CANDIDATE_BATCH_SIZE = 100;
+    private static final int MAX_CANDIDATES = 1000;
+    // 2km, 8km, 32km, 128km 순으로 넓힌다.
+    static final double INITIAL_RADIUS_METERS = 2_000;
+    static final double MAX_RADIUS_METERS = 128_000;
+    private static final int RADIUS_GROWTH = 4;
 
     @Transactional(readOnly = true)
     public Page<StadiumResponseDto> search(
             String searchValue,
             Pageable pageable) {
-        return stadiumSearchRepository
-                .findByNameContainsIgnoreCaseOrAddressContainsIgnoreCase(
-                        searchValue, searchValue, pageable)
-                .map(StadiumResponseDto::fromDocument);
+        return stadiumSearchRepositorySupport.search(searchValue, pageable);
     }
 
+    /**
+     * 내 주변 검색 : 반경 안에서 검색어에 맞는 체육관을 가까운 순으로 (거리 포함)
+     */
+    public Page<StadiumResponseDto> searchNearLocation(
+            String searchValue, Double lnt, Double lat, Double radiusMeters, Pageable pageable) {
+        if (lat < -90 || lat > 90 || lnt < -180 || lnt > 180 || radiusMeters <= 0) {
+            throw new StadiumException(LatLntInvalid);
+        }
+
+        return stadiumSearchRepositorySupport.searchNearLocation(searchValue, lnt, lat, radiusMeters, pageable);
+    }
+
+    /**
+     * 가까운 순 이용 가능한 체육관 (거리 포함)
+     * 서버 메모리 위치 색인이 준비됐으면 DB 를 읽지 않는다.
+     */
     @Transactional(readOnly = true)
     public List<StadiumResponseDto> getAllStadiumsNearLocation(Double lnt, Double lat, Pageable pageable) {
         if (lat < -90 || lat > 90 || lnt < -180 || lnt > 180) {
             throw new StadiumException(LatLntInvalid);
         }
 
-        return stadiumRepositorySupport.getAllStadiumsNearLocation(lnt, lat, pageable)
-                .stream().map(StadiumResponseDto::fromEntity).collect(Collectors.toList());
+        if (stadiumGeoIndexService.isLoaded()) {
+            return stadiumGeoIndexService.getStadiumsNearLocation(lnt, lat, pageable);
+        }
+        return toResponses(findNearest(lnt, lat, pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    /**
+     * 가까운 순으로 후보를 묶어서 가져오고, 후보 묶음마다 예약 조회 한 번으로 요청 시간대가 비어 있는 체육관만 남긴다.
+     * 가까운 MAX_CANDIDATES 개 안에서만 찾는다.
+     */
+    @Transactional(readOnly = true)
+    public List<StadiumResponseDto> getAllAvailableStadiumsNearLocation(
+            Double lnt, Double lat, LocalDate date, String startTime, String endTime, Pageable pageable) {
+        if (lat < -90 || lat > 90 || lnt < -180 || lnt > 180) {
+            throw new StadiumException(LatLntInvalid);
+        }
+
+        long requestedMask = toRangeMask(startTime, endTime);
+        long wanted = pageable.getOffset() + pageable.getPageSize();
+        List<StadiumDistance> availableStadiums = new ArrayList<>();
+
+        for (int page = 0; page * CANDIDATE_BATCH_SIZE < MAX_CANDIDATES && availableStadiums.size() < wanted; page++) {
+            List<StadiumDistance> candidates = findNearest(
+                    lnt, lat, (long) page * CANDIDATE_BATCH_SIZE, CANDIDATE_BATCH_SIZE);
+
+            Map<Long, Long> reservedMasks = stadiumAvailabilityService.getReservedMasks(
+                    candidates.stream().map(StadiumDistance::getStadiumId).collect(Collectors.toList()), date);
+
+            candidates.stream()
+                    .filter(stadium -> isAvailable(stadium, requestedMask,
+                            reservedMasks.getOrDefault(stadium.getStadiumId(), 0L)))
+                    .forEach(availableStadiums::add);
+
+            if (candidates.size() < CANDIDATE_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        return toResponses(availableStadiums.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 가까운 순 offset 번째부터 limit 개
+     * 작은 반경의 사각형 (공간 인덱스) 부터 찾고, 한 페이지가 차지 않으면 반경을 넓힌다.
+     * 반경 안에 offset + limit 개 이상 있으면 전체에서 찾은 것과 같다.
+     */
+    private List<StadiumDistance> findNearest(Double lnt, Double lat, long offset, int limit) {
+        Location location = Location.builder().lat(lat).lnt(lnt).build();
+        for (double radius = INITIAL_RADIUS_METERS; radius <= MAX_RADIUS_METERS; radius *= RADIUS_GROWTH) {
+            BoundingBox box = location.boundingBox(radius);
+            List<StadiumDistance> nearest = stadiumRepository.findNearestWithin(lnt, lat,
+                    box.getMinLnt(), box.getMinLat(), box.getMaxLnt(), box.getMaxLat(), radius, limit, offset);
+            if (nearest.size() == limit) {
+                return nearest;
+            }
+        }
+
+        // 체육관이 드문 곳은 전체에서 찾는다.
+        return stadiumRepository.findNearest(lnt, lat, limit, offset);
+    }
+
+    private List<StadiumResponseDto> toResponses(List<StadiumDistance> stadiums) {
+        Map<Long, Double> distances = stadiums.stream()
+                .collect(Collectors.toMap(StadiumDistance::getStadiumId, StadiumDistance::getDistance));
+
+        return stadiumRepositorySupport.getStadiumResponsesByIdIn(stadiums.stream()
+                        .map(StadiumDistance::getStadiumId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(stadium -> stadium.toBuilder().distance(distances.get(stadium.getStadiumId())).build())
+                .collect(Collectors.toList());
+    }
+
+    // 운영 시간 안이고, 예약된 시간대와 겹치지 않아야 한다.
+    private static boolean isAvailable(StadiumDistance stadium, long requestedMask, long reservedMask) {
+        long openMask = ReservingTime.rangeMask(
+                ReservingTime.valueOf(stadium.getOpenTime()), ReservingTime.valueOf(stadium.getCloseTime()));
+        return (requestedMask & ~openMask) == 0 && (requestedMask & reservedMask) == 0;
+    }
+
+    private static long toRangeMask(String startTime, String endTime) {
+        long mask;
+        try {
+            mask = ReservingTime.rangeMask(ReservingTime.findTime(startTime), ReservingTime.findTime(endTime));
+        } catch (Exception e) {
+            throw new StadiumException(TimeFormatNotAccepted);
+        }
+
+        if (mask == 0) {
+            throw new StadiumException(TimeFormatNotAccepted);
+        }
+        return mask;
     }
 }
@@ -2,6 +2,7 @@ package com.minwonhaeso.esc.stadium.service;
 
 import com.minwonhaeso.esc.error.exception.StadiumException;
 import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.security.auth.redis.CacheKey;
 import com.minwonhaeso.esc.stadium.model.dto.*;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumDto.CreateStadiumResponse;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumDto.UpdateStadiumRequest;
@@ -11,51 +12,54 @@ import com.minwonhaeso.esc.stadium.model.dto.StadiumItemDto.DeleteItemRequest;
 import com.minwonhaeso.esc.stadium.model.entity.*;
 import com.minwonhaeso.esc.stadium.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static com.minwonhaeso.esc.error.type.StadiumErrorCode.StadiumNotFound;
 import static com.minwonhaeso.esc.error.type.StadiumErrorCode.UnAuthorizedAccess;
-import static com.minwonhaeso.esc.stadium.model.type.StadiumStatus.AVAILABLE;
-
 
 @RequiredArgsConstructor
 @Service
 public class StadiumService {
     private final StadiumRepository stadiumRepository;
+    private final StadiumRepositorySupport stadiumRepositorySupport;
     private final StadiumImgRepository stadiumImgRepository;
     private final StadiumTagRepository stadiumTagRepository;
     private final StadiumItemRepository stadiumItemRepository;
-    private final StadiumSearchRepository stadiumSearchRepository;
+    private final StadiumSearchOutboxRepository stadiumSearchOutboxRepository;
     private final StadiumLikeRepository stadiumLikeRepository;
+    private final StadiumInfoCacheService stadiumInfoCacheService;
 
+    /**
+     * 체육관 상세 정보 (캐시, 찜하기 여부만 매번 조회)
+     */
     @Transactional(readOnly = true)
     public StadiumInfoResponseDto getStadiumInfo(Long stadiumId, Member member) {
-        Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
-                () -> new StadiumException(StadiumNotFound)
-        );
+        StadiumInfoResponseDto stadium = stadiumInfoCacheService.get(stadiumId, () ->
+                StadiumInfoResponseDto.fromEntity(stadiumRepository.findById(stadiumId).orElseThrow(
+                        () -> new StadiumException(StadiumNotFound))));
 
         boolean isLike = member != null &&
-                stadiumLikeRepository.existsByStadiumAndMember(stadium, member);
-
-        System.out.println(member);
+                stadiumLikeRepository.existsByStadiumIdAndMember(stadiumId, member);
 
-        return StadiumInfoResponseDto.fromEntity(stadium, isLike);
+        return stadium.toBuilder().isLike(isLike).build();
     }
 
     @Transactional(readOnly = true)
     public Page<StadiumResponseDto> getAllStadiums(Pageable pageable) {
-        return stadiumRepository.findAll(pageable).map(StadiumResponseDto::fromEntity);
+        return stadiumRepositorySupport.getAllStadiumResponses(pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<StadiumResponseDto> getAllStadiumsByManager(Member member, Pageable pageable) {
-        return stadiumRepository.findByMemberAndStatus(member, AVAILABLE, pageable).map(StadiumResponseDto::fromEntity);
+        return stadiumRepositorySupport.getStadiumResponsesByManager(member.getMemberId(), pageable);
     }
 
     @Transactional
@@ -88,11 +92,14 @@ public class StadiumService {
         }
 
         stadiumRepository.save(stadium);
-        stadiumSearchRepository.save(StadiumDocument.fromEntity(stadium));
+        stadiumInfoCacheService.publishChanged(stadium.getId());
+        // 검색 색인은 StadiumSearchIndexService 가 커밋 후 반영한다.
+        stadiumSearchOutboxRepository.save(StadiumSearchOutbox.of(stadium.getId(), LocalDateTime.now()));
 
         return CreateStadiumResponse.fromEntity(stadium);
     }
 
+    @CacheEvict(value = CacheKey.STADIUM_PRICE, key = "#stadiumId")
     @Transactional
     public void deleteStadium(Member member, Long stadiumId) {
         Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
@@ -107,7 +114,8 @@ public class StadiumService {
 
         stadium.deleteStadium();
         stadiumRepository.save(stadium);
-        stadiumSearchRepository.save(StadiumDocument.fromEntity(stadium));
+        stadiumInfoCacheService.evict(stadiumId);
+        stadiumSearchOutboxRepository.save(StadiumSearchOutbox.of(stadiumId, LocalDateTime.now()));
     }
 
     public StadiumImgDto addStadiumImg(Member member, Long stadiumId, String imgUrl) {
@@ -121,6 +129,7 @@ public class StadiumService {
         StadiumImg img = StadiumImg.builder().stadium(stadium).imgUrl(imgUrl).build();
         stadium.getImgs().add(img);
         stadiumImgRepository.save(img);
+        stadiumInfoCacheService.evict(stadiumId);
 
         return StadiumImgDto
                 .builder()
@@ -138,8 +147,10 @@ public class StadiumService {
         }
 
         stadiumImgRepository.deleteByStadiumIdAndImgUrl(stadiumId, imgUrl);
+        stadiumInfoCacheService.evict(stadiumId);
     }
 
+    @CacheEvict(value = CacheKey.STADIUM_PRICE, key = "#stadiumId")
     @Transactional
     public StadiumInfoResponseDto updateStadiumInfo(Member member, Long stadiumId, UpdateStadiumRequest request) {
         Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
@@ -158,8 +169,8 @@ public class StadiumService {
         stadiumImgRepository.saveAll(stadium.getImgs());
         stadiumItemRepository.saveAll(stadium.getRentalStadiumItems());
         stadiumRepository.save(stadium);
-        StadiumDocument stadiumDocument = StadiumDocument.fromEntity(stadium);
-        stadiumSearchRepository.save(stadiumDocument);
+        stadiumSearchOutboxRepository.save(StadiumSearchOutbox.of(stadiumId, LocalDateTime.now()));
+        stadiumInfoCacheService.evict(stadiumId);
         boolean isLike = stadiumLikeRepository.existsByStadiumAndMember(stadium, member);
         return StadiumInfoResponseDto.fromEntity(stadium, isLike);
     }
@@ -175,6 +186,7 @@ public class StadiumService {
         StadiumTag tag = StadiumTag.builder().stadium(stadium).name(tagName).build();
         stadium.getTags().add(tag);
         stadiumTagRepository.save(tag);
+        stadiumInfoCacheService.evict(stadiumId);
 
         return StadiumTagDto.builder().tagName(tag.getName()).build();
     }
@@ -188,8 +200,10 @@ public class StadiumService {
         }
 
         stadiumTagRepository.deleteByStadiumIdAndName(stadiumId, tagName);
+        stadiumInfoCacheService.evict(stadiumId);
     }
 
+    @CacheEvict(value = CacheKey.STADIUM_PRICE, key = "#stadiumId")
     public CreateItemResponse addStadiumItem(Long stadiumId, CreateItemRequest request) {
         Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
                 () -> new StadiumException(StadiumNotFound)
@@ -198,6 +212,7 @@ public class StadiumService {
         StadiumItem item = StadiumItem.fromRequest(request, stadium);
         stadium.getRentalStadiumItems().add(item);
         stadiumItemRepository.save(item);
+        stadiumInfoCacheService.evict(stadiumId);
 
         return CreateItemResponse.builder()
                 .name(item.getName())
@@ -207,6 +222,7 @@ public class StadiumService {
                 .build();
     }
 
+    @CacheEvict(value = CacheKey.STADIUM_PRICE, key = "#stadiumId")
     public void deleteStadiumItem(Member member, Long stadiumId, DeleteItemRequest request) {
         Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
                 () -> new StadiumException(StadiumNotFound));
@@ -216,5 +232,6 @@ public class StadiumService {
         }
 
         stadiumItemRepository.deleteByStadiumIdAndId(stadiumId, request.getId());
+        stadiumInfoCacheService.evict(stadiumId);
     }
 }
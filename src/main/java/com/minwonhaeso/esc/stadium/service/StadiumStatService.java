@@ -0,0 +1,142 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumDashboardDto.DailyStat;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumDashboardDto.DashboardResponse;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumDailyStat;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservation;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.repository.StadiumDailyStatRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.*;
+import static com.minwonhaeso.esc.stadium.model.dto.StadiumDashboardDto.occupancyRate;
+
+/**
+ * 체육관-날짜별 예약 집계 (stadium_daily_stat)
+ * 예약 / 취소 / 사용 완료를 처리하는 트랜잭션 안에서 집계 행에 값을 더하고,
+ * 매니저 대시보드는 stadium_reservation 을 읽지 않고 집계 행만 읽는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class StadiumStatService {
+    private static final int MAX_DASHBOARD_DAYS = 366;
+
+    private final StadiumRepository stadiumRepository;
+    private final StadiumDailyStatRepository stadiumDailyStatRepository;
+
+    /**
+     * 새 예약 (체육관-날짜별로 모아서 한 번씩 더한다)
+     */
+    @Transactional
+    public void recordReserved(Collection<StadiumReservation> reservations) {
+        group(reservations).forEach((key, group) -> stadiumDailyStatRepository.add(
+                key.getStadiumId(), key.getDate(),
+                group.size(), bookedSlots(group), revenue(group),
+                0, 0L, 0));
+    }
+
+    /**
+     * 예약 취소 (예약 / 시간대 / 매출에서 빼고 취소에 더한다)
+     */
+    @Transactional
+    public void recordCanceled(StadiumReservation reservation) {
+        stadiumDailyStatRepository.add(
+                reservation.getStadium().getId(), reservation.getReservingDate(),
+                -1, -reservation.getReservingTimes().size(), -reservation.getPrice(),
+                1, reservation.getPrice(), 0);
+    }
+
+    /**
+     * 사용 완료
+     */
+    @Transactional
+    public void recordExecuted(Collection<StadiumReservation> reservations) {
+        group(reservations).forEach((key, group) ->
+                recordExecuted(key.getStadiumId(), key.getDate(), group.size()));
+    }
+
+    /**
+     * 사용 완료 (체육관-날짜별 건수, 예약을 읽지 않고 일괄 변경할 때)
+     */
+    @Transactional
+    public void recordExecuted(Long stadiumId, LocalDate date, int count) {
+        stadiumDailyStatRepository.add(stadiumId, date, 0, 0, 0L, 0, 0L, count);
+    }
+
+    /**
+     * 매니저 대시보드 (기간 내 날짜별 집계, 집계가 없는 날은 0)
+     */
+    @Transactional(readOnly = true)
+    public DashboardResponse getDashboard(Member member, Long stadiumId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_DASHBOARD_DAYS) {
+            throw new StadiumException(InvalidDateRange);
+        }
+
+        Stadium stadium = stadiumRepository.findById(stadiumId).orElseThrow(
+                () -> new StadiumException(StadiumNotFound));
+
+        if (!stadium.getMember().getMemberId().equals(member.getMemberId())) {
+            throw new StadiumException(UnAuthorizedAccess);
+        }
+
+        Map<LocalDate, StadiumDailyStat> stats = stadiumDailyStatRepository
+                .findAllByStadiumIdAndStatDateBetweenOrderByStatDate(stadiumId, from, to).stream()
+                .collect(Collectors.toMap(StadiumDailyStat::getStatDate, Function.identity()));
+
+        int openSlots = Long.bitCount(ReservingTime.rangeMask(stadium.getOpenTime(), stadium.getCloseTime()));
+        List<DailyStat> days = from.datesUntil(to.plusDays(1))
+                .map(date -> stats.containsKey(date)
+                        ? DailyStat.fromEntity(stats.get(date), openSlots)
+                        : DailyStat.empty(date))
+                .collect(Collectors.toList());
+
+        int bookedSlots = days.stream().mapToInt(DailyStat::getBookedSlots).sum();
+        return DashboardResponse.builder()
+                .stadiumId(stadiumId)
+                .from(from.toString())
+                .to(to.toString())
+                .openSlots(openSlots)
+                .reservationCount(days.stream().mapToInt(DailyStat::getReservationCount).sum())
+                .bookedSlots(bookedSlots)
+                .revenue(days.stream().mapToLong(DailyStat::getRevenue).sum())
+                .canceledCount(days.stream().mapToInt(DailyStat::getCanceledCount).sum())
+                .canceledRevenue(days.stream().mapToLong(DailyStat::getCanceledRevenue).sum())
+                .executedCount(days.stream().mapToInt(DailyStat::getExecutedCount).sum())
+                .occupancyRate(occupancyRate(bookedSlots, (long) openSlots * days.size()))
+                .days(days)
+                .build();
+    }
+
+    private Map<StatKey, List<StadiumReservation>> group(Collection<StadiumReservation> reservations) {
+        return reservations.stream().collect(Collectors.groupingBy(
+                reservation -> new StatKey(reservation.getStadium().getId(), reservation.getReservingDate()),
+                LinkedHashMap::new, Collectors.toList()));
+    }
+
+    private int bookedSlots(List<StadiumReservation> reservations) {
+        return reservations.stream().mapToInt(reservation -> reservation.getReservingTimes().size()).sum();
+    }
+
+    private long revenue(List<StadiumReservation> reservations) {
+        return reservations.stream().mapToLong(StadiumReservation::getPrice).sum();
+    }
+
+    @Value
+    private static class StatKey {
+        Long stadiumId;
+        LocalDate date;
+    }
+}
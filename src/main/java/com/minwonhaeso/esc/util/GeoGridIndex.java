@@ -0,0 +1,164 @@
+package com.minwonhaeso.esc.util;
+
+import com.minwonhaeso.esc.util.LocationUtils.Location;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.minwonhaeso.esc.util.LocationUtils.METERS_PER_DEGREE;
+
+/**
+ * 위도 / 경도 격자 공간 색인 (k 개 최근접 조회)
+ * 조회 지점의 칸부터 한 겹씩 넓혀 가며 읽고, 아직 안 읽은 칸까지의 최소 거리가 k 번째 거리보다 멀어지면 멈춘다.
+ * 조회는 잠금 없이, 추가 / 삭제는 한 번에 하나씩 한다.
+ */
+public class GeoGridIndex<T> {
+    private final double cellDegrees;
+    private final int rows;
+    private final int cols;
+    private final Map<Long, Point<T>> points = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Point<T>>> cells = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees) + 1;
+        this.cols = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    public synchronized void put(Long id, double lat, double lnt, T value) {
+        remove(id);
+        Point<T> point = new Point<>(id, lat, lnt, value);
+        points.put(id, point);
+        cells.computeIfAbsent(cellKey(row(lat), col(lnt)), key -> new ConcurrentHashMap<>()).put(id, point);
+    }
+
+    public synchronized void remove(Long id) {
+        Point<T> point = points.remove(id);
+        if (point == null) {
+            return;
+        }
+
+        long key = cellKey(row(point.lat), col(point.lnt));
+        Map<Long, Point<T>> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(id);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 가까운 순 offset 번째부터 limit 개 (거리가 같으면 id 순)
+     */
+    public List<Nearest<T>> nearest(double lat, double lnt, long offset, int limit) {
+        long wanted = offset + limit;
+        if (limit <= 0 || points.isEmpty()) {
+            return List.of();
+        }
+
+        Location from = Location.builder().lat(lat).lnt(lnt).build();
+        // 가장 먼 후보가 맨 앞
+        PriorityQueue<Nearest<T>> found = new PriorityQueue<>(Comparator.<Nearest<T>>naturalOrder().reversed());
+        int row = row(lat);
+        int col = col(lnt);
+
+        for (int ring = 0; ; ring++) {
+            // 읽을 칸이 점보다 많아지거나 경도 방향으로 한 바퀴를 넘으면 (칸이 겹침) 전부 읽는다.
+            long width = 2L * ring + 1;
+            if (width >= cols || width * width > points.size()) {
+                found.clear();
+                points.values().forEach(point -> offer(found, point, from, wanted));
+                break;
+            }
+
+            for (int r = row - ring; r <= row + ring; r++) {
+                if (r < 0 || r >= rows) {
+                    continue;
+                }
+                boolean edge = r == row - ring || r == row + ring;
+                for (int c = col - ring; c <= col + ring; c += edge ? 1 : 2 * ring) {
+                    Map<Long, Point<T>> cell = cells.get(cellKey(r, Math.floorMod(c, cols)));
+                    if (cell != null) {
+                        cell.values().forEach(point -> offer(found, point, from, wanted));
+                    }
+                }
+            }
+
+            if (found.size() >= wanted && found.peek().distance <= minDistanceOutside(lat, ring)) {
+                break;
+            }
+        }
+
+        List<Nearest<T>> sorted = new ArrayList<>(found);
+        Collections.sort(sorted);
+        return sorted.subList((int) Math.min(offset, sorted.size()), sorted.size());
+    }
+
+    // ring 겹까지 읽었을 때, 아직 안 읽은 칸에 있는 점까지의 최소 거리 (m)
+    private double minDistanceOutside(double lat, int ring) {
+        double maxLat = Math.min(90, Math.abs(lat) + (ring + 1) * cellDegrees);
+        return ring * cellDegrees * METERS_PER_DEGREE * Math.cos(Math.toRadians(maxLat));
+    }
+
+    private void offer(PriorityQueue<Nearest<T>> found, Point<T> point, Location from, long wanted) {
+        Nearest<T> nearest = new Nearest<>(point.id, point.value, from.getDistance(point.lat, point.lnt) * 1000);
+        if (found.size() < wanted) {
+            found.add(nearest);
+        } else if (nearest.compareTo(found.peek()) < 0) {
+            found.poll();
+            found.add(nearest);
+        }
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor((lat + 90) / cellDegrees);
+    }
+
+    private int col(double lnt) {
+        return Math.floorMod((int) Math.floor((lnt + 180) / cellDegrees), cols);
+    }
+
+    private long cellKey(int row, int col) {
+        return (long) row * cols + col;
+    }
+
+    private static class Point<T> {
+        private final Long id;
+        private final double lat;
+        private final double lnt;
+        private final T value;
+
+        private Point(Long id, double lat, double lnt, T value) {
+            this.id = id;
+            this.lat = lat;
+            this.lnt = lnt;
+            this.value = value;
+        }
+    }
+
+    @Getter
+    public static class Nearest<T> implements Comparable<Nearest<T>> {
+        private final Long id;
+        private final T value;
+        // 미터
+        private final double distance;
+
+        private Nearest(Long id, T value, double distance) {
+            this.id = id;
+            this.value = value;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(Nearest<T> other) {
+            int compared = Double.compare(distance, other.distance);
+            return compared != 0 ? compared : id.compareTo(other.id);
+        }
+    }
+}
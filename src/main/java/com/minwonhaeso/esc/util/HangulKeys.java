@@ -0,0 +1,100 @@
+package com.minwonhaeso.esc.util;
+
+import com.ibm.icu.text.Normalizer2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 자동완성 색인 / 검색어 키
+ * 한글은 자모 (NFKD) 로 풀어서 비교하므로 입력 중인 글자 (푸 -> 풋살) 도 앞부분으로 맞는다.
+ * 호환 자모 (ㅍㅅ) 도 NFKD 로 초성 자모가 되므로 초성 키 (풋살 -> ㅍㅅ) 와 비교할 수 있다.
+ */
+public final class HangulKeys {
+    private static final Normalizer2 NFKD = Normalizer2.getNFKDInstance();
+
+    // 초성 ㄱ ~ ㅎ, 중성 ㅏ ~ ㅣ, 종성 ㄱ ~ ㅎ (한글 자모 영역)
+    private static final char FIRST_CHOSEONG = '\u1100';
+    private static final char LAST_CHOSEONG = '\u1112';
+    private static final char FIRST_JUNGSEONG = '\u1161';
+    private static final char LAST_JUNGSEONG = '\u1175';
+    private static final char FIRST_JONGSEONG = '\u11A8';
+
+    // 종성 (ㄱ 부터 유니코드 순) 을 다음 글자 초성으로 옮길 때 : 남는 종성 + 옮기는 초성 (겹받침은 뒤 자음만 옮긴다)
+    private static final String[] JONGSEONG_TO_CHOSEONG = {
+            "\u1100", "\u1101", "\u11A8\u1109", "\u1102", "\u11AB\u110C", "\u11AB\u1112", "\u1103", // ㄱ ㄲ ㄳ ㄴ ㄵ ㄶ ㄷ
+            "\u1105", "\u11AF\u1100", "\u11AF\u1106", "\u11AF\u1107", "\u11AF\u1109", "\u11AF\u1110", "\u11AF\u1111", "\u11AF\u1112", // ㄹ ㄺ ㄻ ㄼ ㄽ ㄾ ㄿ ㅀ
+            "\u1106", "\u1107", "\u11B8\u1109", "\u1109", "\u110A", "\u110B", "\u110C", "\u110E", // ㅁ ㅂ ㅄ ㅅ ㅆ ㅇ ㅈ ㅊ
+            "\u110F", "\u1110", "\u1111", "\u1112"}; // ㅋ ㅌ ㅍ ㅎ
+
+    private HangulKeys() {
+    }
+
+    /**
+     * 자모로 풀고 소문자, 공백 하나로
+     */
+    public static String normalize(String text) {
+        return NFKD.normalize(text.trim().toLowerCase(Locale.ROOT)).replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 초성 키 : 한글은 초성만, 공백은 빼고 나머지는 그대로 (normalize 한 값)
+     */
+    public static String choseong(String normalized) {
+        StringBuilder key = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c != ' ' && !isJungseong(c) && !isJongseong(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 모음 없이 초성만 입력했는지 (ㄱㄴ, ㅍㅅ)
+     */
+    public static boolean isChoseongOnly(String normalized) {
+        boolean choseong = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isJungseong(c) || isJongseong(c)) {
+                return false;
+            }
+            choseong |= isChoseong(c);
+        }
+        return choseong;
+    }
+
+    /**
+     * 자동완성 검색 키 (normalize 한 값)
+     * 초성만 입력했으면 초성 키, 마지막 글자에 받침이 있으면 받침이 다음 글자 초성인 경우 (풋 -> 푸사) 도 찾는다.
+     */
+    public static List<String> prefixes(String normalized) {
+        List<String> prefixes = new ArrayList<>(2);
+        if (isChoseongOnly(normalized)) {
+            prefixes.add(choseong(normalized));
+            return prefixes;
+        }
+
+        prefixes.add(normalized);
+        int last = normalized.length() - 1;
+        if (last >= 0 && isJongseong(normalized.charAt(last))) {
+            prefixes.add(normalized.substring(0, last) + JONGSEONG_TO_CHOSEONG[normalized.charAt(last) - FIRST_JONGSEONG]);
+        }
+        return prefixes;
+    }
+
+    private static boolean isChoseong(char c) {
+        return c >= FIRST_CHOSEONG && c <= LAST_CHOSEONG;
+    }
+
+    private static boolean isJungseong(char c) {
+        return c >= FIRST_JUNGSEONG && c <= LAST_JUNGSEONG;
+    }
+
+    private static boolean isJongseong(char c) {
+        return c >= FIRST_JONGSEONG && c < FIRST_JONGSEONG + JONGSEONG_TO_CHOSEONG.length;
+    }
+}
@@ -0,0 +1,217 @@
+package com.minwonhaeso.esc.util;
+
+import com.ibm.icu.util.ChineseCalendar;
+import com.ibm.icu.util.DangiCalendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 연도별 공휴일 비트셋 (양력, 음력 법정공휴일과 대체공휴일)
+ * 연도마다 처음 조회할 때 한 번 계산해 두고, 이후 조회는 비트 하나만 확인한다.
+ */
+public final class HolidayCalendar {
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 2199;
+    // JULIAN_DAY 2440588 = 1970-01-01
+    private static final int EPOCH_JULIAN_DAY = 2440588;
+    // 단기 (DangiCalendar EXTENDED_YEAR) = 서기 + 2333
+    private static final int DANGI_YEAR_OFFSET = 2333;
+
+    // 신정, 현충일은 대체공휴일 대상이 아니다.
+    private static final MonthDay NEW_YEAR = MonthDay.of(1, 1);
+    private static final MonthDay MEMORIAL_DAY = MonthDay.of(6, 6);
+    private static final MonthDay CHILDREN_DAY = MonthDay.of(5, 5);
+    private static final MonthDay[] NATIONAL_DAYS = {
+            MonthDay.of(3, 1), MonthDay.of(8, 15), MonthDay.of(10, 3), MonthDay.of(10, 9)};
+    private static final MonthDay CHRISTMAS = MonthDay.of(12, 25);
+
+    // 대체공휴일 적용 시작일
+    private static final LocalDate SUBSTITUTE_SINCE = LocalDate.of(2014, 1, 1);
+    private static final LocalDate NATIONAL_DAY_SUBSTITUTE_SINCE = LocalDate.of(2021, 8, 4);
+    private static final LocalDate BUDDHA_CHRISTMAS_SUBSTITUTE_SINCE = LocalDate.of(2023, 5, 4);
+
+    private static final AtomicReferenceArray<long[]> YEARS = new AtomicReferenceArray<>(MAX_YEAR - MIN_YEAR + 1);
+
+    private HolidayCalendar() {
+    }
+
+    /**
+     * 법정공휴일, 대체공휴일, 토요일, 일요일이면 true
+     */
+    public static boolean isHoliday(LocalDate date) {
+        return isWeekend(date) || isPublicHoliday(date);
+    }
+
+    /**
+     * 법정공휴일, 대체공휴일이면 true (주말 제외)
+     */
+    public static boolean isPublicHoliday(LocalDate date) {
+        return isSet(holidaysOf(date.getYear()), date.getDayOfYear() - 1);
+    }
+
+    private static long[] holidaysOf(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return compute(year);
+        }
+
+        long[] holidays = YEARS.get(year - MIN_YEAR);
+        if (holidays == null) {
+            // 동시에 계산해도 결과가 같으므로 먼저 넣은 것을 쓴다.
+            YEARS.compareAndSet(year - MIN_YEAR, null, compute(year));
+            holidays = YEARS.get(year - MIN_YEAR);
+        }
+        return holidays;
+    }
+
+    static long[] compute(int year) {
+        List<Holiday> holidays = new ArrayList<>();
+
+        holidays.add(Holiday.single(NEW_YEAR.atYear(year), Substitute.NONE));
+        holidays.add(Holiday.single(MEMORIAL_DAY.atYear(year), Substitute.NONE));
+        holidays.add(Holiday.single(CHILDREN_DAY.atYear(year),
+                substituteIf(CHILDREN_DAY.atYear(year), SUBSTITUTE_SINCE)));
+        for (MonthDay day : NATIONAL_DAYS) {
+            holidays.add(Holiday.single(day.atYear(year),
+                    substituteIf(day.atYear(year), NATIONAL_DAY_SUBSTITUTE_SINCE)));
+        }
+        holidays.add(Holiday.single(CHRISTMAS.atYear(year),
+                substituteIf(CHRISTMAS.atYear(year), BUDDHA_CHRISTMAS_SUBSTITUTE_SINCE)));
+
+        // 부처님오신날 (음력 4.8)
+        LocalDate buddha = lunarToSolar(year, 4, 8);
+        holidays.add(Holiday.single(buddha, substituteIf(buddha, BUDDHA_CHRISTMAS_SUBSTITUTE_SINCE)));
+
+        // 설날, 추석 연휴 (전날, 당일, 다음날) 는 일요일이나 다른 공휴일과 겹칠 때만 대체공휴일
+        addLongHoliday(holidays, lunarToSolar(year, 1, 1));
+        addLongHoliday(holidays, lunarToSolar(year, 8, 15));
+
+        int length = LocalDate.ofYearDay(year, 1).lengthOfYear();
+        long[] bits = new long[(length + Long.SIZE - 1) / Long.SIZE];
+        int[] counts = new int[length];
+        for (Holiday holiday : holidays) {
+            if (holiday.date.getYear() == year) {
+                set(bits, holiday.date.getDayOfYear() - 1);
+                counts[holiday.date.getDayOfYear() - 1]++;
+            }
+        }
+
+        // 날짜 순으로 하루에 최대 한 번, 다음 첫 평일 (주말, 공휴일 아님) 을 대체공휴일로 둔다.
+        LocalDate first = LocalDate.ofYearDay(year, 1);
+        for (int index = 0; index < length; index++) {
+            if (counts[index] == 0) {
+                continue;
+            }
+
+            LocalDate date = first.plusDays(index);
+            LocalDate searchFrom = null;
+            for (Holiday holiday : holidays) {
+                if (holiday.date.equals(date) && holiday.isLost(counts[index] > 1)) {
+                    LocalDate candidate = holiday.lastDate.plusDays(1);
+                    if (searchFrom == null || candidate.isAfter(searchFrom)) {
+                        searchFrom = candidate;
+                    }
+                }
+            }
+
+            if (searchFrom != null) {
+                LocalDate substitute = searchFrom;
+                while (substitute.getYear() == year
+                        && (isWeekend(substitute) || isSet(bits, substitute.getDayOfYear() - 1))) {
+                    substitute = substitute.plusDays(1);
+                }
+                if (substitute.getYear() == year) {
+                    set(bits, substitute.getDayOfYear() - 1);
+                }
+            }
+        }
+
+        return bits;
+    }
+
+    private static void addLongHoliday(List<Holiday> holidays, LocalDate day) {
+        Substitute substitute = substituteIf(day, SUBSTITUTE_SINCE) == Substitute.NONE
+                ? Substitute.NONE : Substitute.SUNDAY;
+        LocalDate lastDate = day.plusDays(1);
+        for (int offset = -1; offset <= 1; offset++) {
+            holidays.add(new Holiday(day.plusDays(offset), lastDate, substitute));
+        }
+    }
+
+    private static Substitute substituteIf(LocalDate date, LocalDate since) {
+        return date.isBefore(since) ? Substitute.NONE : Substitute.WEEKEND;
+    }
+
+    private static LocalDate lunarToSolar(int year, int month, int day) {
+        ChineseCalendar calendar = newKoreanLunarCalendar();
+        calendar.clear();
+        calendar.set(ChineseCalendar.EXTENDED_YEAR, year + DANGI_YEAR_OFFSET);
+        calendar.set(ChineseCalendar.MONTH, month - 1);
+        calendar.set(ChineseCalendar.IS_LEAP_MONTH, 0);
+        calendar.set(ChineseCalendar.DAY_OF_MONTH, day);
+
+        return LocalDate.ofEpochDay(calendar.get(ChineseCalendar.JULIAN_DAY) - EPOCH_JULIAN_DAY);
+    }
+
+    // ChineseCalendar 는 TimeZone 과 상관없이 중국 기준 경도로 음력을 계산해 날짜가 하루씩 어긋나는 해가 있다.
+    // DangiCalendar 는 ICU 내부용 (deprecated) 으로 표시돼 있지만 한국 기준 경도로 계산하는 유일한 구현이다.
+    @SuppressWarnings("deprecation")
+    private static ChineseCalendar newKoreanLunarCalendar() {
+        return new DangiCalendar();
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private enum Substitute {
+        // 대체공휴일 없음
+        NONE,
+        // 일요일, 다른 공휴일과 겹칠 때 (설날, 추석)
+        SUNDAY,
+        // 토요일, 일요일, 다른 공휴일과 겹칠 때
+        WEEKEND
+    }
+
+    private static class Holiday {
+        private final LocalDate date;
+        // 연휴의 마지막 날 (대체공휴일은 이 다음 날부터 찾는다)
+        private final LocalDate lastDate;
+        private final Substitute substitute;
+
+        private Holiday(LocalDate date, LocalDate lastDate, Substitute substitute) {
+            this.date = date;
+            this.lastDate = lastDate;
+            this.substitute = substitute;
+        }
+
+        private static Holiday single(LocalDate date, Substitute substitute) {
+            return new Holiday(date, date, substitute);
+        }
+
+        // 이 공휴일이 주말이나 다른 공휴일과 겹쳐 쉬는 날을 잃었는지
+        private boolean isLost(boolean overlapped) {
+            switch (substitute) {
+                case SUNDAY:
+                    return overlapped || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+                case WEEKEND:
+                    return overlapped || isWeekend(date);
+                default:
+                    return false;
+            }
+        }
+    }
+}
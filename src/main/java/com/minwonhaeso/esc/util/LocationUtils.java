@@ -1,9 +1,13 @@
 package com.minwonhaeso.esc.util;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 public class LocationUtils {
+    // 위도 1도 거리 (m, ST_Distance_Sphere 의 지구 반지름 6,370,986m 기준)
+    public static final double METERS_PER_DEGREE = 111_194;
+
     @Data
     @Builder
     public static class Location {
@@ -14,10 +18,27 @@ public class LocationUtils {
             double theta = toLnt - this.lnt;
             double dist = Math.sin(deg2rad(toLat)) * Math.sin(deg2rad(this.lat))
                     + Math.cos(deg2rad(toLat)) * Math.cos(deg2rad(this.lat)) * Math.cos(deg2rad(theta));
-            dist = rad2deg(Math.acos(dist)) * 111.189557;
+            // 같은 지점은 부동소수점 오차로 1 을 조금 넘을 수 있다.
+            dist = rad2deg(Math.acos(Math.min(1.0, dist))) * 111.189557;
             return Math.round(dist * 10000) / 10000.0;
         }
 
+        /**
+         * 반경 radiusMeters 원을 감싸는 위도 / 경도 사각형 (극 근처, 날짜 변경선은 경도 전체로 넓힌다)
+         */
+        public BoundingBox boundingBox(double radiusMeters) {
+            double latDelta = radiusMeters / METERS_PER_DEGREE;
+            double minLat = Math.max(-90, this.lat - latDelta);
+            double maxLat = Math.min(90, this.lat + latDelta);
+
+            double cos = Math.cos(deg2rad(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+            double lntDelta = cos <= 0 ? 180 : radiusMeters / (METERS_PER_DEGREE * cos);
+            if (lntDelta >= 180 || this.lnt - lntDelta < -180 || this.lnt + lntDelta > 180) {
+                return new BoundingBox(minLat, -180.0, maxLat, 180.0);
+            }
+            return new BoundingBox(minLat, this.lnt - lntDelta, maxLat, this.lnt + lntDelta);
+        }
+
         // This function converts decimal degrees to radians
         private Double deg2rad(Double deg) {
             return (deg * Math.PI / 180.0);
@@ -28,4 +49,13 @@ public class LocationUtils {
             return (rad * 180 / Math.PI);
         }
     }
+
+    @Data
+    @AllArgsConstructor
+    public static class BoundingBox {
+        private Double minLat;
+        private Double minLnt;
+        private Double maxLat;
+        private Double maxLnt;
+    }
 }
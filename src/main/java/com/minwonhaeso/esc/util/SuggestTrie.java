@@ -0,0 +1,137 @@
+package com.minwonhaeso.esc.util;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 앞부분 일치 자동완성 색인 (노드마다 아래에 있는 값 중 앞 순서 topK 개를 미리 들고 있음)
+ * 조회는 검색어 길이만큼 내려가서 목록을 읽기만 하므로 색인 크기와 상관없다.
+ * 조회는 잠금 없이, 추가 / 삭제는 한 번에 하나씩 한다.
+ */
+public class SuggestTrie<T> {
+    private final int topK;
+    private final Comparator<T> order;
+    private final Node<T> root = new Node<>();
+
+    public SuggestTrie(int topK, Comparator<T> order) {
+        this.topK = topK;
+        this.order = order;
+    }
+
+    public synchronized void add(String key, T value) {
+        List<Node<T>> path = new ArrayList<>(key.length() + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.child(key.charAt(i));
+            path.add(node);
+        }
+
+        if (node.values == null) {
+            node.values = new HashSet<>(2);
+        }
+        if (!node.values.add(value)) {
+            return;
+        }
+        for (Node<T> pathNode : path) {
+            offer(pathNode, value);
+        }
+    }
+
+    public synchronized void remove(String key, T value) {
+        List<Node<T>> path = path(key);
+        Node<T> last = path == null ? null : path.get(path.size() - 1);
+        if (last == null || last.values == null || !last.values.remove(value)) {
+            return;
+        }
+        if (last.values.isEmpty()) {
+            last.values = null;
+        }
+
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> node = path.get(i);
+            // 여기서 앞 순서가 아니었으면 위 노드에서도 아니다. (다른 키로 들어간 같은 값은 그대로 둔다)
+            if (!node.top.contains(value)) {
+                break;
+            }
+            node.top = top(Stream.concat(node.values == null ? Stream.empty() : node.values.stream(),
+                    node.children().stream().flatMap(child -> child.top.stream())));
+        }
+
+        // 빈 노드 정리
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node<T> node = path.get(i);
+            if (node.values != null || !node.children().isEmpty()) {
+                break;
+            }
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 키의 값 중 앞 순서 topK 개
+     */
+    public List<T> top(String prefix) {
+        Node<T> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children == null ? null : node.children.get(prefix.charAt(i));
+        }
+        return node == null ? List.of() : node.top;
+    }
+
+    private List<Node<T>> path(String key) {
+        List<Node<T>> path = new ArrayList<>(key.length() + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children == null ? null : node.children.get(key.charAt(i));
+            if (node == null) {
+                return null;
+            }
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void offer(Node<T> node, T value) {
+        List<T> top = node.top;
+        if (top.contains(value)
+                || (top.size() >= topK && order.compare(value, top.get(top.size() - 1)) >= 0)) {
+            return;
+        }
+        int index = Collections.binarySearch(top, value, order);
+        List<T> offered = new ArrayList<>(top.size() + 1);
+        offered.addAll(top);
+        offered.add(index < 0 ? -index - 1 : index, value);
+        node.top = Collections.unmodifiableList(
+                offered.size() > topK ? offered.subList(0, topK) : offered);
+    }
+
+    private List<T> top(Stream<T> values) {
+        return values.distinct()
+                .sorted(order)
+                .limit(topK)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    // 노드가 많으므로 자식, 값은 있을 때만 만든다.
+    private static class Node<T> {
+        private volatile Map<Character, Node<T>> children;
+        // 이 노드에서 끝나는 키의 값 (추가 / 삭제 중에만 읽음)
+        private Set<T> values;
+        private volatile List<T> top = List.of();
+
+        private Node<T> child(char c) {
+            if (children == null) {
+                children = new ConcurrentHashMap<>(2);
+            }
+            return children.computeIfAbsent(c, key -> new Node<>());
+        }
+
+        private Collection<Node<T>> children() {
+            return children == null ? List.of() : children.values();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.minwonhaeso.esc.stadium.model.entity.Stadium;
 import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
 import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
 import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository;
+import com.minwonhaeso.esc.stadium.service.StadiumInfoCacheService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,6 +50,9 @@ class ReviewServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private StadiumInfoCacheService stadiumInfoCacheService;
+
     @InjectMocks
     private ReviewService reviewService;
 
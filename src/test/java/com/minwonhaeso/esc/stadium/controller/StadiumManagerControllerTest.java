@@ -9,12 +9,15 @@ import com.minwonhaeso.esc.security.WebSecurityConfig;
 import com.minwonhaeso.esc.security.auth.PrincipalDetail;
 import com.minwonhaeso.esc.security.auth.jwt.JwtAuthenticationFilter;
 import com.minwonhaeso.esc.security.oauth2.type.ProviderType;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumDashboardDto.DailyStat;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumDashboardDto.DashboardResponse;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
 import com.minwonhaeso.esc.stadium.model.entity.*;
 import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
 import com.minwonhaeso.esc.stadium.model.type.StadiumItemStatus;
 import com.minwonhaeso.esc.stadium.service.StadiumReservationService;
 import com.minwonhaeso.esc.stadium.service.StadiumService;
+import com.minwonhaeso.esc.stadium.service.StadiumStatService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,10 +41,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -67,6 +72,9 @@ class StadiumManagerControllerTest {
     @MockBean
     private StadiumReservationService stadiumReservationService;
 
+    @MockBean
+    private StadiumStatService stadiumStatService;
+
     @Autowired
     MockMvc mockMvc;
 
@@ -167,4 +175,40 @@ class StadiumManagerControllerTest {
                 .andExpect(jsonPath("$.content[0].imgUrl").value(stadium.getImgs().get(0).getImgUrl()))
                 .andExpect(jsonPath("$.content[0].tags.size()").value(stadium.getTags().size()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("체육관 대시보드 조회 성공")
+    void getStadiumDashboardTest_Success() throws Exception {
+        // given
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        LocalDate to = LocalDate.of(2026, 10, 2);
+        given(stadiumStatService.getDashboard(any(), eq(1L), eq(from), eq(to)))
+                .willReturn(DashboardResponse.builder()
+                        .stadiumId(1L)
+                        .from(from.toString())
+                        .to(to.toString())
+                        .openSlots(18)
+                        .reservationCount(1)
+                        .bookedSlots(2)
+                        .revenue(60000)
+                        .occupancyRate(2.0 / 36)
+                        .days(List.of(
+                                DailyStat.builder().date(from.toString()).reservationCount(1)
+                                        .bookedSlots(2).revenue(60000).occupancyRate(2.0 / 18).build(),
+                                DailyStat.empty(to)))
+                        .build());
+
+        // then
+        mockMvc.perform(get("/stadiums/manager/1/dashboard")
+                        .param("from", "2026-10-01")
+                        .param("to", "2026-10-02")
+                        .with(user(PrincipalDetail.of(member))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stadiumId").value(1L))
+                .andExpect(jsonPath("$.revenue").value(60000))
+                .andExpect(jsonPath("$.days.size()").value(2))
+                .andExpect(jsonPath("$.days[0].bookedSlots").value(2))
+                .andExpect(jsonPath("$.days[1].reservationCount").value(0));
+    }
+}
@@ -10,9 +10,11 @@ import com.minwonhaeso.esc.security.auth.jwt.JwtAuthenticationFilter;
 import com.minwonhaeso.esc.security.oauth2.type.ProviderType;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumInfoResponseDto;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumSuggestionDto;
 import com.minwonhaeso.esc.stadium.model.entity.*;
 import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
 import com.minwonhaeso.esc.stadium.model.type.StadiumItemStatus;
+import com.minwonhaeso.esc.stadium.service.StadiumAutocompleteService;
 import com.minwonhaeso.esc.stadium.service.StadiumSearchService;
 import com.minwonhaeso.esc.stadium.service.StadiumService;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +64,9 @@ class StadiumUserControllerTest {
     @MockBean
     private StadiumSearchService stadiumSearchService;
 
+    @MockBean
+    private StadiumAutocompleteService stadiumAutocompleteService;
+
     @Autowired
     MockMvc mockMvc;
 
@@ -220,6 +225,22 @@ class StadiumUserControllerTest {
                 .andExpect(jsonPath("$.errorMessage").value(LatLntInvalid.getErrorMessage()));
     }
 
+    @Test
+    @DisplayName("가까운 예약 가능 체육관 조회 성공")
+    void getAllAvailableStadiumsNearLocationTest_Success() throws Exception {
+        // given
+        given(stadiumSearchService.getAllAvailableStadiumsNearLocation(
+                anyDouble(), anyDouble(), any(), anyString(), anyString(), any()))
+                .willReturn(List.of(StadiumResponseDto.fromEntity(stadium)));
+
+        // then
+        mockMvc.perform(get("/stadiums/near-loc/available?lat=37.5&lnt=127.5" +
+                        "&date=2026-10-20&startTime=10:00&endTime=11:00"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].stadiumId").value(stadium.getId()));
+    }
+
     @Test
     @DisplayName("체육관 검색 성공")
     void searchStadiumTest_Success() throws Exception {
@@ -235,4 +256,34 @@ class StadiumUserControllerTest {
                 .andExpect(jsonPath("$.content[0].name").value(stadium.getName()))
                 .andExpect(jsonPath("$.content.size()").value(stadiums.getTotalElements()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("체육관 검색 성공 : 위도 경도를 주면 내 주변 검색")
+    void searchStadiumTest_Success_NearLocation() throws Exception {
+        // given
+        given(stadiumSearchService.searchNearLocation(eq("풋살"), eq(127.5), eq(37.5), eq(5000.0), any()))
+                .willReturn(stadiumDocuments);
+
+        // then
+        mockMvc.perform(get("/stadiums/search?searchValue=풋살&lat=37.5&lnt=127.5&radius=5000"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].stadiumId").value(stadium.getId()));
+    }
+
+    @Test
+    @DisplayName("체육관 자동완성 성공")
+    void autocompleteTest_Success() throws Exception {
+        // given
+        given(stadiumAutocompleteService.suggest("ㅍㅅ", 5))
+                .willReturn(List.of(StadiumSuggestionDto.ofStadium(stadium.getId(), "풋살장")));
+
+        // then
+        mockMvc.perform(get("/stadiums/autocomplete?q=ㅍㅅ&size=5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("STADIUM"))
+                .andExpect(jsonPath("$[0].stadiumId").value(stadium.getId()))
+                .andExpect(jsonPath("$[0].text").value("풋살장"));
+    }
+}
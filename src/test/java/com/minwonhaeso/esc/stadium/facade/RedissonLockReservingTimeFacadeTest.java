@@ -0,0 +1,61 @@
+package com.minwonhaeso.esc.stadium.facade;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.TimeFormatNotAccepted;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RedissonLockReservingTimeFacadeTest {
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @InjectMocks
+    private RedissonLockReservingTimeFacade redissonLockReservingTimeFacade;
+
+    private final LocalDate date = LocalDate.of(2026, 10, 20);
+
+    @Test
+    @DisplayName("시간대 락 실패 : 시간대 없음")
+    void lockSlotsTest_Fail_EmptyMask() {
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> redissonLockReservingTimeFacade.lockSlots(1L, date, 0L));
+
+        // then
+        assertEquals(TimeFormatNotAccepted, exception.getErrorCode());
+        verifyNoInteractions(redissonClient);
+    }
+
+    @Test
+    @DisplayName("시간대 락 실패 : Redis 오류는 락 없이 진행하지 않고 그대로 던짐")
+    void lockSlotsTest_Fail_RedisError() throws InterruptedException {
+        // given
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(redissonClient.getMultiLock(any())).willReturn(lock);
+        given(lock.tryLock(1, 1, TimeUnit.SECONDS)).willThrow(new IllegalStateException("connection refused"));
+
+        // when
+        assertThrows(IllegalStateException.class,
+                () -> redissonLockReservingTimeFacade.lockSlots(1L, date, 0b11L));
+    }
+}
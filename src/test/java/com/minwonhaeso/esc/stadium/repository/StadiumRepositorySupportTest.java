@@ -0,0 +1,177 @@
+package com.minwonhaeso.esc.stadium.repository;
+
+import com.minwonhaeso.esc.config.QuerydslConfiguration;
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumImg;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumTag;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.model.type.StadiumStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 체육관 목록 조회 쿼리 수 (행 수와 상관없이 일정해야 한다)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StadiumRepositorySupportTest {
+    // EscServerApplication 의 @EnableWebMvc 없이 JPA 만 띄운다.
+    @Configuration
+    @EnableJpaAuditing
+    @EntityScan("com.minwonhaeso.esc")
+    @EnableJpaRepositories("com.minwonhaeso.esc")
+    @Import({QuerydslConfiguration.class, StadiumRepositorySupport.class})
+    static class JpaTestConfiguration {
+    }
+
+    private static final int STADIUMS = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StadiumRepositorySupport stadiumRepositorySupport;
+
+    private Member manager;
+    private final List<Long> stadiumIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        manager = entityManager.persist(Member.builder()
+                .email("manager@email.com")
+                .name("manager")
+                .nickname("manager")
+                .password("password")
+                .build());
+
+        for (int i = 0; i < STADIUMS; i++) {
+            Stadium saved = entityManager.persist(stadium("stadium" + i, StadiumStatus.AVAILABLE));
+            entityManager.persist(StadiumImg.builder().stadium(saved).imgUrl("img" + i + "-1").build());
+            entityManager.persist(StadiumImg.builder().stadium(saved).imgUrl("img" + i + "-2").build());
+            entityManager.persist(StadiumTag.builder().stadium(saved).name("tag" + i + "-1").build());
+            entityManager.persist(StadiumTag.builder().stadium(saved).name("tag" + i + "-2").build());
+            stadiumIds.add(saved.getId());
+        }
+        // 이미지, 태그 없는 체육관과 삭제된 체육관
+        stadiumIds.add(entityManager.persist(stadium("empty", StadiumStatus.AVAILABLE)).getId());
+        entityManager.persist(stadium("deleted", StadiumStatus.DELETED));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("체육관 목록 : 목록, 태그, count 3번, 삭제된 체육관 제외")
+    void getAllStadiumResponsesTest_QueryCount() {
+        // when
+        Page<StadiumResponseDto> stadiums = stadiumRepositorySupport
+                .getAllStadiumResponses(PageRequest.of(0, 3));
+
+        // then
+        assertEquals(STADIUMS + 1, stadiums.getTotalElements());
+        assertEquals(stadiumIds.subList(0, 3), stadiums.getContent().stream()
+                .map(StadiumResponseDto::getStadiumId)
+                .collect(Collectors.toList()));
+        StadiumResponseDto first = stadiums.getContent().get(0);
+        assertEquals("img0-1", first.getImgUrl());
+        assertEquals(List.of("tag0-1", "tag0-2"), first.getTags());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("매니저 체육관 목록 : 한 페이지에 다 들어오면 count 없이 2번")
+    void getStadiumResponsesByManagerTest_QueryCount() {
+        // when
+        Page<StadiumResponseDto> stadiums = stadiumRepositorySupport
+                .getStadiumResponsesByManager(manager.getMemberId(), PageRequest.of(0, 20));
+
+        // then
+        assertEquals(STADIUMS + 1, stadiums.getTotalElements());
+        StadiumResponseDto empty = stadiums.getContent().get(STADIUMS);
+        assertNull(empty.getImgUrl());
+        assertEquals(List.of(), empty.getTags());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("체육관 목록 : 요청한 정렬, 같은 값이면 id 순")
+    void getAllStadiumResponsesTest_Sort() {
+        // when
+        Page<StadiumResponseDto> byName = stadiumRepositorySupport
+                .getAllStadiumResponses(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "name")));
+        Page<StadiumResponseDto> byPrice = stadiumRepositorySupport
+                .getStadiumResponsesByManager(manager.getMemberId(), PageRequest.of(0, 3, Sort.by("weekdayPricePerHalfHour")));
+
+        // then
+        assertEquals(List.of(stadiumIds.get(4), stadiumIds.get(3)), byName.getContent().stream()
+                .map(StadiumResponseDto::getStadiumId)
+                .collect(Collectors.toList()));
+        assertEquals(stadiumIds.subList(0, 3), byPrice.getContent().stream()
+                .map(StadiumResponseDto::getStadiumId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("id 목록 : 요청한 순서대로")
+    void getStadiumResponsesByIdInTest() {
+        // given
+        List<Long> ids = List.of(stadiumIds.get(2), stadiumIds.get(0));
+
+        // when
+        List<StadiumResponseDto> stadiums = stadiumRepositorySupport.getStadiumResponsesByIdIn(ids);
+
+        // then
+        assertEquals(ids, stadiums.stream()
+                .map(StadiumResponseDto::getStadiumId)
+                .collect(Collectors.toList()));
+        assertEquals("img2-1", stadiums.get(0).getImgUrl());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private Stadium stadium(String name, StadiumStatus status) {
+        return Stadium.builder()
+                .name(name)
+                .phone("01012345678")
+                .lat(37.5)
+                .lnt(127.5)
+                .address("address")
+                .detailAddress("detail")
+                .weekdayPricePerHalfHour(10000)
+                .holidayPricePerHalfHour(20000)
+                .openTime(ReservingTime.RT19)
+                .closeTime(ReservingTime.RT37)
+                .starAvg(4.0)
+                .status(status)
+                .member(manager)
+                .build();
+    }
+}
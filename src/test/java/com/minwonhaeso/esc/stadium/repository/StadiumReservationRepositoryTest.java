@@ -0,0 +1,174 @@
+package com.minwonhaeso.esc.stadium.repository;
+
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.ReservationResponse;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.StadiumReservationUserResponse;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumImg;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservation;
+import com.minwonhaeso.esc.stadium.model.type.PaymentType;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
+import com.minwonhaeso.esc.stadium.service.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 예약 목록 조회 쿼리 수 (행 수와 상관없이 일정해야 한다)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StadiumReservationRepositoryTest {
+    // EscServerApplication 의 @EnableWebMvc 없이 JPA 만 띄운다.
+    @Configuration
+    @EnableJpaAuditing
+    @EntityScan("com.minwonhaeso.esc")
+    @EnableJpaRepositories("com.minwonhaeso.esc")
+    @Import(StadiumReservationService.class)
+    static class JpaTestConfiguration {
+    }
+
+    private static final int STADIUMS = 5;
+    private static final int RESERVATIONS_PER_STADIUM = 4;
+
+    @MockBean
+    private StadiumAvailabilityService stadiumAvailabilityService;
+
+    @MockBean
+    private StadiumBookingService stadiumBookingService;
+
+    @MockBean
+    private StadiumPriceService stadiumPriceService;
+
+    @MockBean
+    private StadiumStatService stadiumStatService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StadiumReservationRepository stadiumReservationRepository;
+
+    @Autowired
+    private StadiumReservationService stadiumReservationService;
+
+    private Member member;
+    private Stadium stadium;
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        Member manager = entityManager.persist(member("manager"));
+        member = entityManager.persist(member("user"));
+
+        for (int i = 0; i < STADIUMS; i++) {
+            Stadium saved = entityManager.persist(Stadium.builder()
+                    .name("stadium" + i)
+                    .phone("01012345678")
+                    .lat(37.5)
+                    .lnt(127.5)
+                    .address("address")
+                    .detailAddress("detail" + i)
+                    .weekdayPricePerHalfHour(10000)
+                    .holidayPricePerHalfHour(20000)
+                    .openTime(ReservingTime.RT19)
+                    .closeTime(ReservingTime.RT37)
+                    .starAvg(4.0)
+                    .member(manager)
+                    .build());
+            entityManager.persist(StadiumImg.builder().stadium(saved).imgUrl("img" + i + "-1").build());
+            entityManager.persist(StadiumImg.builder().stadium(saved).imgUrl("img" + i + "-2").build());
+
+            for (int j = 0; j < RESERVATIONS_PER_STADIUM; j++) {
+                entityManager.persist(StadiumReservation.builder()
+                        .stadium(saved)
+                        .member(member)
+                        .reservingDate(LocalDate.of(2026, 10, 1).plusDays(j))
+                        .reservingTimes(List.of(ReservingTime.RT20))
+                        .price(10000)
+                        .headCount(2)
+                        .status(StadiumReservationStatus.RESERVED)
+                        .paymentType(PaymentType.CARD)
+                        .build());
+            }
+            if (stadium == null) {
+                stadium = saved;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("내 예약 목록 : 예약, count, 대표 이미지 3번")
+    void getAllReservationsByMemberTest_QueryCount() {
+        // when
+        Page<ReservationResponse> reservations = stadiumReservationService
+                .getAllReservationsByMember(member, PageRequest.of(0, STADIUMS * RESERVATIONS_PER_STADIUM));
+
+        // then
+        assertEquals(STADIUMS * RESERVATIONS_PER_STADIUM, reservations.getContent().size());
+        reservations.forEach(reservation -> assertEquals(
+                "img" + reservation.getName().substring("stadium".length()) + "-1", reservation.getImgUrl()));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("내 예약 목록 (커서) : 예약, 대표 이미지 2번")
+    void getReservationsByMemberCursorTest_QueryCount() {
+        // when
+        stadiumReservationService.getReservationsByMemberCursor(member, null, 10);
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("체육관 예약 사용자 목록 (커서) : 예약 1번")
+    void findUserSummarySliceByStadiumTest_QueryCount() {
+        // when
+        List<StadiumReservationUserResponse> reservations = stadiumReservationRepository
+                .findUserSummarySliceByStadium(stadium, PageRequest.of(0, RESERVATIONS_PER_STADIUM))
+                .map(StadiumReservationUserResponse::fromSummary)
+                .getContent();
+
+        // then
+        assertEquals(RESERVATIONS_PER_STADIUM, reservations.size());
+        assertEquals("user", reservations.get(0).getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static Member member(String name) {
+        return Member.builder()
+                .email(name + "@email.com")
+                .name(name)
+                .nickname(name)
+                .password("password")
+                .build();
+    }
+}
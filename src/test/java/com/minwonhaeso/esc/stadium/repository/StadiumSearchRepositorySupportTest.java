@@ -0,0 +1,157 @@
+package com.minwonhaeso.esc.stadium.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumDocument;
+import org.elasticsearch.search.sort.GeoDistanceSortBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ResourceUtil;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.index.MappingBuilder;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumSearchRepositorySupportTest {
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @InjectMocks
+    private StadiumSearchRepositorySupport stadiumSearchRepositorySupport;
+
+    @Test
+    @DisplayName("매핑 : 이름, 주소, 태그는 형태소 + edge n-gram 하위 필드, 분석기는 모두 설정 파일에 있음")
+    void mappingTest() throws Exception {
+        // when
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode properties = objectMapper.readTree(new MappingBuilder(
+                        new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()))
+                .buildPropertyMapping(StadiumDocument.class)).get("properties");
+        JsonNode analyzers = objectMapper.readTree(Objects.requireNonNull(
+                        ResourceUtil.readFileFromClasspath("elasticsearch/stadium-settings.json")))
+                .get("analysis").get("analyzer");
+
+        // then
+        assertEquals("geo_point", properties.get("location").get("type").asText());
+        for (String field : List.of("name", "address", "tags")) {
+            JsonNode mapping = properties.get(field);
+            JsonNode ngram = mapping.get("fields").get(StadiumDocument.NGRAM);
+            assertEquals("korean", mapping.get("analyzer").asText());
+            assertEquals("edge_ngram", ngram.get("analyzer").asText());
+            for (String analyzer : List.of(mapping.get("analyzer").asText(),
+                    ngram.get("analyzer").asText(), ngram.get("search_analyzer").asText())) {
+                assertTrue(analyzers.has(analyzer), analyzer);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("검색어 검색 : 와일드카드 없이 match 쿼리, 요청한 정렬 유지")
+    @SuppressWarnings("unchecked")
+    void searchTest() {
+        // given
+        SearchHits<StadiumDocument> hits = mock(SearchHits.class);
+        given(hits.getSearchHits()).willReturn(List.of(new SearchHit<>("stadiums", "1", null, 1.0f,
+                new Object[]{4.5}, Map.of(), StadiumDocument.builder().id(1L).build())));
+        given(hits.getTotalHits()).willReturn(1L);
+        given(elasticsearchOperations.search(any(NativeSearchQuery.class), eq(StadiumDocument.class)))
+                .willAnswer(invocation -> {
+                    NativeSearchQuery query = invocation.getArgument(0);
+                    String json = query.getQuery().toString();
+                    assertFalse(json.contains("wildcard") || json.contains("query_string"));
+                    assertTrue(json.contains("\"operator\" : \"AND\""));
+                    assertEquals(Sort.by("starAvg"), query.getPageable().getSort());
+                    return hits;
+                });
+
+        // when
+        Page<StadiumResponseDto> stadiums = stadiumSearchRepositorySupport
+                .search(" 강남 풋살 ", PageRequest.of(0, 20, Sort.by("starAvg")));
+
+        // then
+        assertEquals(1L, stadiums.getContent().get(0).getStadiumId());
+        assertNull(stadiums.getContent().get(0).getDistance());
+    }
+
+    @Test
+    @DisplayName("내 주변 검색 쿼리 : 검색어 + 반경 필터 + 거리 정렬")
+    void nearLocationQueryTest() {
+        // when
+        NativeSearchQuery query = StadiumSearchRepositorySupport.nearLocationQuery(
+                "풋살", 127.0, 37.5, 5000.0, PageRequest.of(1, 20, Sort.by("name")));
+
+        // then
+        String json = query.getQuery().toString();
+        assertTrue(json.contains("\"geo_distance\""));
+        assertTrue(json.contains("\"distance\" : 5000.0"));
+        assertTrue(json.contains("\"multi_match\""));
+        assertTrue(json.contains("\"name.ngram^2.0\""));
+        assertTrue(json.contains("\"AVAILABLE\""));
+        assertFalse(json.contains("\"must_not\""));
+
+        assertEquals(1, query.getElasticsearchSorts().size());
+        GeoDistanceSortBuilder sort = (GeoDistanceSortBuilder) query.getElasticsearchSorts().get(0);
+        assertEquals(StadiumSearchRepositorySupport.LOCATION, sort.fieldName());
+        assertEquals(37.5, sort.points()[0].lat());
+        assertEquals(127.0, sort.points()[0].lon());
+
+        assertEquals(20, query.getPageable().getOffset());
+        assertTrue(query.getPageable().getSort().isUnsorted());
+    }
+
+    @Test
+    @DisplayName("내 주변 검색 쿼리 : 검색어가 없으면 반경 안 전체")
+    void nearLocationQueryTest_NoSearchValue() {
+        // when
+        NativeSearchQuery query = StadiumSearchRepositorySupport.nearLocationQuery(
+                " ", 127.0, 37.5, 5000.0, PageRequest.of(0, 20));
+
+        // then
+        assertFalse(query.getQuery().toString().contains("query_string"));
+    }
+
+    @Test
+    @DisplayName("내 주변 검색 : 정렬 값을 거리로")
+    @SuppressWarnings("unchecked")
+    void searchNearLocationTest() {
+        // given
+        StadiumDocument document = StadiumDocument.builder().id(1L).name("풋살장").build();
+        SearchHits<StadiumDocument> hits = mock(SearchHits.class);
+        given(hits.getSearchHits()).willReturn(List.of(
+                new SearchHit<>("stadiums", "1", null, 1.0f, new Object[]{1234.5}, Map.of(), document)));
+        given(hits.getTotalHits()).willReturn(21L);
+        given(elasticsearchOperations.search(any(NativeSearchQuery.class), eq(StadiumDocument.class)))
+                .willReturn(hits);
+
+        // when
+        Page<StadiumResponseDto> stadiums = stadiumSearchRepositorySupport
+                .searchNearLocation("풋살", 127.0, 37.5, 5000.0, PageRequest.of(0, 20));
+
+        // then
+        assertEquals(21, stadiums.getTotalElements());
+        assertEquals(1L, stadiums.getContent().get(0).getStadiumId());
+        assertEquals(1234.5, stadiums.getContent().get(0).getDistance());
+    }
+}
@@ -0,0 +1,156 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.CreateReservationResponse;
+import com.minwonhaeso.esc.stadium.repository.redis.IdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.IdempotencyKeyReused;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.RequestInProgress;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private IdempotencyService idempotencyService;
+
+    private Member member;
+    private final Map<String, Object> request = Map.of("reservingTimes", List.of("09:30"));
+    private final AtomicInteger executed = new AtomicInteger();
+
+    @BeforeEach
+    void beforeEach() {
+        member = new Member();
+        member.setMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("처음 요청 : 실행하고 응답 저장")
+    void executeTest_FirstRequest() {
+        // given
+        given(idempotencyRepository.saveIfAbsent(eq("1-reservation-1-key"), anyString(), any())).willReturn(true);
+
+        // when
+        CreateReservationResponse response = execute("key");
+
+        // then
+        assertEquals(1, executed.get());
+        assertEquals(10L, response.getReservationId());
+        verify(idempotencyRepository).save(eq("1-reservation-1-key"), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("재시도 : 저장된 응답을 그대로 돌려주고 실행하지 않음")
+    void executeTest_Replay() {
+        // given
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        given(idempotencyRepository.saveIfAbsent(anyString(), anyString(), any())).willReturn(true, false);
+        execute("key");
+        verify(idempotencyRepository).save(anyString(), stored.capture(), any());
+        given(idempotencyRepository.find("1-reservation-1-key")).willReturn(stored.getValue());
+
+        // when
+        CreateReservationResponse response = execute("key");
+
+        // then
+        assertEquals(1, executed.get());
+        assertEquals(10L, response.getReservationId());
+        assertEquals(List.of("09:30"), response.getReservedTimes());
+    }
+
+    @Test
+    @DisplayName("재시도 실패 : 처음 요청을 아직 처리 중")
+    void executeTest_Fail_RequestInProgress() {
+        // given
+        given(idempotencyRepository.saveIfAbsent(anyString(), anyString(), any())).willReturn(false);
+        given(idempotencyRepository.find(anyString())).willReturn("IN_PROGRESS");
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class, () -> execute("key"));
+
+        // then
+        assertEquals(RequestInProgress.getErrorMessage(), exception.getMessage());
+        assertEquals(0, executed.get());
+    }
+
+    @Test
+    @DisplayName("재시도 실패 : 다른 요청 본문에 같은 키 사용")
+    void executeTest_Fail_IdempotencyKeyReused() {
+        // given
+        given(idempotencyRepository.saveIfAbsent(anyString(), anyString(), any())).willReturn(false);
+        given(idempotencyRepository.find(anyString()))
+                .willReturn("{\"fingerprint\":\"other\",\"response\":{}}");
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class, () -> execute("key"));
+
+        // then
+        assertEquals(IdempotencyKeyReused.getErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("실행 실패 : 키를 지워 다시 시도할 수 있게 함")
+    void executeTest_Fail_ActionFailed() {
+        // given
+        given(idempotencyRepository.saveIfAbsent(anyString(), anyString(), any())).willReturn(true);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute(
+                member, "reservation-1", "key", request, new TypeReference<CreateReservationResponse>() {},
+                () -> {
+                    throw new IllegalStateException();
+                }));
+
+        // then
+        verify(idempotencyRepository).delete("1-reservation-1-key");
+        verify(idempotencyRepository, never()).save(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("키 없음 : 그대로 실행")
+    void executeTest_NoKey() {
+        // when
+        execute(null);
+
+        // then
+        assertEquals(1, executed.get());
+        verify(idempotencyRepository, never()).saveIfAbsent(anyString(), anyString(), any());
+    }
+
+    private CreateReservationResponse execute(String idempotencyKey) {
+        return idempotencyService.execute(member, "reservation-1", idempotencyKey, request,
+                new TypeReference<>() {}, () -> {
+                    executed.incrementAndGet();
+                    return CreateReservationResponse.builder()
+                            .reservationId(10L)
+                            .reservedTimes(List.of("09:30"))
+                            .build();
+                });
+    }
+}
@@ -0,0 +1,193 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.member.model.type.MemberStatus;
+import com.minwonhaeso.esc.member.model.type.MemberType;
+import com.minwonhaeso.esc.security.oauth2.type.ProviderType;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.HoldRequest;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.HoldResponse;
+import com.minwonhaeso.esc.stadium.model.entity.ReservationHold;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import com.minwonhaeso.esc.stadium.repository.redis.ReservationHoldExpiryRepository;
+import com.minwonhaeso.esc.stadium.repository.redis.ReservationHoldRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.HoldExpired;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.HoldNotMatch;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.TimeFormatNotAccepted;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationHoldServiceTest {
+    @Mock
+    private StadiumRepository stadiumRepository;
+
+    @Mock
+    private ReservationHoldRedisRepository reservationHoldRedisRepository;
+
+    @Mock
+    private ReservationHoldExpiryRepository reservationHoldExpiryRepository;
+
+    @Mock
+    private StadiumAvailabilityService stadiumAvailabilityService;
+
+    @InjectMocks
+    private ReservationHoldService reservationHoldService;
+
+    private final LocalDate date = LocalDate.now().plusDays(1);
+    private final long mask = ReservingTime.RT20.getMask() | ReservingTime.RT21.getMask();
+    private Member member;
+    private ReservationHold hold;
+
+    @BeforeEach
+    void beforeEach() {
+        member = Member.builder()
+                .memberId(1L)
+                .email("email")
+                .name("Name")
+                .nickname("Nickname")
+                .password("password")
+                .status(MemberStatus.ING)
+                .imgUrl("Image URL")
+                .providerId("email")
+                .providerType(ProviderType.LOCAL)
+                .type(MemberType.USER)
+                .build();
+
+        hold = ReservationHold.builder()
+                .id("hold")
+                .memberId(1L)
+                .stadiumId(1L)
+                .reservingDate(date)
+                .reservingMask(mask)
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build();
+    }
+
+    @Test
+    @DisplayName("임시 예약 성공")
+    void holdTest_Success() {
+        // given
+        given(stadiumRepository.existsById(1L)).willReturn(true);
+        HoldRequest request = HoldRequest.builder()
+                .reservingDate(date)
+                .reservingTimes(List.of("09:30", "10:00"))
+                .build();
+
+        // when
+        HoldResponse response = reservationHoldService.hold(member, 1L, request);
+
+        // then
+        assertEquals(List.of("09:30", "10:00"), response.getReservedTimes());
+        verify(stadiumAvailabilityService).claim(1L, date, mask);
+        verify(reservationHoldRedisRepository).save(any());
+        verify(reservationHoldExpiryRepository).add(eq(response.getHoldId()), anyLong());
+    }
+
+    @Test
+    @DisplayName("임시 예약 실패 : 예약 날짜가 없거나 지난 날짜")
+    void holdTest_Fail_InvalidDate() {
+        // given
+        given(stadiumRepository.existsById(1L)).willReturn(true);
+        List<String> reservingTimes = List.of("09:30", "10:00");
+
+        // when
+        StadiumException noDate = assertThrows(StadiumException.class,
+                () -> reservationHoldService.hold(member, 1L, HoldRequest.builder()
+                        .reservingTimes(reservingTimes)
+                        .build()));
+        StadiumException pastDate = assertThrows(StadiumException.class,
+                () -> reservationHoldService.hold(member, 1L, HoldRequest.builder()
+                        .reservingDate(LocalDate.now().minusDays(1))
+                        .reservingTimes(reservingTimes)
+                        .build()));
+
+        // then
+        assertEquals(TimeFormatNotAccepted.getErrorMessage(), noDate.getMessage());
+        assertEquals(TimeFormatNotAccepted.getErrorMessage(), pastDate.getMessage());
+        verify(stadiumAvailabilityService, never()).claim(anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("임시 예약 전환 성공")
+    void convertTest_Success() {
+        // given
+        given(reservationHoldRedisRepository.findById("hold")).willReturn(Optional.of(hold));
+        given(reservationHoldExpiryRepository.remove("hold")).willReturn(true);
+
+        // when
+        reservationHoldService.convert(member, 1L, "hold", date, mask);
+
+        // then
+        verify(reservationHoldRedisRepository).delete(hold);
+        verify(stadiumAvailabilityService).releaseOnRollback(1L, date, mask);
+    }
+
+    @Test
+    @DisplayName("임시 예약 전환 실패 : 만료 처리가 먼저 가져감")
+    void convertTest_Fail_HoldExpired() {
+        // given
+        given(reservationHoldRedisRepository.findById("hold")).willReturn(Optional.of(hold));
+        given(reservationHoldExpiryRepository.remove("hold")).willReturn(false);
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> reservationHoldService.convert(member, 1L, "hold", date, mask));
+
+        // then
+        assertEquals(HoldExpired.getErrorMessage(), exception.getMessage());
+        verify(stadiumAvailabilityService, never()).releaseOnRollback(anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("임시 예약 전환 실패 : 요청 시간대 불일치")
+    void convertTest_Fail_HoldNotMatch() {
+        // given
+        given(reservationHoldRedisRepository.findById("hold")).willReturn(Optional.of(hold));
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> reservationHoldService.convert(member, 1L, "hold", date, ReservingTime.RT20.getMask()));
+
+        // then
+        assertEquals(HoldNotMatch.getErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("만료된 임시 예약 해제 : 먼저 가져간 hold 는 건너뜀")
+    void releaseExpiredHoldsTest() {
+        // given
+        given(reservationHoldExpiryRepository.findAllExpired(anyLong(), anyInt()))
+                .willReturn(Set.of("hold", "converted"));
+        given(reservationHoldExpiryRepository.remove("hold")).willReturn(true);
+        given(reservationHoldExpiryRepository.remove("converted")).willReturn(false);
+        given(reservationHoldRedisRepository.findById("hold")).willReturn(Optional.of(hold));
+
+        // when
+        reservationHoldService.releaseExpiredHolds();
+
+        // then
+        verify(stadiumAvailabilityService).markReleased(1L, date, mask);
+        verify(reservationHoldRedisRepository).delete(hold);
+        verify(reservationHoldRedisRepository, never()).findById("converted");
+    }
+}
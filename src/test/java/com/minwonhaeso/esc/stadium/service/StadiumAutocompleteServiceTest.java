@@ -0,0 +1,153 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumSuggestionDto;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepositorySupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumAutocompleteServiceTest {
+    @Mock
+    private StadiumRepositorySupport stadiumRepositorySupport;
+
+    @InjectMocks
+    private StadiumAutocompleteService stadiumAutocompleteService;
+
+    @Test
+    @DisplayName("자동완성 : 단어 앞부분, 입력 중인 글자, 초성으로 이름과 태그를 찾음")
+    void suggestTest() {
+        // given
+        givenStadiums(
+                stadium(1L, "강남 풋살장", "풋살", "주차"),
+                stadium(2L, "풋살파크 역삼", "풋살"),
+                stadium(3L, "강남 테니스장", "테니스"));
+
+        // when
+        stadiumAutocompleteService.load();
+
+        // then
+        assertTrue(stadiumAutocompleteService.isLoaded());
+        assertEquals(List.of("풋살", "강남 풋살장", "풋살파크 역삼"), texts("풋"));
+        assertEquals(List.of("풋살", "강남 풋살장", "풋살파크 역삼"), texts("푸"));
+        assertEquals(List.of("강남 풋살장"), texts("풋살ㅈ"));
+        assertEquals(List.of("강남 풋살장", "강남 테니스장"), texts("강남"));
+        assertEquals(List.of("강남 풋살장"), texts("ㄱㄴㅍ"));
+        assertEquals(List.of("테니스", "강남 테니스장"), texts("ㅌㄴ"));
+        assertEquals(List.of("주차"), texts("ㅈㅊ"));
+        assertEquals(2, stadiumAutocompleteService.suggest("풋", 2).size());
+        assertEquals(List.of(), stadiumAutocompleteService.suggest(" ", 10));
+    }
+
+    @Test
+    @DisplayName("자동완성 : 체육관 이름은 id 를, 태그는 체육관 수와 상관없이 하나만")
+    void suggestTest_Suggestion() {
+        // given
+        givenStadiums(stadium(1L, "풋살장", "풋살"), stadium(2L, "풋살장", "풋살"));
+        stadiumAutocompleteService.load();
+
+        // when
+        List<StadiumSuggestionDto> suggestions = stadiumAutocompleteService.suggest("풋살", 10);
+
+        // then
+        assertEquals(List.of(
+                StadiumSuggestionDto.ofTag("풋살"),
+                StadiumSuggestionDto.ofStadium(1L, "풋살장"),
+                StadiumSuggestionDto.ofStadium(2L, "풋살장")), suggestions);
+    }
+
+    @Test
+    @DisplayName("변경 알림 : 이름, 태그가 바뀌면 이전 것은 빠지고, 태그는 마지막 체육관이 빠질 때 빠짐")
+    void onMessageTest() {
+        // given
+        givenStadiums(stadium(1L, "강남 풋살장", "풋살"), stadium(2L, "역삼 풋살장", "풋살"));
+        given(stadiumRepositorySupport.getAvailableStadiumResponse(1L))
+                .willReturn(Optional.of(stadium(1L, "강남 농구장", "농구")));
+        given(stadiumRepositorySupport.getAvailableStadiumResponse(2L)).willReturn(Optional.empty());
+        stadiumAutocompleteService.load();
+
+        // when
+        stadiumAutocompleteService.onMessage(message("1"), null);
+        assertEquals(List.of("풋살", "역삼 풋살장"), texts("풋살"));
+        stadiumAutocompleteService.onMessage(message("2"), null);
+        stadiumAutocompleteService.onMessage(message("wrong"), null);
+
+        // then
+        assertEquals(List.of(), texts("풋살"));
+        assertEquals(List.of("강남 농구장"), texts("강남"));
+        assertEquals(List.of("농구", "강남 농구장"), texts("ㄴㄱ"));
+    }
+
+    @Test
+    @DisplayName("변경 알림 : 아직 읽기 전이면 무시")
+    void onMessageTest_NotLoaded() {
+        // when
+        stadiumAutocompleteService.onMessage(message("1"), null);
+
+        // then
+        assertFalse(stadiumAutocompleteService.isLoaded());
+        assertEquals(List.of(), stadiumAutocompleteService.suggest("풋살", 10));
+        verify(stadiumRepositorySupport, never()).getAvailableStadiumResponse(anyLong());
+        verify(stadiumRepositorySupport, never()).getAvailableStadiumResponsesAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("전체 읽기 : 읽는 중에 바뀐 체육관은 새 색인에 다시 반영")
+    void loadTest_RefreshedDuringLoad() {
+        // given
+        given(stadiumRepositorySupport.getAvailableStadiumResponsesAfter(0L, 1000)).willAnswer(invocation -> {
+            // 이 묶음을 읽은 뒤 체육관 1 의 이름이 바뀌고 알림이 온다.
+            stadiumAutocompleteService.onMessage(message("1"), null);
+            return List.of(stadium(1L, "강남 풋살장", "풋살"));
+        });
+        given(stadiumRepositorySupport.getAvailableStadiumResponse(1L))
+                .willReturn(Optional.of(stadium(1L, "강남 농구장", "농구")));
+
+        // when
+        stadiumAutocompleteService.load();
+
+        // then
+        assertEquals(List.of(), texts("풋"));
+        assertEquals(List.of("강남 농구장"), texts("강남"));
+    }
+
+    private void givenStadiums(StadiumResponseDto... stadiums) {
+        given(stadiumRepositorySupport.getAvailableStadiumResponsesAfter(0L, 1000)).willReturn(List.of(stadiums));
+    }
+
+    private List<String> texts(String query) {
+        return stadiumAutocompleteService.suggest(query, 10).stream()
+                .map(StadiumSuggestionDto::getText)
+                .collect(Collectors.toList());
+    }
+
+    private static StadiumResponseDto stadium(Long id, String name, String... tags) {
+        return StadiumResponseDto.builder()
+                .stadiumId(id)
+                .name(name)
+                .tags(List.of(tags))
+                .build();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(StadiumInfoCacheService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
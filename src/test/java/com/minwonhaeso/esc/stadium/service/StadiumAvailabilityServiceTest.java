@@ -0,0 +1,346 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.stadium.facade.RedissonLockReservingTimeFacade;
+import com.minwonhaeso.esc.stadium.model.converter.ReservingTimeMaskConverter;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservation;
+import com.minwonhaeso.esc.stadium.model.type.ReservationLockMode;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository.ReservingTimesByDate;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationSlotRepository;
+import com.minwonhaeso.esc.stadium.repository.redis.StadiumAvailabilityRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.AlreadyReservedTime;
+import static com.minwonhaeso.esc.stadium.repository.redis.StadiumAvailabilityRepository.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumAvailabilityServiceTest {
+    @Mock
+    private StadiumAvailabilityRepository stadiumAvailabilityRepository;
+
+    @Mock
+    private StadiumReservationRepository stadiumReservationRepository;
+
+    @Mock
+    private StadiumReservationSlotRepository stadiumReservationSlotRepository;
+
+    @Mock
+    private RedissonLockReservingTimeFacade redissonLockReservingTimeFacade;
+
+    @InjectMocks
+    private StadiumAvailabilityService stadiumAvailabilityService;
+
+    private final LocalDate date = LocalDate.of(2026, 10, 20);
+
+    @Test
+    @DisplayName("예약 시간대 mask 변환")
+    void reservingTimeMaskTest() {
+        List<ReservingTime> reservingTimes = List.of(ReservingTime.RT1, ReservingTime.RT20, ReservingTime.RT49);
+
+        long mask = ReservingTime.toMask(reservingTimes);
+
+        assertEquals(1L | (1L << 19) | (1L << 48), mask);
+        assertEquals(reservingTimes, ReservingTime.fromMask(mask));
+    }
+
+    @Test
+    @DisplayName("예약 시간대 mask 컬럼 변환")
+    void reservingTimeMaskConverterTest() {
+        ReservingTimeMaskConverter converter = new ReservingTimeMaskConverter();
+        List<ReservingTime> reservingTimes = List.of(ReservingTime.RT20, ReservingTime.RT21);
+
+        Long mask = converter.convertToDatabaseColumn(reservingTimes);
+
+        assertEquals(ReservingTime.RT20.getMask() | ReservingTime.RT21.getMask(), mask);
+        assertEquals(reservingTimes, converter.convertToEntityAttribute(mask));
+        assertTrue(converter.convertToEntityAttribute(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("예약 시간대 조회 : 인덱스에 있으면 DB 조회 안 함")
+    void getReservedMaskTest_Loaded() {
+        // given
+        given(stadiumAvailabilityRepository.findReservedMask(1L, date)).willReturn(ReservingTime.RT20.getMask());
+
+        // when
+        long mask = stadiumAvailabilityService.getReservedMask(1L, date);
+
+        // then
+        assertEquals(ReservingTime.RT20.getMask(), mask);
+        verify(stadiumReservationRepository, never()).findReservedMaskByStatusNot(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("예약 시간대 조회 : 인덱스가 비어 있으면 DB 에서 채움")
+    void getReservedMaskTest_NotLoaded() {
+        // given
+        given(stadiumAvailabilityRepository.findReservedMask(1L, date)).willReturn(NOT_LOADED);
+        given(stadiumReservationRepository.findReservedMaskByStatusNot(
+                1L, date, StadiumReservationStatus.CANCELED.name()))
+                .willReturn(ReservingTime.RT20.getMask() | ReservingTime.RT21.getMask());
+
+        // when
+        long mask = stadiumAvailabilityService.getReservedMask(1L, date);
+
+        // then
+        long expected = ReservingTime.RT20.getMask() | ReservingTime.RT21.getMask();
+        assertEquals(expected, mask);
+        verify(stadiumAvailabilityRepository).load(1L, date, expected);
+    }
+
+    @Test
+    @DisplayName("시간대 선점 성공 : 인덱스 로딩 후 재시도")
+    void claimTest_Success() {
+        // given
+        long mask = ReservingTime.RT21.getMask();
+        given(stadiumAvailabilityRepository.claim(1L, date, mask)).willReturn(NOT_LOADED, CLAIMED);
+        given(stadiumAvailabilityRepository.findReservedMask(1L, date)).willReturn(NOT_LOADED);
+        given(stadiumReservationRepository.findReservedMaskByStatusNot(
+                1L, date, StadiumReservationStatus.CANCELED.name()))
+                .willReturn(ReservingTime.RT20.getMask());
+
+        // when
+        stadiumAvailabilityService.claim(1L, date, mask);
+
+        // then
+        verify(stadiumAvailabilityRepository).load(1L, date, ReservingTime.RT20.getMask());
+        verify(stadiumAvailabilityRepository, times(2)).claim(1L, date, mask);
+    }
+
+    @Test
+    @DisplayName("시간대 선점 실패 : 이미 예약된 시간대")
+    void claimTest_Fail_AlreadyReservedTime() {
+        // given
+        long mask = ReservingTime.RT20.getMask();
+        given(stadiumAvailabilityRepository.claim(1L, date, mask)).willReturn(CONFLICT);
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> stadiumAvailabilityService.claim(1L, date, mask));
+
+        // then
+        assertEquals(AlreadyReservedTime.getErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("시간대 선점 성공 : 시간대 단위 락")
+    void claimTest_SlotLock() {
+        // given
+        ReflectionTestUtils.setField(stadiumAvailabilityService, "lockMode", ReservationLockMode.SLOT);
+        long mask = ReservingTime.RT21.getMask() | ReservingTime.RT22.getMask();
+        given(stadiumAvailabilityRepository.findReservedMask(1L, date)).willReturn(ReservingTime.RT20.getMask());
+
+        // when
+        stadiumAvailabilityService.claim(1L, date, mask);
+
+        // then
+        verify(redissonLockReservingTimeFacade).lockSlots(1L, date, mask);
+        verify(stadiumAvailabilityRepository).reserve(1L, date, mask);
+        verify(redissonLockReservingTimeFacade).unlockSlots(1L, date, mask);
+        verify(redissonLockReservingTimeFacade, never()).lock(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("시간대 선점 실패 : 날짜 단위 락에서 이미 예약된 시간대")
+    void claimTest_DayLock_Fail_AlreadyReservedTime() {
+        // given
+        ReflectionTestUtils.setField(stadiumAvailabilityService, "lockMode", ReservationLockMode.DAY);
+        long mask = ReservingTime.RT20.getMask();
+        given(stadiumAvailabilityRepository.findReservedMask(1L, date)).willReturn(mask);
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> stadiumAvailabilityService.claim(1L, date, mask));
+
+        // then
+        assertEquals(AlreadyReservedTime.getErrorMessage(), exception.getMessage());
+        verify(stadiumAvailabilityRepository, never()).reserve(anyLong(), any(), anyLong());
+        verify(redissonLockReservingTimeFacade).unlock(1L, date);
+    }
+
+    @Test
+    @DisplayName("기간 내 날짜별 예약 시간대 mask : 같은 날짜 예약과 인덱스의 임시 예약 시간대를 합침")
+    void getReservedMasksTest_Range() {
+        // given
+        LocalDate to = date.plusDays(2);
+        given(stadiumReservationRepository.findAllReservingTimesByDateBetweenAndStatusNot(
+                1L, date, to, StadiumReservationStatus.CANCELED))
+                .willReturn(List.of(reservingTimesByDate(date, ReservingTime.RT20),
+                        reservingTimesByDate(date, ReservingTime.RT21)));
+        given(stadiumAvailabilityRepository.findReservedMasks(1L, List.of(date, date.plusDays(1), to)))
+                .willReturn(List.of(ReservingTime.RT22.getMask(), ReservingTime.RT1.getMask(), NOT_LOADED));
+
+        // when
+        Map<LocalDate, Long> reservedMasks = stadiumAvailabilityService.getReservedMasks(1L, date, to);
+
+        // then
+        assertEquals(Map.of(
+                date, ReservingTime.RT20.getMask() | ReservingTime.RT21.getMask() | ReservingTime.RT22.getMask(),
+                date.plusDays(1), ReservingTime.RT1.getMask()), reservedMasks);
+    }
+
+    @Test
+    @DisplayName("여러 체육관 예약 시간대 mask : 인덱스의 임시 예약 시간대를 합침")
+    void getReservedMasksTest_Stadiums() {
+        // given
+        given(stadiumReservationRepository.findAllReservingTimesByStadiumIdInAndStatusNot(
+                List.of(1L, 2L, 3L), date, StadiumReservationStatus.CANCELED))
+                .willReturn(List.of());
+        given(stadiumAvailabilityRepository.findReservedMasks(List.of(1L, 2L, 3L), date))
+                .willReturn(List.of(0L, ReservingTime.RT20.getMask(), NOT_LOADED));
+
+        // when
+        Map<Long, Long> reservedMasks = stadiumAvailabilityService.getReservedMasks(List.of(1L, 2L, 3L), date);
+
+        // then
+        assertEquals(Map.of(2L, ReservingTime.RT20.getMask()), reservedMasks);
+    }
+
+    @Test
+    @DisplayName("여러 날짜 선점 : 날짜별 성공 / 실패, 비어 있는 날짜만 기간 조회로 채움")
+    void claimAllTest() {
+        // given
+        long mask = ReservingTime.RT20.getMask();
+        LocalDate second = date.plusWeeks(1);
+        LocalDate third = date.plusWeeks(2);
+        given(stadiumAvailabilityRepository.claimAll(1L, List.of(date, second, third), mask))
+                .willReturn(List.of(CLAIMED, NOT_LOADED, CONFLICT));
+        given(stadiumReservationRepository.findAllReservingTimesByDateBetweenAndStatusNot(
+                1L, second, second, StadiumReservationStatus.CANCELED))
+                .willReturn(List.of());
+        given(stadiumAvailabilityRepository.claimAll(1L, List.of(second), mask))
+                .willReturn(List.of(CLAIMED));
+
+        // when
+        Set<LocalDate> claimed = stadiumAvailabilityService.claimAll(1L, List.of(date, second, third), mask);
+
+        // then
+        assertEquals(Set.of(date, second), claimed);
+        verify(stadiumAvailabilityRepository).load(1L, second, 0L);
+        verify(stadiumAvailabilityRepository, never()).load(eq(1L), eq(date), anyLong());
+    }
+
+    @Test
+    @DisplayName("여러 날짜 선점 : 날짜 단위 락이면 날짜마다 선점")
+    void claimAllTest_DayLock() {
+        // given
+        ReflectionTestUtils.setField(stadiumAvailabilityService, "lockMode", ReservationLockMode.DAY);
+        long mask = ReservingTime.RT20.getMask();
+        LocalDate second = date.plusWeeks(1);
+        given(stadiumAvailabilityRepository.findReservedMask(1L, date)).willReturn(0L);
+        given(stadiumAvailabilityRepository.findReservedMask(1L, second)).willReturn(mask);
+
+        // when
+        Set<LocalDate> claimed = stadiumAvailabilityService.claimAll(1L, List.of(date, second), mask);
+
+        // then
+        assertEquals(Set.of(date), claimed);
+        verify(stadiumAvailabilityRepository).reserve(1L, date, mask);
+        verify(stadiumAvailabilityRepository, never()).claimAll(anyLong(), anyList(), anyLong());
+    }
+
+    @Test
+    @DisplayName("여러 날짜 선점 : DB 에 점유 행이 있는 날짜는 빼고, 롤백돼도 그 날짜는 비우지 않음")
+    void claimAllTest_OccupiedInDb() {
+        // given
+        long mask = ReservingTime.RT20.getMask();
+        LocalDate second = date.plusWeeks(1);
+        given(stadiumAvailabilityRepository.claimAll(1L, List.of(date, second), mask))
+                .willReturn(List.of(CLAIMED, CLAIMED));
+        given(stadiumReservationSlotRepository.findOccupiedDates(1L, Set.of(date, second), List.of(ReservingTime.RT20)))
+                .willReturn(List.of(date));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            Set<LocalDate> claimed = stadiumAvailabilityService.claimAll(1L, List.of(date, second), mask);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            assertEquals(Set.of(second), claimed);
+            verify(stadiumAvailabilityRepository).release(1L, second, mask);
+            verify(stadiumAvailabilityRepository, never()).release(1L, date, mask);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("시간대 점유 실패 : 유니크 키 충돌")
+    void occupyTest_Fail_AlreadyReservedTime() {
+        // given
+        Stadium stadium = new Stadium();
+        stadium.setId(1L);
+        StadiumReservation reservation = StadiumReservation.builder()
+                .id(1L)
+                .stadium(stadium)
+                .reservingDate(date)
+                .reservingTimes(List.of(ReservingTime.RT20, ReservingTime.RT21))
+                .build();
+        given(stadiumReservationSlotRepository.saveAllAndFlush(anyList()))
+                .willThrow(new DataIntegrityViolationException("uk_stadium_reservation_slot"));
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> stadiumAvailabilityService.occupy(reservation));
+
+        // then
+        assertEquals(AlreadyReservedTime.getErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("시간대 비우기 : 트랜잭션 안이면 커밋된 뒤에 비움")
+    void releaseAfterCommitTest() {
+        // given
+        long mask = ReservingTime.RT20.getMask();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            stadiumAvailabilityService.releaseAfterCommit(1L, date, mask);
+
+            // then
+            verify(stadiumAvailabilityRepository, never()).release(anyLong(), any(), anyLong());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(stadiumAvailabilityRepository).release(1L, date, mask);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static ReservingTimesByDate reservingTimesByDate(LocalDate date, ReservingTime time) {
+        return new ReservingTimesByDate() {
+            @Override
+            public LocalDate getReservingDate() {
+                return date;
+            }
+
+            @Override
+            public List<ReservingTime> getReservingTimes() {
+                return List.of(time);
+            }
+        };
+    }
+}
@@ -0,0 +1,244 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto.BookingItem;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto.BookingRequest;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumPriceTable;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumItem;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservation;
+import com.minwonhaeso.esc.stadium.model.type.PaymentType;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.repository.StadiumItemRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationItemRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.PriceNotMatch;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.StadiumItemNotFound;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumBookingServiceTest {
+    @Mock
+    private StadiumItemRepository stadiumItemRepository;
+
+    @Mock
+    private StadiumReservationRepository stadiumReservationRepository;
+
+    @Mock
+    private StadiumReservationItemRepository stadiumReservationItemRepository;
+
+    @Mock
+    private StadiumAvailabilityService stadiumAvailabilityService;
+
+    @Mock
+    private ReservationHoldService reservationHoldService;
+
+    @Mock
+    private StadiumPriceService stadiumPriceService;
+
+    @Mock
+    private StadiumStatService stadiumStatService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StadiumBookingService stadiumBookingService;
+
+    // 평일 (화요일)
+    private final LocalDate date = LocalDate.of(2026, 10, 20);
+    private final long mask = ReservingTime.RT20.getMask() | ReservingTime.RT21.getMask();
+    private Member member;
+    private Stadium stadium;
+    private StadiumPriceTable priceTable;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        stadiumBookingService = new StadiumBookingService(stadiumItemRepository, stadiumReservationRepository,
+                stadiumReservationItemRepository, stadiumAvailabilityService, reservationHoldService,
+                stadiumPriceService, stadiumStatService, meterRegistry);
+
+        member = new Member();
+        member.setMemberId(1L);
+        stadium = new Stadium();
+        stadium.setId(1L);
+        stadium.setWeekdayPricePerHalfHour(10000);
+        stadium.setHolidayPricePerHalfHour(20000);
+        priceTable = StadiumPriceTable.builder()
+                .stadiumId(1L)
+                .weekdayPricePerHalfHour(10000)
+                .holidayPricePerHalfHour(20000)
+                .itemPrices(Map.of(1L, 3000, 2L, 5000))
+                .build();
+    }
+
+    @Test
+    @DisplayName("예약 성공 : 대여 용품 한 번에 조회, 가격 계산")
+    void bookTest_Success() {
+        // given
+        given(stadiumPriceService.getPriceTable(1L)).willReturn(priceTable);
+        given(stadiumItemRepository.findAllById(anyCollection()))
+                .willReturn(List.of(item(1L, 3000), item(2L, 5000)));
+
+        // when
+        StadiumReservation reservation = stadiumBookingService.book(member, stadium, request(List.of(
+                new BookingItem(1L, 2), new BookingItem(2L, 1), new BookingItem(3L, 0)), null, null));
+
+        // then
+        assertEquals(10000 * 2 + 3000 * 2 + 5000, reservation.getPrice());
+        assertEquals(List.of(ReservingTime.RT20, ReservingTime.RT21), reservation.getReservingTimes());
+        assertEquals(2, reservation.getItems().size());
+        assertSame(reservation, reservation.getItems().get(0).getReservation());
+        verify(stadiumItemRepository, times(1)).findAllById(anyCollection());
+        verify(stadiumItemRepository, never()).findById(anyLong());
+        verify(stadiumAvailabilityService).claim(1L, date, mask);
+        verify(stadiumAvailabilityService).occupy(reservation);
+        verify(stadiumStatService).recordReserved(List.of(reservation));
+        verify(stadiumReservationItemRepository).saveAll(reservation.getItems());
+        assertEquals(1, meterRegistry.get(StadiumBookingService.STAGE_TIMER)
+                .tags("channel", StadiumBookingDto.RESERVATION, "stage", "persist")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("예약 성공 : 임시 예약 전환, 결제 금액 확인")
+    void bookTest_Success_Hold() {
+        // given
+        given(stadiumPriceService.getPriceTable(1L)).willReturn(priceTable);
+
+        // when
+        StadiumReservation reservation = stadiumBookingService.book(member, stadium,
+                request(List.of(), "hold", 20000));
+
+        // then
+        assertEquals(20000, reservation.getPrice());
+        verify(reservationHoldService).convert(member, 1L, "hold", date, mask);
+        verify(stadiumAvailabilityService, never()).claim(anyLong(), any(), anyLong());
+        verify(stadiumItemRepository, never()).findAllById(anyCollection());
+        verify(stadiumReservationItemRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("결제 실패 : 결제 금액이 견적과 다름")
+    void bookTest_Fail_PriceNotMatch() {
+        // given
+        given(stadiumPriceService.getPriceTable(1L)).willReturn(priceTable);
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> stadiumBookingService.book(member, stadium,
+                        request(List.of(new BookingItem(1L, 1)), null, 10000)));
+
+        // then
+        assertEquals(PriceNotMatch.getErrorMessage(), exception.getMessage());
+        verify(stadiumAvailabilityService, never()).claim(anyLong(), any(), anyLong());
+        verify(stadiumReservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("예약 실패 : 다른 체육관의 대여 용품")
+    void bookTest_Fail_StadiumItemNotFound() {
+        // given
+        given(stadiumPriceService.getPriceTable(1L)).willReturn(priceTable);
+        Stadium another = new Stadium();
+        another.setId(2L);
+        StadiumItem item = item(1L, 3000);
+        item.setStadium(another);
+        given(stadiumItemRepository.findAllById(anyCollection())).willReturn(List.of(item));
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> stadiumBookingService.book(member, stadium,
+                        request(List.of(new BookingItem(1L, 1)), null, null)));
+
+        // then
+        assertEquals(StadiumItemNotFound.getErrorMessage(), exception.getMessage());
+        verify(stadiumReservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("반복 예약 : 선점한 날짜만 한 번에 저장")
+    void bookAllTest_Success() {
+        // given
+        // 2026-10-20 (화), 2026-10-27 (화), 2026-11-03 (화)
+        List<LocalDate> dates = List.of(date, date.plusWeeks(1), date.plusWeeks(2));
+        given(stadiumPriceService.getPriceTable(1L)).willReturn(priceTable);
+        given(stadiumAvailabilityService.claimAll(1L, dates, mask))
+                .willReturn(new TreeSet<>(Set.of(date, date.plusWeeks(2))));
+        given(stadiumItemRepository.findAllById(anyCollection())).willReturn(List.of(item(1L, 3000)));
+
+        // when
+        Map<LocalDate, StadiumReservation> reservations = stadiumBookingService.bookAll(member, stadium,
+                request(List.of(new BookingItem(1L, 1)), null, null), dates);
+
+        // then
+        assertEquals(List.of(date, date.plusWeeks(2)), List.copyOf(reservations.keySet()));
+        reservations.values().forEach(reservation -> {
+            assertEquals(10000 * 2 + 3000, reservation.getPrice());
+            assertEquals(1, reservation.getItems().size());
+            assertSame(reservation, reservation.getItems().get(0).getReservation());
+        });
+        verify(stadiumItemRepository, times(1)).findAllById(anyCollection());
+        verify(stadiumReservationRepository, times(1)).saveAll(anyList());
+        verify(stadiumAvailabilityService, times(1)).occupyAll(anyList());
+        verify(stadiumStatService, times(1)).recordReserved(argThat(saved -> saved.size() == 2));
+        verify(stadiumReservationItemRepository, times(1)).saveAll(argThat(items -> ((List<?>) items).size() == 2));
+    }
+
+    @Test
+    @DisplayName("반복 예약 : 모든 날짜가 이미 예약됨")
+    void bookAllTest_AllConflict() {
+        // given
+        List<LocalDate> dates = List.of(date, date.plusWeeks(1));
+        given(stadiumPriceService.getPriceTable(1L)).willReturn(priceTable);
+        given(stadiumAvailabilityService.claimAll(1L, dates, mask)).willReturn(new TreeSet<>());
+
+        // when
+        Map<LocalDate, StadiumReservation> reservations = stadiumBookingService.bookAll(member, stadium,
+                request(List.of(), null, null), dates);
+
+        // then
+        assertTrue(reservations.isEmpty());
+        verify(stadiumReservationRepository, never()).saveAll(anyList());
+        verify(stadiumStatService, never()).recordReserved(anyCollection());
+    }
+
+    private StadiumItem item(Long id, int price) {
+        return StadiumItem.builder()
+                .id(id)
+                .name("item" + id)
+                .stadium(stadium)
+                .price(price)
+                .build();
+    }
+
+    private BookingRequest request(List<BookingItem> items, String holdId, Integer paidPrice) {
+        return BookingRequest.builder()
+                .channel(StadiumBookingDto.RESERVATION)
+                .reservingDate(date)
+                .reservingMask(mask)
+                .headCount(4)
+                .paymentType(PaymentType.CARD)
+                .items(items)
+                .holdId(holdId)
+                .paidPrice(paidPrice)
+                .build();
+    }
+}
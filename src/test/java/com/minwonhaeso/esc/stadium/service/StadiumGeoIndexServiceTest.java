@@ -0,0 +1,149 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepositorySupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumGeoIndexServiceTest {
+    @Mock
+    private StadiumRepositorySupport stadiumRepositorySupport;
+
+    @InjectMocks
+    private StadiumGeoIndexService stadiumGeoIndexService;
+
+    @Test
+    @DisplayName("전체 읽기 : id 순으로 나눠 읽고 가까운 순 조회")
+    void loadTest() {
+        // given
+        List<StadiumResponseDto> first = LongStream.rangeClosed(1, 1000)
+                .mapToObj(id -> stadium(id, 37.0 + id * 0.001))
+                .collect(Collectors.toList());
+        given(stadiumRepositorySupport.getAvailableStadiumResponsesAfter(0L, 1000)).willReturn(first);
+        given(stadiumRepositorySupport.getAvailableStadiumResponsesAfter(1000L, 1000))
+                .willReturn(List.of(stadium(1001L, 36.0)));
+
+        // when
+        stadiumGeoIndexService.load();
+        List<StadiumResponseDto> stadiums = stadiumGeoIndexService
+                .getStadiumsNearLocation(127.0, 37.0, PageRequest.of(0, 2));
+
+        // then
+        assertTrue(stadiumGeoIndexService.isLoaded());
+        assertEquals(List.of(1L, 2L), stadiums.stream()
+                .map(StadiumResponseDto::getStadiumId)
+                .collect(Collectors.toList()));
+        assertEquals(111.2, stadiums.get(0).getDistance(), 0.5);
+        assertNull(first.get(0).getDistance());
+    }
+
+    @Test
+    @DisplayName("변경 알림 : 이용 가능하면 다시 넣고, 아니면 뺌")
+    void onMessageTest() {
+        // given
+        given(stadiumRepositorySupport.getAvailableStadiumResponsesAfter(0L, 1000))
+                .willReturn(List.of(stadium(1L, 37.0), stadium(2L, 37.1)));
+        given(stadiumRepositorySupport.getAvailableStadiumResponse(1L)).willReturn(Optional.empty());
+        given(stadiumRepositorySupport.getAvailableStadiumResponse(3L)).willReturn(Optional.of(stadium(3L, 37.0)));
+        stadiumGeoIndexService.load();
+
+        // when
+        stadiumGeoIndexService.onMessage(message("1"), null);
+        stadiumGeoIndexService.onMessage(message("3"), null);
+        stadiumGeoIndexService.onMessage(message("wrong"), null);
+
+        // then
+        assertEquals(List.of(3L, 2L), stadiumGeoIndexService
+                .getStadiumsNearLocation(127.0, 37.0, PageRequest.of(0, 20)).stream()
+                .map(StadiumResponseDto::getStadiumId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("변경 알림 : 아직 읽기 전이면 무시")
+    void onMessageTest_NotLoaded() {
+        // when
+        stadiumGeoIndexService.onMessage(message("1"), null);
+
+        // then
+        assertFalse(stadiumGeoIndexService.isLoaded());
+        verify(stadiumRepositorySupport, never()).getAvailableStadiumResponse(anyLong());
+        verify(stadiumRepositorySupport, never()).getAvailableStadiumResponsesAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("전체 읽기 : 읽는 중에 바뀐 체육관은 새 색인에 다시 반영")
+    void loadTest_RefreshedDuringLoad() {
+        // given
+        given(stadiumRepositorySupport.getAvailableStadiumResponsesAfter(0L, 1000)).willAnswer(invocation -> {
+            // 이 묶음을 읽은 뒤 체육관 1 이 이용 불가로 바뀌고 알림이 온다.
+            stadiumGeoIndexService.onMessage(message("1"), null);
+            return List.of(stadium(1L, 37.0), stadium(2L, 37.1));
+        });
+        given(stadiumRepositorySupport.getAvailableStadiumResponse(1L)).willReturn(Optional.empty());
+
+        // when
+        stadiumGeoIndexService.load();
+
+        // then
+        assertEquals(List.of(2L), stadiumGeoIndexService
+                .getStadiumsNearLocation(127.0, 37.0, PageRequest.of(0, 20)).stream()
+                .map(StadiumResponseDto::getStadiumId)
+                .collect(Collectors.toList()));
+        verify(stadiumRepositorySupport, times(1)).getAvailableStadiumResponse(1L);
+    }
+
+    @Test
+    @DisplayName("변경 알림 : 전체 다시 읽기는 알림 수신 스레드가 아닌 별도 스레드에서")
+    void onMessageTest_All() {
+        // given
+        List<Thread> loadThreads = new CopyOnWriteArrayList<>();
+        given(stadiumRepositorySupport.getAvailableStadiumResponsesAfter(0L, 1000)).willAnswer(invocation -> {
+            loadThreads.add(Thread.currentThread());
+            return List.of(stadium(1L, 37.0));
+        });
+        stadiumGeoIndexService.load();
+
+        // when
+        stadiumGeoIndexService.onMessage(message("*"), null);
+
+        // then
+        verify(stadiumRepositorySupport, timeout(1000).times(2)).getAvailableStadiumResponsesAfter(0L, 1000);
+        assertEquals(Thread.currentThread(), loadThreads.get(0));
+        assertNotEquals(Thread.currentThread(), loadThreads.get(1));
+    }
+
+    private static StadiumResponseDto stadium(Long id, double lat) {
+        return StadiumResponseDto.builder()
+                .stadiumId(id)
+                .name("stadium" + id)
+                .lat(lat)
+                .lnt(127.0)
+                .build();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(StadiumInfoCacheService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
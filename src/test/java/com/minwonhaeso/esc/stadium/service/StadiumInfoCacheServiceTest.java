@@ -0,0 +1,188 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.security.auth.redis.CacheKey;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumImgDto;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumInfoResponseDto;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumItemDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumInfoCacheServiceTest {
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private Cache redisCache;
+
+    @InjectMocks
+    private StadiumInfoCacheService stadiumInfoCacheService;
+
+    private StadiumInfoResponseDto stadiumInfo;
+    private AtomicInteger loads;
+    private Supplier<StadiumInfoResponseDto> loader;
+
+    @BeforeEach
+    void beforeEach() {
+        stadiumInfo = StadiumInfoResponseDto.builder()
+                .id(1L)
+                .memberId(1L)
+                .name("Some Stadium")
+                .starAvg(3.5)
+                .rentalItems(new ArrayList<>(List.of(
+                        StadiumItemDto.Response.builder().id(1L).name("item").price(10000).build())))
+                .imgs(new ArrayList<>(List.of(StadiumImgDto.builder().id(1L).imgUrl("Stadium Image URL").build())))
+                .tags(new ArrayList<>(List.of("tag")))
+                .isLike(true)
+                .openTime("09:00")
+                .closeTime("18:00")
+                .build();
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return stadiumInfo;
+        };
+    }
+
+    @Test
+    @DisplayName("조회 : 메모리, Redis 모두 없으면 DB 에서 읽어 두 캐시에 넣음")
+    void getTest_Load() {
+        givenRedisCache();
+        // when
+        StadiumInfoResponseDto first = stadiumInfoCacheService.get(1L, loader);
+        StadiumInfoResponseDto second = stadiumInfoCacheService.get(1L, loader);
+
+        // then
+        assertSame(stadiumInfo, first);
+        assertSame(stadiumInfo, second);
+        assertEquals(1, loads.get());
+        verify(redisCache, times(1)).get(1L);
+        verify(redisCache).put(1L, stadiumInfo);
+    }
+
+    @Test
+    @DisplayName("조회 : Redis 에 있으면 DB 를 읽지 않음")
+    void getTest_RedisHit() {
+        givenRedisCache();
+        // given
+        given(redisCache.get(1L)).willReturn(new SimpleValueWrapper(stadiumInfo));
+
+        // when
+        StadiumInfoResponseDto cached = stadiumInfoCacheService.get(1L, loader);
+
+        // then
+        assertSame(stadiumInfo, cached);
+        assertEquals(0, loads.get());
+        verify(redisCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("삭제 : Redis 캐시, 메모리 캐시를 지우고 다른 서버에 알림")
+    void evictTest() {
+        givenRedisCache();
+        // given
+        stadiumInfoCacheService.get(1L, loader);
+
+        // when
+        stadiumInfoCacheService.evict(1L);
+        stadiumInfoCacheService.get(1L, loader);
+
+        // then
+        verify(redisCache).evict(1L);
+        verify(redisTemplate).convertAndSend(StadiumInfoCacheService.CHANNEL, "1");
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("변경 알림 : Redis 캐시는 그대로 두고 다른 서버에 알림")
+    void publishChangedTest() {
+        // when
+        stadiumInfoCacheService.publishChanged(1L);
+
+        // then
+        verify(cacheManager, never()).getCache(any());
+        verify(redisTemplate).convertAndSend(StadiumInfoCacheService.CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("전체 삭제 : Redis 캐시를 비우고 다른 서버에 알림")
+    void evictAllTest() {
+        givenRedisCache();
+        // when
+        stadiumInfoCacheService.evictAll();
+
+        // then
+        verify(redisCache).clear();
+        verify(redisTemplate).convertAndSend(StadiumInfoCacheService.CHANNEL, StadiumInfoCacheService.ALL);
+    }
+
+    @Test
+    @DisplayName("변경 알림 수신 : 해당 체육관만 메모리 캐시에서 지움")
+    void onMessageTest() {
+        givenRedisCache();
+        // given
+        stadiumInfoCacheService.get(1L, loader);
+        stadiumInfoCacheService.get(2L, loader);
+
+        // when
+        stadiumInfoCacheService.onMessage(message("1"), null);
+        stadiumInfoCacheService.onMessage(message("wrong"), null);
+        stadiumInfoCacheService.get(1L, loader);
+        stadiumInfoCacheService.get(2L, loader);
+
+        // then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("상세 정보 캐시 직렬화")
+    void stadiumInfoSerializeTest() {
+        // given
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+
+        // when
+        StadiumInfoResponseDto cached = (StadiumInfoResponseDto) serializer.deserialize(
+                serializer.serialize(stadiumInfo));
+
+        // then
+        assertEquals(stadiumInfo.getId(), cached.getId());
+        assertEquals(stadiumInfo.getName(), cached.getName());
+        assertEquals(stadiumInfo.getRentalItems(), cached.getRentalItems());
+        assertEquals(stadiumInfo.getImgs(), cached.getImgs());
+        assertEquals(stadiumInfo.getTags(), cached.getTags());
+        assertFalse(cached.isLike());
+    }
+
+    private void givenRedisCache() {
+        given(cacheManager.getCache(CacheKey.STADIUM_INFO)).willReturn(redisCache);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(StadiumInfoCacheService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,18 +4,16 @@ package com.minwonhaeso.esc.stadium.service;
 import com.minwonhaeso.esc.error.exception.AuthException;
 import com.minwonhaeso.esc.error.type.AuthErrorCode;
 import com.minwonhaeso.esc.member.model.entity.Member;
-import com.minwonhaeso.esc.stadium.facade.RedissonLockReservingTimeFacade;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto.BookingRequest;
 import com.minwonhaeso.esc.stadium.model.entity.Stadium;
 import com.minwonhaeso.esc.stadium.model.entity.StadiumItem;
 import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
-import com.minwonhaeso.esc.stadium.repository.StadiumItemRepository;
 import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
-import com.minwonhaeso.esc.stadium.repository.StadiumReservationItemRepository;
-import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository;
 import org.aspectj.lang.annotation.Before;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -30,29 +28,23 @@ import java.util.Optional;
 import static com.minwonhaeso.esc.stadium.model.dto.StadiumPaymentDto.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class StadiumPaymentServiceTest {
     @InjectMocks
     public StadiumPaymentService stadiumPaymentService;
     @Mock
-    public StadiumReservationItemRepository stadiumReservationItemRepository;
-    @Mock
     public StadiumRepository stadiumRepository;
     @Mock
-    public StadiumReservationRepository stadiumReservationRepository;
-    @Mock
-    public StadiumItemRepository stadiumItemRepository;
-    @Mock
-    public RedissonLockReservingTimeFacade redissonLockReservingTimeFacade;
+    public StadiumBookingService stadiumBookingService;
 
     @Before("")
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        stadiumPaymentService = new StadiumPaymentService(stadiumRepository,
-                stadiumReservationItemRepository, stadiumReservationRepository, stadiumItemRepository,
-                redissonLockReservingTimeFacade);
+        stadiumPaymentService = new StadiumPaymentService(stadiumRepository, stadiumBookingService);
     }
 
     @DisplayName("결제 성공")
@@ -101,13 +93,16 @@ class StadiumPaymentServiceTest {
         //given
         given(stadiumRepository.findById(anyLong()))
                 .willReturn(Optional.of(stadium));
-        given(stadiumItemRepository.findById(anyLong()))
-                .willReturn(Optional.of(item));
         //when
 
         Map<String, String> map = stadiumPaymentService.payment(member, stadiumId, request);
         //then
         assertNotNull(map.get("successMessage"));
+        ArgumentCaptor<BookingRequest> captor = ArgumentCaptor.forClass(BookingRequest.class);
+        verify(stadiumBookingService).book(eq(member), eq(stadium), captor.capture());
+        assertEquals(ReservingTime.RT19.getMask(), captor.getValue().getReservingMask());
+        assertEquals(10000, captor.getValue().getPaidPrice());
+        assertEquals(2, captor.getValue().getItems().get(0).getCount());
     }
 
     @DisplayName("결제 실패 - 예약자 이메일과 접속중인 유저의 email이 다르디")
@@ -0,0 +1,100 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumBookingDto.BookingItem;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumPriceTable;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumItem;
+import com.minwonhaeso.esc.stadium.repository.StadiumItemRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.StadiumItemNotFound;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumPriceServiceTest {
+    @Mock
+    private StadiumRepository stadiumRepository;
+
+    @Mock
+    private StadiumItemRepository stadiumItemRepository;
+
+    @InjectMocks
+    private StadiumPriceService stadiumPriceService;
+
+    // 평일 (화요일), 공휴일 (개천절)
+    private final LocalDate weekday = LocalDate.of(2026, 10, 20);
+    private final LocalDate holiday = LocalDate.of(2026, 10, 3);
+    private Stadium stadium;
+
+    @BeforeEach
+    void beforeEach() {
+        stadium = new Stadium();
+        stadium.setId(1L);
+        stadium.setWeekdayPricePerHalfHour(10000);
+        stadium.setHolidayPricePerHalfHour(20000);
+    }
+
+    @Test
+    @DisplayName("가격표 생성 후 견적")
+    void getPriceTableTest_Quote() {
+        // given
+        given(stadiumRepository.findById(1L)).willReturn(Optional.of(stadium));
+        given(stadiumItemRepository.findAllByStadium(stadium)).willReturn(List.of(
+                StadiumItem.builder().id(1L).name("축구공").price(3000).build(),
+                StadiumItem.builder().id(2L).name("조끼").price(1000).build()));
+
+        // when
+        StadiumPriceTable priceTable = stadiumPriceService.getPriceTable(1L);
+
+        // then
+        List<BookingItem> items = List.of(new BookingItem(1L, 2), new BookingItem(2L, 0));
+        assertEquals(10000 * 3 + 3000 * 2, priceTable.quote(weekday, 3, items));
+        assertEquals(20000 * 3 + 3000 * 2, priceTable.quote(holiday, 3, items));
+    }
+
+    @Test
+    @DisplayName("견적 실패 : 가격표에 없는 대여 용품")
+    void quoteTest_Fail_StadiumItemNotFound() {
+        // given
+        StadiumPriceTable priceTable = StadiumPriceTable.fromEntity(stadium, List.of());
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> priceTable.quote(weekday, 1, List.of(new BookingItem(1L, 1))));
+
+        // then
+        assertEquals(StadiumItemNotFound.getErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("가격표 캐시 직렬화")
+    void priceTableSerializeTest() {
+        // given
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        StadiumPriceTable priceTable = StadiumPriceTable.fromEntity(stadium,
+                List.of(StadiumItem.builder().id(1L).name("축구공").price(3000).build()));
+
+        // when
+        Object cached = serializer.deserialize(serializer.serialize(priceTable));
+
+        // then
+        assertEquals(priceTable, cached);
+        assertEquals(10000 + 3000, ((StadiumPriceTable) cached)
+                .quote(weekday, 1, List.of(new BookingItem(1L, 1))));
+    }
+}
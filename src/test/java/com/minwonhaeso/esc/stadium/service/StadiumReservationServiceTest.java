@@ -5,15 +5,24 @@ import com.minwonhaeso.esc.member.model.entity.Member;
 import com.minwonhaeso.esc.member.model.type.MemberStatus;
 import com.minwonhaeso.esc.member.model.type.MemberType;
 import com.minwonhaeso.esc.security.oauth2.type.ProviderType;
-import com.minwonhaeso.esc.stadium.facade.RedissonLockReservingTimeFacade;
+import com.minwonhaeso.esc.stadium.model.dto.CursorResponse;
+import com.minwonhaeso.esc.stadium.model.dto.ReservationCursor;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.DailyAvailability;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.ReservationInfoResponse;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.RecurringReservationRequest;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.RecurringReservationResponse;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.ReservationResponse;
 import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.ReservationStadiumInfoResponse;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.StadiumAvailabilityResponse;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumReservationDto.StadiumReservationUserResponse;
 import com.minwonhaeso.esc.stadium.model.entity.*;
 import com.minwonhaeso.esc.stadium.model.type.PaymentType;
 import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
 import com.minwonhaeso.esc.stadium.model.type.StadiumItemStatus;
 import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
 import com.minwonhaeso.esc.stadium.repository.*;
+import com.minwonhaeso.esc.stadium.repository.StadiumImgRepository.StadiumImgUrl;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository.ReservationSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,39 +30,52 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 import static com.minwonhaeso.esc.error.type.StadiumErrorCode.*;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class StadiumReservationServiceTest {
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
     @Mock
     private StadiumRepository stadiumRepository;
 
     @Mock
-    private StadiumItemRepository stadiumItemRepository;
+    private StadiumReservationRepository stadiumReservationRepository;
 
     @Mock
-    private StadiumReservationRepository stadiumReservationRepository;
+    private StadiumReservationCancelRepository stadiumReservationCancelRepository;
 
     @Mock
-    private StadiumReservationItemRepository stadiumReservationItemRepository;
+    private StadiumImgRepository stadiumImgRepository;
 
     @Mock
-    private StadiumReservationCancelRepository stadiumReservationCancelRepository;
+    private StadiumAvailabilityService stadiumAvailabilityService;
+
+    @Mock
+    private StadiumBookingService stadiumBookingService;
 
     @Mock
-    private RedissonLockReservingTimeFacade redissonLockReservingTimeFacade;
+    private StadiumPriceService stadiumPriceService;
+
+    @Mock
+    private StadiumStatService stadiumStatService;
 
     @InjectMocks
     private StadiumReservationService service;
@@ -167,8 +189,8 @@ class StadiumReservationServiceTest {
     void getStadiumReservationInfoTest_Success() {
         // given
         given(stadiumRepository.findById(anyLong())).willReturn(Optional.of(stadium));
-        given(stadiumReservationRepository.findAllByStadiumAndReservingDate(any(), any()))
-                .willReturn(List.of(reservation));
+        given(stadiumAvailabilityService.getReservedMask(anyLong(), any()))
+                .willReturn(ReservingTime.toMask(reservation.getReservingTimes()));
 
         // when
         ReservationStadiumInfoResponse response =
@@ -176,6 +198,45 @@ class StadiumReservationServiceTest {
 
         // then
         assertEquals(stadium.getId(), response.getStadium().getId());
+        assertEquals(List.of("09:30", "10:00"), response.getReservedTimes());
+    }
+
+    @Test
+    @DisplayName("기간별 예약 현황 조회 실패 : 조회 기간 오류")
+    void getStadiumAvailabilityTest_Fail_InvalidDateRange() {
+        // given
+        LocalDate from = LocalDate.of(2026, 10, 1);
+
+        // when
+        Exception exception = assertThrows(StadiumException.class,
+                () -> service.getStadiumAvailability(1L, from, from.minusDays(1)));
+
+        // then
+        assertEquals(InvalidDateRange.getErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("기간별 예약 현황 조회 성공")
+    void getStadiumAvailabilityTest_Success() {
+        // given
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        LocalDate to = LocalDate.of(2026, 10, 3);
+        given(stadiumRepository.findById(anyLong())).willReturn(Optional.of(stadium));
+        given(stadiumAvailabilityService.getReservedMasks(1L, from, to))
+                .willReturn(Map.of(from, ReservingTime.RT20.getMask() | ReservingTime.RT21.getMask()));
+
+        // when
+        StadiumAvailabilityResponse response = service.getStadiumAvailability(1L, from, to);
+
+        // then
+        assertEquals(3, response.getDays().size());
+        DailyAvailability first = response.getDays().get(0);
+        assertEquals(ReservingTime.RT20.getMask() | ReservingTime.RT21.getMask(), first.getReservedMask());
+        assertEquals(16, first.getFreeCount());
+        assertEquals(30000, first.getPricePerHalfHour());
+        assertEquals(18, response.getDays().get(1).getFreeCount());
+        // 2026-10-03 개천절
+        assertEquals(40000, response.getDays().get(2).getPricePerHalfHour());
     }
 
     @Test
@@ -374,7 +435,95 @@ class StadiumReservationServiceTest {
     @Test
     @DisplayName("예약 삭제 성공")
     void deleteReservationTest_Success() {
+        // given
+        given(stadiumReservationRepository.findById(anyLong())).willReturn(Optional.of(reservation));
+        given(stadiumRepository.findById(anyLong())).willReturn(Optional.of(stadium));
+
+        // when
+        service.deleteReservation(member, 1L, 1L);
+
+        // then
+        assertEquals(StadiumReservationStatus.CANCELED, reservation.getStatus());
+        verify(stadiumAvailabilityService).vacate(reservation);
+        verify(stadiumAvailabilityService).releaseAfterCommit(1L, reservation.getReservingDate(),
+                ReservingTime.RT20.getMask() | ReservingTime.RT21.getMask());
+        verify(stadiumStatService).recordCanceled(reservation);
+    }
+
+    @Test
+    @DisplayName("반복 예약 실패 : 반복 횟수 초과")
+    void createRecurringReservationTest_Fail_InvalidRecurrence() {
+        // given
+        RecurringReservationRequest request = RecurringReservationRequest.builder()
+                .startDate(LocalDate.now().plusDays(1))
+                .occurrences(53)
+                .reservingTimes(List.of("09:00"))
+                .paymentType("CARD")
+                .build();
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> service.createRecurringReservation(member, 1L, request));
+
+        // then
+        assertEquals(InvalidRecurrence.getErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("반복 예약 실패 : 예약 시간대 없음")
+    void createRecurringReservationTest_Fail_EmptyReservingTimes() {
+        // given
+        RecurringReservationRequest request = RecurringReservationRequest.builder()
+                .startDate(LocalDate.now().plusDays(1))
+                .occurrences(4)
+                .reservingTimes(List.of())
+                .paymentType("CARD")
+                .build();
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> service.createRecurringReservation(member, 1L, request));
+
+        // then
+        assertEquals(TimeFormatNotAccepted.getErrorMessage(), exception.getMessage());
+        verify(stadiumBookingService, never()).bookAll(any(), any(), any(), anyList());
+    }
 
+    @Test
+    @DisplayName("반복 예약 성공 : 날짜별 결과")
+    void createRecurringReservationTest_Success() {
+        // given
+        LocalDate startDate = LocalDate.of(2026, 10, 20);
+        RecurringReservationRequest request = RecurringReservationRequest.builder()
+                .startDate(startDate)
+                .intervalWeeks(2)
+                .occurrences(3)
+                .reservingTimes(List.of("09:00", "09:30"))
+                .headCount(10)
+                .items(List.of())
+                .paymentType("CARD")
+                .build();
+        List<LocalDate> dates = List.of(startDate, startDate.plusWeeks(2), startDate.plusWeeks(4));
+        StadiumReservation booked = StadiumReservation.builder()
+                .id(10L)
+                .reservingDate(startDate.plusWeeks(2))
+                .price(60000)
+                .build();
+        given(stadiumRepository.findById(anyLong())).willReturn(Optional.of(stadium));
+        given(stadiumBookingService.bookAll(any(), any(), any(), any()))
+                .willReturn(new TreeMap<>(Map.of(startDate.plusWeeks(2), booked)));
+
+        // when
+        RecurringReservationResponse response = service.createRecurringReservation(member, 1L, request);
+
+        // then
+        verify(stadiumBookingService).bookAll(eq(member), eq(stadium), any(), eq(dates));
+        assertEquals(1, response.getReservedCount());
+        assertEquals(List.of("09:00", "09:30"), response.getReservedTimes());
+        assertFalse(response.getResults().get(0).isReserved());
+        assertTrue(response.getResults().get(1).isReserved());
+        assertEquals(10L, response.getResults().get(1).getReservationId());
+        assertEquals(60000, response.getResults().get(1).getPrice());
     }
 
     @Test
@@ -471,4 +620,87 @@ class StadiumReservationServiceTest {
     void executeReservation_Success() {
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("내 예약 목록 (커서) : 첫 목록, 다음 커서는 마지막 예약")
+    void getReservationsByMemberCursorTest_FirstPage() {
+        // given
+        ReservationSummary summary = summary(1L, LocalDate.of(2026, 10, 20));
+        given(stadiumReservationRepository.findSummarySliceByMember(member, PageRequest.of(0, 1)))
+                .willReturn(new SliceImpl<>(List.of(summary), PageRequest.of(0, 1), true));
+        given(stadiumImgRepository.findFirstImgUrlsByStadiumIdIn(Set.of(1L)))
+                .willReturn(List.of(PROJECTIONS.createProjection(StadiumImgUrl.class,
+                        Map.of("stadiumId", 1L, "imgUrl", "Stadium Image URL"))));
+
+        // when
+        CursorResponse<ReservationResponse> response = service.getReservationsByMemberCursor(member, null, 1);
+
+        // then
+        assertEquals(1, response.getSize());
+        assertTrue(response.isHasNext());
+        assertEquals(1L, response.getContent().get(0).getReservationId());
+        assertEquals("Some Address Detail Address", response.getContent().get(0).getAddress());
+        assertEquals("Stadium Image URL", response.getContent().get(0).getImgUrl());
+        assertEquals(ReservationCursor.of(summary), ReservationCursor.decode(response.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("내 예약 목록 (커서) : 커서 다음부터, 마지막 목록이면 다음 커서 없음")
+    void getReservationsByMemberCursorTest_NextPage() {
+        // given
+        LocalDate date = LocalDate.of(2026, 10, 20);
+        given(stadiumReservationRepository.findSummarySliceByMemberBefore(
+                member, date, 10L, PageRequest.of(0, 100)))
+                .willReturn(new SliceImpl<>(List.of(summary(9L, date)), PageRequest.of(0, 100), false));
+
+        // when
+        CursorResponse<ReservationResponse> response = service.getReservationsByMemberCursor(
+                member, new ReservationCursor(date, 10L).encode(), 1000);
+
+        // then
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("내 예약 목록 (커서) 실패 : 잘못된 커서")
+    void getReservationsByMemberCursorTest_Fail_InvalidCursor() {
+        // when
+        Exception exception = assertThrows(StadiumException.class,
+                () -> service.getReservationsByMemberCursor(member, "not-a-cursor", 20));
+
+        // then
+        assertEquals(InvalidCursor.getErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("체육관 예약 사용자 목록 (커서) 실패 : 다른 매니저의 체육관")
+    void getReservationUsersByManagerCursorTest_Fail_UnAuthorized() {
+        // given
+        Member anotherMember = new Member();
+        anotherMember.setMemberId(2L);
+        given(stadiumRepository.findById(anyLong())).willReturn(Optional.of(stadium));
+
+        // when
+        Exception exception = assertThrows(StadiumException.class,
+                () -> service.getReservationUsersByManagerCursor(anotherMember, 1L, null, 20));
+
+        // then
+        assertEquals(UnAuthorizedAccess.getErrorMessage(), exception.getMessage());
+        verify(stadiumReservationRepository, never())
+                .findUserSummarySliceByStadium(any(), any());
+    }
+
+    private static ReservationSummary summary(Long reservationId, LocalDate date) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("reservationId", reservationId);
+        row.put("reservingDate", date);
+        row.put("status", StadiumReservationStatus.RESERVED);
+        row.put("stadiumId", 1L);
+        row.put("name", "Some Stadium");
+        row.put("address", "Some Address");
+        row.put("detailAddress", "Detail Address");
+        row.put("starAvg", 3.5);
+        return PROJECTIONS.createProjection(ReservationSummary.class, row);
+    }
+}
@@ -0,0 +1,122 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumReservationRepository.ReservationCountByDate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumReservationSweepServiceTest {
+    @Mock
+    private StadiumReservationRepository stadiumReservationRepository;
+
+    @Mock
+    private StadiumStatService stadiumStatService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StadiumReservationSweepService service;
+
+    private final LocalDate today = LocalDate.of(2026, 10, 20);
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new StadiumReservationSweepService(stadiumReservationRepository, stadiumStatService,
+                new TransactionTemplate(transactionManager), meterRegistry);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxBatches", 10);
+    }
+
+    @Test
+    @DisplayName("지난 예약 일괄 사용 완료 : batch 마다 커밋, 마지막 batch 에서 종료")
+    void sweepTest_Batches() {
+        // given
+        given(stadiumReservationRepository.findReservedIdsBeforeForUpdate(today, 2))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(stadiumReservationRepository.countAllByIdInGroupByStadiumAndDate(anyCollection()))
+                .willReturn(List.of(count(1L, today.minusDays(1), 2)), List.of(count(2L, today.minusDays(2), 1)));
+
+        // when
+        int swept = service.sweep(today);
+
+        // then
+        assertEquals(3, swept);
+        verify(stadiumReservationRepository).updateStatusByIdIn(List.of(1L, 2L), "EXECUTED");
+        verify(stadiumReservationRepository).updateStatusByIdIn(List.of(3L), "EXECUTED");
+        verify(stadiumStatService).recordExecuted(1L, today.minusDays(1), 2);
+        verify(stadiumStatService).recordExecuted(2L, today.minusDays(2), 1);
+        verify(transactionManager, times(2)).commit(any());
+        verify(stadiumReservationRepository, never()).findAll();
+        assertEquals(3, meterRegistry.get(StadiumReservationSweepService.SWEPT_COUNTER).counter().count());
+        assertEquals(2, meterRegistry.get(StadiumReservationSweepService.BATCH_COUNTER).counter().count());
+    }
+
+    @Test
+    @DisplayName("지난 예약 일괄 사용 완료 : 한 번 실행에 최대 batch 수까지만")
+    void sweepTest_MaxBatches() {
+        // given
+        ReflectionTestUtils.setField(service, "maxBatches", 3);
+        given(stadiumReservationRepository.findReservedIdsBeforeForUpdate(today, 2))
+                .willReturn(List.of(1L, 2L));
+
+        // when
+        int swept = service.sweep(today);
+
+        // then
+        assertEquals(6, swept);
+        verify(stadiumReservationRepository, times(3)).updateStatusByIdIn(anyCollection(), eq("EXECUTED"));
+    }
+
+    @Test
+    @DisplayName("지난 예약 일괄 사용 완료 : 바꿀 예약 없음")
+    void sweepTest_Empty() {
+        // given
+        given(stadiumReservationRepository.findReservedIdsBeforeForUpdate(today, 2)).willReturn(List.of());
+
+        // when
+        int swept = service.sweep(today);
+
+        // then
+        assertEquals(0, swept);
+        verify(stadiumReservationRepository, never()).updateStatusByIdIn(anyCollection(), anyString());
+        verifyNoInteractions(stadiumStatService);
+    }
+
+    private static ReservationCountByDate count(Long stadiumId, LocalDate date, long count) {
+        return new ReservationCountByDate() {
+            @Override
+            public Long getStadiumId() {
+                return stadiumId;
+            }
+
+            @Override
+            public LocalDate getReservingDate() {
+                return date;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,220 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumDocument;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumSearchOutbox;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.model.type.StadiumStatus;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumSearchOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumSearchIndexServiceTest {
+    @Mock
+    private StadiumSearchOutboxRepository stadiumSearchOutboxRepository;
+
+    @Mock
+    private StadiumRepository stadiumRepository;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StadiumSearchIndexService service;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 10, 20, 12, 0);
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new StadiumSearchIndexService(stadiumSearchOutboxRepository, stadiumRepository,
+                elasticsearchOperations, new TransactionTemplate(transactionManager), meterRegistry);
+        ReflectionTestUtils.setField(service, "batchSize", 3);
+        ReflectionTestUtils.setField(service, "maxBatches", 10);
+    }
+
+    @Test
+    @DisplayName("검색 색인 반영 : 같은 체육관 변경은 한 번만 bulk 로 쓰고, 없는 체육관은 색인에서 지움")
+    void drainTest_Batches() {
+        // given
+        given(stadiumSearchOutboxRepository.findDueForUpdate(now, 3))
+                .willReturn(List.of(outbox(1L, 1L, 0), outbox(2L, 2L, 0), outbox(3L, 1L, 0)),
+                        List.of(outbox(4L, 3L, 0)));
+        given(stadiumRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(stadium(1L), stadium(2L)));
+        given(stadiumRepository.findAllById(Set.of(3L))).willReturn(List.of());
+        given(stadiumSearchOutboxRepository.findOldestCreatedAt()).willReturn(Optional.empty());
+
+        // when
+        int indexed = service.drain(now);
+
+        // then
+        assertEquals(3, indexed);
+        // 체육관마다 가장 큰 변경 id 가 version (outbox 이전 문서의 내부 version 보다 크게)
+        long offset = StadiumSearchIndexService.VERSION_OFFSET;
+        verify(elasticsearchOperations).bulkIndex(argThat((List<IndexQuery> queries) ->
+                versions(queries).equals(Map.of("1", offset + 3L, "2", offset + 2L))), eq(StadiumDocument.class));
+        verify(elasticsearchOperations).delete("3", StadiumDocument.class);
+        verify(stadiumSearchOutboxRepository).deleteAllByIdInBatch(List.of(1L, 3L, 2L));
+        verify(stadiumSearchOutboxRepository).deleteAllByIdInBatch(List.of(4L));
+        verify(transactionManager, times(4)).commit(any());
+        assertEquals(3, meterRegistry.get(StadiumSearchIndexService.INDEXED_COUNTER).counter().count());
+        assertEquals(0, meterRegistry.get(StadiumSearchIndexService.FAILED_COUNTER).counter().count());
+        assertEquals(0, meterRegistry.get(StadiumSearchIndexService.LAG_GAUGE).gauge().value());
+    }
+
+    @Test
+    @DisplayName("검색 색인 반영 : 실패한 체육관만 backoff 후 다시 시도, 성공한 변경은 지움")
+    void drainTest_BulkFailure() {
+        // given
+        StadiumSearchOutbox failed = outbox(2L, 2L, 2);
+        given(stadiumSearchOutboxRepository.findDueForUpdate(now, 3))
+                .willReturn(List.of(outbox(1L, 1L, 0), failed));
+        given(stadiumRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(stadium(1L), stadium(2L)));
+        given(elasticsearchOperations.bulkIndex(anyList(), eq(StadiumDocument.class)))
+                .willThrow(new BulkFailureException("bulk failed", Map.of("2", "rejected")));
+        given(stadiumSearchOutboxRepository.findAllById(List.of(2L))).willReturn(List.of(failed));
+        given(stadiumSearchOutboxRepository.findOldestCreatedAt()).willReturn(Optional.of(now.minusSeconds(30)));
+
+        // when
+        int indexed = service.drain(now);
+
+        // then
+        assertEquals(1, indexed);
+        verify(stadiumSearchOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+        assertEquals(3, failed.getAttempts());
+        assertEquals(now.plusSeconds(4), failed.getNextAttemptAt());
+        assertEquals(1, meterRegistry.get(StadiumSearchIndexService.FAILED_COUNTER).counter().count());
+        assertEquals(30, meterRegistry.get(StadiumSearchIndexService.LAG_GAUGE).gauge().value());
+    }
+
+    @Test
+    @DisplayName("검색 색인 반영 : 더 나중 변경이 이미 반영된 체육관 (version 충돌) 은 반영한 것으로 보고 지움")
+    void drainTest_VersionConflict() {
+        // given
+        given(stadiumSearchOutboxRepository.findDueForUpdate(now, 3))
+                .willReturn(List.of(outbox(1L, 1L, 0), outbox(2L, 2L, 0)));
+        given(stadiumRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(stadium(1L), stadium(2L)));
+        given(elasticsearchOperations.bulkIndex(anyList(), eq(StadiumDocument.class)))
+                .willThrow(new BulkFailureException("bulk failed", Map.of("1",
+                        "Elasticsearch exception [type=version_conflict_engine_exception, reason=[1]: version conflict, " +
+                                "current version [5] is higher or equal to the one provided [1]]")));
+        given(stadiumSearchOutboxRepository.findOldestCreatedAt()).willReturn(Optional.empty());
+
+        // when
+        int indexed = service.drain(now);
+
+        // then
+        assertEquals(2, indexed);
+        verify(stadiumSearchOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertEquals(0, meterRegistry.get(StadiumSearchIndexService.FAILED_COUNTER).counter().count());
+    }
+
+    @Test
+    @DisplayName("검색 색인 반영 : ES 에 연결하지 못하면 모두 다시 시도")
+    void drainTest_Unavailable() {
+        // given
+        StadiumSearchOutbox first = outbox(1L, 1L, 0);
+        StadiumSearchOutbox second = outbox(2L, 2L, 0);
+        given(stadiumSearchOutboxRepository.findDueForUpdate(now, 3)).willReturn(List.of(first, second));
+        given(stadiumRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(stadium(1L), stadium(2L)));
+        given(elasticsearchOperations.bulkIndex(anyList(), eq(StadiumDocument.class)))
+                .willThrow(new IllegalStateException("connection refused"));
+        given(stadiumSearchOutboxRepository.findAllById(anyList())).willReturn(List.of(first, second));
+        given(stadiumSearchOutboxRepository.findOldestCreatedAt()).willReturn(Optional.of(now));
+
+        // when
+        int indexed = service.drain(now);
+
+        // then
+        assertEquals(0, indexed);
+        verify(stadiumSearchOutboxRepository, never()).deleteAllByIdInBatch(anyList());
+        assertEquals(now.plusSeconds(1), first.getNextAttemptAt());
+        assertEquals(now.plusSeconds(1), second.getNextAttemptAt());
+        assertEquals(2, meterRegistry.get(StadiumSearchIndexService.FAILED_COUNTER).counter().count());
+    }
+
+    @Test
+    @DisplayName("지연 gauge : 서비스를 만들 때 한 번 등록하고, 실행마다 값만 바꿈")
+    void lagGaugeTest() {
+        // given
+        given(stadiumSearchOutboxRepository.findDueForUpdate(now, 3)).willReturn(List.of());
+        given(stadiumSearchOutboxRepository.findOldestCreatedAt()).willReturn(Optional.of(now.minusSeconds(5)));
+        assertEquals(0, meterRegistry.get(StadiumSearchIndexService.LAG_GAUGE).gauge().value());
+
+        // when
+        service.drain(now);
+        service.drain(now);
+
+        // then
+        assertEquals(1, meterRegistry.find(StadiumSearchIndexService.LAG_GAUGE).gauges().size());
+        assertEquals(5, meterRegistry.get(StadiumSearchIndexService.LAG_GAUGE).gauge().value());
+    }
+
+    @Test
+    @DisplayName("재시도 간격 : 실패할 때마다 두 배, 최대 간격까지")
+    void backoffSecondsTest() {
+        assertEquals(1, service.backoffSeconds(0));
+        assertEquals(8, service.backoffSeconds(3));
+        assertEquals(600, service.backoffSeconds(10));
+        assertEquals(600, service.backoffSeconds(100));
+    }
+
+    private static StadiumSearchOutbox outbox(Long id, Long stadiumId, int attempts) {
+        return StadiumSearchOutbox.builder()
+                .id(id)
+                .stadiumId(stadiumId)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.of(2026, 10, 20, 11, 59))
+                .createdAt(LocalDateTime.of(2026, 10, 20, 11, 59))
+                .build();
+    }
+
+    private static Stadium stadium(Long id) {
+        return Stadium.builder()
+                .id(id)
+                .name("Stadium " + id)
+                .phone("01012345678")
+                .lat(37.5)
+                .lnt(127.5)
+                .address("Some Address")
+                .detailAddress("Detail Address")
+                .weekdayPricePerHalfHour(30000)
+                .holidayPricePerHalfHour(40000)
+                .openTime(ReservingTime.findTime("09:00"))
+                .closeTime(ReservingTime.findTime("18:00"))
+                .status(StadiumStatus.AVAILABLE)
+                .build();
+    }
+
+    private static Map<String, Long> versions(List<IndexQuery> queries) {
+        return queries.stream().collect(Collectors.toMap(IndexQuery::getId, IndexQuery::getVersion));
+    }
+}
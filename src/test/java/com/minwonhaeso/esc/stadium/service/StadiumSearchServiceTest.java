@@ -0,0 +1,215 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumResponseDto;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository.StadiumDistance;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepositorySupport;
+import com.minwonhaeso.esc.stadium.repository.StadiumSearchRepositorySupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.LatLntInvalid;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.TimeFormatNotAccepted;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumSearchServiceTest {
+    @Mock
+    private StadiumSearchRepositorySupport stadiumSearchRepositorySupport;
+
+    @Mock
+    private StadiumRepository stadiumRepository;
+
+    @Mock
+    private StadiumRepositorySupport stadiumRepositorySupport;
+
+    @Mock
+    private StadiumAvailabilityService stadiumAvailabilityService;
+
+    @Mock
+    private StadiumGeoIndexService stadiumGeoIndexService;
+
+    @InjectMocks
+    private StadiumSearchService stadiumSearchService;
+
+    private final LocalDate date = LocalDate.of(2026, 10, 20);
+
+    @Test
+    @DisplayName("가까운 예약 가능 체육관 조회 성공 : 예약된 시간대, 운영 시간 밖인 체육관 제외")
+    void getAllAvailableStadiumsNearLocationTest_Success() {
+        // given
+        StadiumDistance reserved = stadium(1L, "09:00", "18:00", 100.0);
+        StadiumDistance closed = stadium(2L, "12:00", "18:00", 200.0);
+        StadiumDistance available = stadium(3L, "09:00", "18:00", 300.0);
+        given(stadiumRepository.findNearestWithin(anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble(), anyInt(), anyLong()))
+                .willReturn(List.of(reserved, closed, available));
+        given(stadiumRepository.findNearest(anyDouble(), anyDouble(), anyInt(), anyLong()))
+                .willReturn(List.of(reserved, closed, available));
+        given(stadiumAvailabilityService.getReservedMasks(List.of(1L, 2L, 3L), date))
+                .willReturn(Map.of(1L, ReservingTime.findTime("10:30").getMask()));
+        given(stadiumRepositorySupport.getStadiumResponsesByIdIn(List.of(3L)))
+                .willReturn(List.of(StadiumResponseDto.builder().stadiumId(3L).build()));
+
+        // when
+        List<StadiumResponseDto> stadiums = stadiumSearchService.getAllAvailableStadiumsNearLocation(
+                127.5, 37.5, date, "10:00", "11:00", PageRequest.of(0, 20));
+
+        // then
+        assertEquals(List.of(3L), stadiums.stream()
+                .map(StadiumResponseDto::getStadiumId)
+                .collect(Collectors.toList()));
+        assertEquals(300.0, stadiums.get(0).getDistance());
+    }
+
+    @Test
+    @DisplayName("가까운 체육관 조회 성공 : 반경 안에 한 페이지가 차면 더 넓히지 않음")
+    void getAllStadiumsNearLocationTest_Success() {
+        // given
+        given(stadiumRepository.findNearestWithin(eq(127.5), eq(37.5), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), eq(StadiumSearchService.INITIAL_RADIUS_METERS), eq(2), eq(0L)))
+                .willReturn(List.of(stadium(1L, "09:00", "18:00", 1200.0)));
+        given(stadiumRepository.findNearestWithin(eq(127.5), eq(37.5), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), eq(StadiumSearchService.INITIAL_RADIUS_METERS * 4), eq(2), eq(0L)))
+                .willReturn(List.of(stadium(1L, "09:00", "18:00", 1200.0),
+                        stadium(2L, "09:00", "18:00", 5000.0)));
+        given(stadiumRepositorySupport.getStadiumResponsesByIdIn(List.of(1L, 2L))).willReturn(List.of(
+                StadiumResponseDto.builder().stadiumId(1L).build(),
+                StadiumResponseDto.builder().stadiumId(2L).build()));
+
+        // when
+        List<StadiumResponseDto> stadiums = stadiumSearchService.getAllStadiumsNearLocation(
+                127.5, 37.5, PageRequest.of(0, 2));
+
+        // then
+        assertEquals(List.of(1200.0, 5000.0), stadiums.stream()
+                .map(StadiumResponseDto::getDistance)
+                .collect(Collectors.toList()));
+        verify(stadiumRepository, times(2)).findNearestWithin(anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyLong());
+        verify(stadiumRepository, never()).findNearest(anyDouble(), anyDouble(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("가까운 체육관 조회 성공 : 위치 색인이 준비됐으면 DB 를 읽지 않음")
+    void getAllStadiumsNearLocationTest_Success_GeoIndex() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 20);
+        given(stadiumGeoIndexService.isLoaded()).willReturn(true);
+        given(stadiumGeoIndexService.getStadiumsNearLocation(127.5, 37.5, pageable))
+                .willReturn(List.of(StadiumResponseDto.builder().stadiumId(1L).distance(100.0).build()));
+
+        // when
+        List<StadiumResponseDto> stadiums = stadiumSearchService.getAllStadiumsNearLocation(127.5, 37.5, pageable);
+
+        // then
+        assertEquals(1L, stadiums.get(0).getStadiumId());
+        verifyNoInteractions(stadiumRepository, stadiumRepositorySupport);
+    }
+
+    @Test
+    @DisplayName("가까운 체육관 조회 성공 : 최대 반경에도 한 페이지가 안 차면 전체에서 찾음")
+    void getAllStadiumsNearLocationTest_Success_Fallback() {
+        // given
+        given(stadiumRepository.findNearestWithin(anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble(), anyInt(), anyLong()))
+                .willReturn(List.of());
+        given(stadiumRepository.findNearest(127.5, 37.5, 20, 0L))
+                .willReturn(List.of(stadium(1L, "09:00", "18:00", 300_000.0)));
+        given(stadiumRepositorySupport.getStadiumResponsesByIdIn(List.of(1L)))
+                .willReturn(List.of(StadiumResponseDto.builder().stadiumId(1L).build()));
+
+        // when
+        List<StadiumResponseDto> stadiums = stadiumSearchService.getAllStadiumsNearLocation(
+                127.5, 37.5, PageRequest.of(0, 20));
+
+        // then
+        assertEquals(300_000.0, stadiums.get(0).getDistance());
+        verify(stadiumRepository, times(4)).findNearestWithin(anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("가까운 예약 가능 체육관 조회 실패 : 시간 형식 오류")
+    void getAllAvailableStadiumsNearLocationTest_Fail_TimeFormatNotAccepted() {
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> stadiumSearchService.getAllAvailableStadiumsNearLocation(
+                        127.5, 37.5, date, "11:00", "10:00", PageRequest.of(0, 20)));
+
+        // then
+        assertEquals(TimeFormatNotAccepted.getErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("체육관 검색 성공")
+    void searchTest_Success() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 20);
+        given(stadiumSearchRepositorySupport.search("풋살", pageable))
+                .willReturn(new PageImpl<>(List.of(StadiumResponseDto.builder().stadiumId(1L).build()), pageable, 1));
+
+        // when
+        Page<StadiumResponseDto> stadiums = stadiumSearchService.search("풋살", pageable);
+
+        // then
+        assertEquals(1L, stadiums.getContent().get(0).getStadiumId());
+    }
+
+    @Test
+    @DisplayName("내 주변 검색 성공 : 검색 요청 한 번 (DB 를 읽지 않음)")
+    void searchNearLocationTest_Success() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 20);
+        given(stadiumSearchRepositorySupport.searchNearLocation("풋살", 127.5, 37.5, 5000.0, pageable))
+                .willReturn(new PageImpl<>(List.of(
+                        StadiumResponseDto.builder().stadiumId(1L).distance(100.0).build()), pageable, 1));
+
+        // when
+        Page<StadiumResponseDto> stadiums = stadiumSearchService.searchNearLocation(
+                "풋살", 127.5, 37.5, 5000.0, pageable);
+
+        // then
+        assertEquals(100.0, stadiums.getContent().get(0).getDistance());
+        verifyNoInteractions(stadiumRepository, stadiumRepositorySupport);
+    }
+
+    @Test
+    @DisplayName("내 주변 검색 실패 : 위도 경도 범위 오류")
+    void searchNearLocationTest_Fail_LatLntInvalid() {
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> stadiumSearchService.searchNearLocation("풋살", 127.5, 91.0, 5000.0, PageRequest.of(0, 20)));
+
+        // then
+        assertEquals(LatLntInvalid.getErrorMessage(), exception.getMessage());
+        verifyNoInteractions(stadiumSearchRepositorySupport);
+    }
+
+    private static StadiumDistance stadium(Long id, String openTime, String closeTime, Double distance) {
+        return new SpelAwareProxyProjectionFactory().createProjection(StadiumDistance.class, Map.of(
+                "stadiumId", id,
+                "openTime", ReservingTime.findTime(openTime).name(),
+                "closeTime", ReservingTime.findTime(closeTime).name(),
+                "distance", distance));
+    }
+}
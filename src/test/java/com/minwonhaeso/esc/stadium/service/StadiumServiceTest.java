@@ -27,19 +27,27 @@ import org.springframework.security.crypto.bcrypt.BCrypt;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.minwonhaeso.esc.error.type.StadiumErrorCode.StadiumNotFound;
 import static com.minwonhaeso.esc.error.type.StadiumErrorCode.UnAuthorizedAccess;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class StadiumServiceTest {
     @Mock
     private StadiumRepository stadiumRepository;
 
+    @Mock
+    private StadiumRepositorySupport stadiumRepositorySupport;
+
     @Mock
     private StadiumImgRepository stadiumImgRepository;
 
@@ -50,7 +58,7 @@ class StadiumServiceTest {
     private StadiumItemRepository stadiumItemRepository;
 
     @Mock
-    private StadiumSearchRepository stadiumSearchRepository;
+    private StadiumSearchOutboxRepository stadiumSearchOutboxRepository;
 
     @Mock
     private MemberRepository memberRepository;
@@ -58,6 +66,9 @@ class StadiumServiceTest {
     @Mock
     private StadiumLikeRepository stadiumLikeRepository;
 
+    @Mock
+    private StadiumInfoCacheService stadiumInfoCacheService;
+
     @InjectMocks
     private StadiumService stadiumService;
 
@@ -130,8 +141,9 @@ class StadiumServiceTest {
     @DisplayName("체육관 상세 정보 조회 성공")
     void getStadiumInfoTest_Success() {
         // given
+        givenNoCachedInfo();
         given(stadiumRepository.findById(anyLong())).willReturn(Optional.of(stadium));
-        given(stadiumLikeRepository.existsByStadiumAndMember(any(), any())).willReturn(true);
+        given(stadiumLikeRepository.existsByStadiumIdAndMember(1L, member)).willReturn(true);
 
         // when
         StadiumInfoResponseDto stadiumInfo = stadiumService.getStadiumInfo(1L, member);
@@ -141,10 +153,29 @@ class StadiumServiceTest {
         assertTrue(stadiumInfo.isLike());
     }
 
+    @Test
+    @DisplayName("체육관 상세 정보 조회 성공 : 캐시된 정보에 찜하기 여부만 더함")
+    void getStadiumInfoTest_Success_Cached() {
+        // given
+        StadiumInfoResponseDto cached = StadiumInfoResponseDto.fromEntity(stadium);
+        given(stadiumInfoCacheService.get(eq(1L), any())).willReturn(cached);
+        given(stadiumLikeRepository.existsByStadiumIdAndMember(1L, member)).willReturn(true);
+
+        // when
+        StadiumInfoResponseDto stadiumInfo = stadiumService.getStadiumInfo(1L, member);
+
+        // then
+        assertEquals(stadium.getId(), stadiumInfo.getId());
+        assertTrue(stadiumInfo.isLike());
+        assertFalse(cached.isLike());
+        verify(stadiumRepository, never()).findById(anyLong());
+    }
+
     @Test
     @DisplayName("체육관 상세 정보 조회 실패 : 일치하는 체육관 없음")
     void getStadiumInfoTest_Fail_StadiumNotFound() {
         // given
+        givenNoCachedInfo();
         given(stadiumRepository.findById(anyLong())).willReturn(Optional.empty());
 
         // when
@@ -186,6 +217,8 @@ class StadiumServiceTest {
         assertEquals(request.getHolidayPricePerHalfHour(), response.getStadium().getHolidayPricePerHalfHour());
         assertEquals(request.getOpenTime(), response.getStadium().getOpenTime());
         assertEquals(request.getCloseTime(), response.getStadium().getCloseTime());
+        verify(stadiumInfoCacheService).publishChanged(any());
+        verify(stadiumInfoCacheService, never()).evict(any());
     }
 
     @Test
@@ -240,6 +273,8 @@ class StadiumServiceTest {
 
         // then
         assertEquals(member.getMemberId(), stadium.getMember().getMemberId());
+        verify(stadiumInfoCacheService).evict(1L);
+        verify(stadiumSearchOutboxRepository).save(argThat(outbox -> outbox.getStadiumId().equals(1L)));
     }
 
     @Test
@@ -340,5 +375,13 @@ class StadiumServiceTest {
         assertEquals(request.getHolidayPricePerHalfHour(), response.getHolidayPricePerHalfHour());
         assertEquals(request.getOpenTime(), response.getOpenTime());
         assertEquals(request.getCloseTime(), response.getCloseTime());
+        verify(stadiumInfoCacheService).evict(1L);
+        verify(stadiumSearchOutboxRepository).save(argThat(outbox -> outbox.getStadiumId().equals(1L)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenNoCachedInfo() {
+        given(stadiumInfoCacheService.get(anyLong(), any())).willAnswer(invocation ->
+                ((Supplier<StadiumInfoResponseDto>) invocation.getArgument(1)).get());
     }
 }
\ No newline at end of file
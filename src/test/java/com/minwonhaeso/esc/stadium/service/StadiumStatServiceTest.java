@@ -0,0 +1,156 @@
+package com.minwonhaeso.esc.stadium.service;
+
+import com.minwonhaeso.esc.error.exception.StadiumException;
+import com.minwonhaeso.esc.member.model.entity.Member;
+import com.minwonhaeso.esc.stadium.model.dto.StadiumDashboardDto.DashboardResponse;
+import com.minwonhaeso.esc.stadium.model.entity.Stadium;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumDailyStat;
+import com.minwonhaeso.esc.stadium.model.entity.StadiumReservation;
+import com.minwonhaeso.esc.stadium.model.type.ReservingTime;
+import com.minwonhaeso.esc.stadium.model.type.StadiumReservationStatus;
+import com.minwonhaeso.esc.stadium.repository.StadiumDailyStatRepository;
+import com.minwonhaeso.esc.stadium.repository.StadiumRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.InvalidDateRange;
+import static com.minwonhaeso.esc.error.type.StadiumErrorCode.UnAuthorizedAccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StadiumStatServiceTest {
+    @Mock
+    private StadiumRepository stadiumRepository;
+
+    @Mock
+    private StadiumDailyStatRepository stadiumDailyStatRepository;
+
+    @InjectMocks
+    private StadiumStatService stadiumStatService;
+
+    private final LocalDate date = LocalDate.of(2026, 10, 20);
+    private Member member;
+    private Stadium stadium;
+
+    @BeforeEach
+    void beforeEach() {
+        member = new Member();
+        member.setMemberId(1L);
+        stadium = new Stadium();
+        stadium.setId(1L);
+        stadium.setMember(member);
+        // 09:00 ~ 18:00 (18 시간대)
+        stadium.setOpenTime(ReservingTime.findTime("09:00"));
+        stadium.setCloseTime(ReservingTime.findTime("18:00"));
+    }
+
+    @Test
+    @DisplayName("예약 집계 : 체육관-날짜별로 한 번씩 더하기")
+    void recordReservedTest() {
+        // when
+        stadiumStatService.recordReserved(List.of(
+                reservation(date, 20000, ReservingTime.RT20, ReservingTime.RT21),
+                reservation(date, 10000, ReservingTime.RT22),
+                reservation(date.plusDays(7), 10000, ReservingTime.RT20)));
+
+        // then
+        verify(stadiumDailyStatRepository).add(1L, date, 2, 3, 30000L, 0, 0L, 0);
+        verify(stadiumDailyStatRepository).add(1L, date.plusDays(7), 1, 1, 10000L, 0, 0L, 0);
+        verifyNoMoreInteractions(stadiumDailyStatRepository);
+    }
+
+    @Test
+    @DisplayName("취소 집계 : 예약, 시간대, 매출에서 빼기")
+    void recordCanceledTest() {
+        // when
+        stadiumStatService.recordCanceled(reservation(date, 20000, ReservingTime.RT20, ReservingTime.RT21));
+
+        // then
+        verify(stadiumDailyStatRepository).add(1L, date, -1, -2, -20000L, 1, 20000L, 0);
+    }
+
+    @Test
+    @DisplayName("대시보드 실패 : 조회 기간 초과")
+    void getDashboardTest_Fail_InvalidDateRange() {
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> stadiumStatService.getDashboard(member, 1L, date, date.plusDays(366)));
+
+        // then
+        assertEquals(InvalidDateRange.getErrorMessage(), exception.getMessage());
+        verify(stadiumRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("대시보드 실패 : 다른 매니저의 체육관")
+    void getDashboardTest_Fail_UnAuthorized() {
+        // given
+        Member another = new Member();
+        another.setMemberId(2L);
+        given(stadiumRepository.findById(1L)).willReturn(Optional.of(stadium));
+
+        // when
+        StadiumException exception = assertThrows(StadiumException.class,
+                () -> stadiumStatService.getDashboard(another, 1L, date, date));
+
+        // then
+        assertEquals(UnAuthorizedAccess.getErrorMessage(), exception.getMessage());
+        verify(stadiumDailyStatRepository, never())
+                .findAllByStadiumIdAndStatDateBetweenOrderByStatDate(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대시보드 성공 : 집계 행만 읽고 빈 날짜는 0")
+    void getDashboardTest_Success() {
+        // given
+        given(stadiumRepository.findById(1L)).willReturn(Optional.of(stadium));
+        given(stadiumDailyStatRepository.findAllByStadiumIdAndStatDateBetweenOrderByStatDate(
+                1L, date, date.plusDays(1)))
+                .willReturn(List.of(StadiumDailyStat.builder()
+                        .stadiumId(1L)
+                        .statDate(date)
+                        .reservationCount(2)
+                        .bookedSlots(9)
+                        .revenue(90000)
+                        .canceledCount(1)
+                        .canceledRevenue(10000)
+                        .build()));
+
+        // when
+        DashboardResponse dashboard = stadiumStatService.getDashboard(member, 1L, date, date.plusDays(1));
+
+        // then
+        assertEquals(18, dashboard.getOpenSlots());
+        assertEquals(2, dashboard.getDays().size());
+        assertEquals(0.5, dashboard.getDays().get(0).getOccupancyRate());
+        assertEquals(0, dashboard.getDays().get(1).getBookedSlots());
+        assertEquals(2, dashboard.getReservationCount());
+        assertEquals(90000, dashboard.getRevenue());
+        assertEquals(1, dashboard.getCanceledCount());
+        assertEquals(0.25, dashboard.getOccupancyRate());
+    }
+
+    private StadiumReservation reservation(LocalDate reservingDate, int price, ReservingTime... times) {
+        return StadiumReservation.builder()
+                .stadium(stadium)
+                .member(member)
+                .reservingDate(reservingDate)
+                .reservingTimes(List.of(times))
+                .price(price)
+                .status(StadiumReservationStatus.RESERVED)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.minwonhaeso.esc.util;
+
+import com.minwonhaeso.esc.util.GeoGridIndex.Nearest;
+import com.minwonhaeso.esc.util.LocationUtils.Location;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoGridIndexTest {
+
+    @Test
+    @DisplayName("가까운 순 조회 : 전체 거리 정렬과 같음 (페이지 포함)")
+    void nearestTest_SameAsFullSort() {
+        Random random = new Random(42);
+        GeoGridIndex<String> index = new GeoGridIndex<>(0.05);
+        Map<Long, double[]> points = new HashMap<>();
+        for (long id = 1; id <= 5_000; id++) {
+            double lat = 33.1 + random.nextDouble() * 5.5;
+            double lnt = 124.6 + random.nextDouble() * 6.4;
+            points.put(id, new double[]{lat, lnt});
+            index.put(id, lat, lnt, "stadium" + id);
+        }
+
+        for (int query = 0; query < 50; query++) {
+            Location from = Location.builder()
+                    .lat(33.1 + random.nextDouble() * 5.5)
+                    .lnt(124.6 + random.nextDouble() * 6.4)
+                    .build();
+            List<Long> expected = points.entrySet().stream()
+                    .sorted(Comparator.<Map.Entry<Long, double[]>>comparingDouble(
+                                    entry -> from.getDistance(entry.getValue()[0], entry.getValue()[1]))
+                            .thenComparing(Map.Entry::getKey))
+                    .skip(20)
+                    .limit(20)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+
+            List<Long> actual = index.nearest(from.getLat(), from.getLnt(), 20, 20).stream()
+                    .map(Nearest::getId)
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("추가, 이동, 삭제")
+    void putRemoveTest() {
+        GeoGridIndex<String> index = new GeoGridIndex<>(0.05);
+        index.put(1L, 37.50, 127.00, "near");
+        index.put(2L, 37.60, 127.10, "far");
+        index.put(3L, 35.10, 129.00, "busan");
+
+        // 1번을 부산으로 옮기고 2번 삭제
+        index.put(1L, 35.00, 129.10, "moved");
+        index.remove(2L);
+
+        List<Nearest<String>> nearest = index.nearest(37.50, 127.00, 0, 10);
+        assertEquals(2, index.size());
+        assertEquals(List.of(3L, 1L), nearest.stream().map(Nearest::getId).collect(Collectors.toList()));
+        assertEquals("moved", nearest.get(1).getValue());
+        assertTrue(nearest.get(0).getDistance() > 300_000);
+    }
+
+    @Test
+    @DisplayName("점이 적거나 offset 이 크면 있는 만큼만")
+    void nearestTest_Sparse() {
+        GeoGridIndex<Long> index = new GeoGridIndex<>(0.05);
+        LongStream.rangeClosed(1, 3).forEach(id -> index.put(id, -33.0 + id, 151.0, id));
+
+        assertEquals(3, index.nearest(37.5, 127.0, 0, 20).size());
+        assertEquals(1, index.nearest(37.5, 127.0, 2, 20).size());
+        assertEquals(0, index.nearest(37.5, 127.0, 5, 20).size());
+    }
+}
@@ -0,0 +1,48 @@
+package com.minwonhaeso.esc.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulKeysTest {
+
+    @Test
+    @DisplayName("자모로 풀어서 입력 중인 글자도 앞부분으로 맞음")
+    void normalizeTest() {
+        String stadium = HangulKeys.normalize("  강남   풋살장 FC ");
+
+        assertTrue(stadium.startsWith(HangulKeys.normalize("강남 푸")));
+        assertTrue(stadium.startsWith(HangulKeys.normalize("강남 풋사")));
+        assertTrue(stadium.endsWith(HangulKeys.normalize(" fc")));
+        assertFalse(stadium.startsWith(HangulKeys.normalize("강남 풋살장 FC 1")));
+    }
+
+    @Test
+    @DisplayName("초성 키 : 호환 자모로 입력한 초성과 같음")
+    void choseongTest() {
+        String key = HangulKeys.choseong(HangulKeys.normalize("강남 풋살장"));
+
+        assertEquals(HangulKeys.normalize("ㄱㄴㅍㅅㅈ"), key);
+        assertTrue(HangulKeys.isChoseongOnly(HangulKeys.normalize("ㄱㄴ ㅍ")));
+        assertFalse(HangulKeys.isChoseongOnly(HangulKeys.normalize("ㄱ나")));
+        assertFalse(HangulKeys.isChoseongOnly(HangulKeys.normalize("fc")));
+    }
+
+    @Test
+    @DisplayName("검색 키 : 초성만 입력하면 공백 없는 초성 키, 받침이 있으면 다음 글자 초성인 경우도")
+    void prefixesTest() {
+        assertEquals(List.of(HangulKeys.normalize("ㄱㄴㅍ")), HangulKeys.prefixes(HangulKeys.normalize("ㄱㄴ ㅍ")));
+
+        List<String> prefixes = HangulKeys.prefixes(HangulKeys.normalize("풋"));
+        assertEquals(2, prefixes.size());
+        assertTrue(HangulKeys.normalize("푸스").startsWith(prefixes.get(1)));
+        assertTrue(HangulKeys.normalize("풋살").startsWith(prefixes.get(0)));
+
+        // 겹받침은 뒤 자음만 다음 글자로 (닭 -> 달기)
+        assertTrue(HangulKeys.normalize("달기").startsWith(HangulKeys.prefixes(HangulKeys.normalize("닭")).get(1)));
+        assertEquals(1, HangulKeys.prefixes(HangulKeys.normalize("푸")).size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.minwonhaeso.esc.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HolidayCalendarTest {
+
+    @Test
+    @DisplayName("양력, 음력 공휴일")
+    void isHolidayTest_PublicHoliday() {
+        // 신정, 설날 연휴 (2026.02.16 ~ 18), 부처님오신날, 추석 연휴 (2026.09.24 ~ 26), 한글날
+        Stream.of("2026-01-01", "2026-02-16", "2026-02-17", "2026-02-18",
+                        "2026-05-24", "2026-09-24", "2026-09-25", "2026-10-09")
+                .map(LocalDate::parse)
+                .forEach(date -> assertTrue(HolidayCalendar.isPublicHoliday(date), date.toString()));
+    }
+
+    @Test
+    @DisplayName("평일, 주말")
+    void isHolidayTest_Weekday() {
+        assertFalse(HolidayCalendar.isHoliday(LocalDate.of(2026, 10, 20)));
+        assertFalse(HolidayCalendar.isHoliday(LocalDate.of(2028, 12, 29)));
+        assertTrue(HolidayCalendar.isHoliday(LocalDate.of(2026, 10, 24)));
+        assertFalse(HolidayCalendar.isPublicHoliday(LocalDate.of(2026, 10, 24)));
+    }
+
+    @Test
+    @DisplayName("음력 공휴일은 한국 기준 (2023 부처님오신날 5.27)")
+    void isHolidayTest_KoreanLunarCalendar() {
+        assertTrue(HolidayCalendar.isPublicHoliday(LocalDate.of(2023, 5, 27)));
+        assertFalse(HolidayCalendar.isPublicHoliday(LocalDate.of(2023, 5, 26)));
+    }
+
+    @Test
+    @DisplayName("대체공휴일 : 기존 목록 포함")
+    void isHolidayTest_LegacySubstitute() {
+        Stream.of("20150929", "20160210", "20170130", "20180926",
+                        "20180507", "20190506", "20200127", "20220912",
+                        "20230124", "20240212", "20240506", "20251008",
+                        "20270209", "20290924", "20290507")
+                .map(date -> LocalDate.of(Integer.parseInt(date.substring(0, 4)),
+                        Integer.parseInt(date.substring(4, 6)), Integer.parseInt(date.substring(6))))
+                .forEach(date -> assertTrue(HolidayCalendar.isPublicHoliday(date), date.toString()));
+    }
+
+    @Test
+    @DisplayName("대체공휴일 : 규칙으로 계산")
+    void isHolidayTest_Substitute() {
+        // 광복절 일요일, 추석과 개천절 겹침, 어린이날과 부처님오신날 겹침, 성탄절 토요일, 설날 일요일
+        Stream.of("2021-08-16", "2017-10-06", "2025-05-06", "2027-12-27", "2030-02-05")
+                .map(LocalDate::parse)
+                .forEach(date -> assertTrue(HolidayCalendar.isPublicHoliday(date), date.toString()));
+
+        // 2021.08 이전 3.1절, 현충일은 대체공휴일 없음
+        assertFalse(HolidayCalendar.isPublicHoliday(LocalDate.of(2020, 3, 2)));
+        assertFalse(HolidayCalendar.isPublicHoliday(LocalDate.of(2026, 6, 8)));
+    }
+}
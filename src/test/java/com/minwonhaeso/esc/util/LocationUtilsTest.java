@@ -0,0 +1,41 @@
+package com.minwonhaeso.esc.util;
+
+import com.minwonhaeso.esc.util.LocationUtils.BoundingBox;
+import com.minwonhaeso.esc.util.LocationUtils.Location;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocationUtilsTest {
+
+    @Test
+    @DisplayName("반경을 감싸는 사각형 : 네 방향 끝점이 모두 안에 있음")
+    void boundingBoxTest() {
+        Location seoul = Location.builder().lat(37.5665).lnt(126.9780).build();
+
+        BoundingBox box = seoul.boundingBox(2_000);
+
+        // 위도 1도 = 111.194km, 경도 1도 = 111.194km * cos(위도)
+        assertEquals(2_000 / 111_194.0, box.getMaxLat() - seoul.getLat(), 1e-9);
+        assertTrue(box.getMaxLnt() - seoul.getLnt() > box.getMaxLat() - seoul.getLat());
+        assertTrue(seoul.getDistance(seoul.getLat(), box.getMaxLnt()) >= 1.999);
+        assertTrue(seoul.getDistance(seoul.getLat(), box.getMinLnt()) >= 1.999);
+        assertTrue(seoul.getDistance(box.getMaxLat(), seoul.getLnt()) >= 1.999);
+        assertTrue(seoul.getDistance(box.getMinLat(), seoul.getLnt()) >= 1.999);
+    }
+
+    @Test
+    @DisplayName("날짜 변경선, 극 근처 : 경도 전체")
+    void boundingBoxTest_Wrap() {
+        BoundingBox dateLine = Location.builder().lat(0.0).lnt(179.99).build().boundingBox(10_000);
+        BoundingBox pole = Location.builder().lat(89.99).lnt(0.0).build().boundingBox(10_000);
+
+        assertEquals(-180.0, dateLine.getMinLnt());
+        assertEquals(180.0, dateLine.getMaxLnt());
+        assertEquals(90.0, pole.getMaxLat());
+        assertEquals(-180.0, pole.getMinLnt());
+        assertEquals(180.0, pole.getMaxLnt());
+    }
+}
@@ -0,0 +1,72 @@
+package com.minwonhaeso.esc.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestTrieTest {
+
+    @Test
+    @DisplayName("앞 순서 k 개 : 전체에서 앞부분 일치를 정렬한 것과 같음 (추가, 삭제 후에도)")
+    void topTest_SameAsFullScan() {
+        Random random = new Random(42);
+        SuggestTrie<String> trie = new SuggestTrie<>(5, Comparator.<String>naturalOrder());
+        Map<String, Set<String>> keys = new HashMap<>();
+        for (int i = 0; i < 3_000; i++) {
+            String key = randomKey(random);
+            String value = "v" + random.nextInt(1_000);
+            if (keys.computeIfAbsent(key, k -> new HashSet<>()).add(value)) {
+                trie.add(key, value);
+            }
+        }
+
+        // 절반 삭제
+        for (Map.Entry<String, Set<String>> entry : keys.entrySet()) {
+            for (Iterator<String> values = entry.getValue().iterator(); values.hasNext(); ) {
+                String value = values.next();
+                if (random.nextBoolean()) {
+                    trie.remove(entry.getKey(), value);
+                    values.remove();
+                }
+            }
+        }
+
+        for (String prefix : List.of("", "a", "b", "ab", "ca", "abc", "ccc", "d")) {
+            List<String> expected = keys.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .flatMap(entry -> entry.getValue().stream())
+                    .distinct()
+                    .sorted()
+                    .limit(5)
+                    .collect(Collectors.toList());
+            assertEquals(expected, trie.top(prefix), prefix);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 값을 여러 키로 넣으면 키 하나를 지워도 남음")
+    void removeTest_SameValueOtherKey() {
+        SuggestTrie<String> trie = new SuggestTrie<>(5, Comparator.<String>naturalOrder());
+        trie.add("ab", "x");
+        trie.add("ac", "x");
+
+        trie.remove("ab", "x");
+
+        assertEquals(List.of("x"), trie.top("a"));
+        assertEquals(List.of(), trie.top("ab"));
+        assertEquals(List.of("x"), trie.top("ac"));
+    }
+
+    private static String randomKey(Random random) {
+        int length = 1 + random.nextInt(4);
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            key.append((char) ('a' + random.nextInt(3)));
+        }
+        return key.toString();
+    }
+}